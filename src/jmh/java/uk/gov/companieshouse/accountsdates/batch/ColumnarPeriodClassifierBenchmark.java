@@ -0,0 +1,91 @@
+package uk.gov.companieshouse.accountsdates.batch;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.PeriodRange;
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesHelperImpl;
+
+/**
+ * Classifies a column of accounting periods with the scalar and vector {@link ColumnarPeriodClassifier}s, against
+ * the per-row {@link AccountsDatesHelper} calls they replace. Each operation classifies the whole column. Run with
+ * {@code make benchmark}, which builds the vector classifier.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class ColumnarPeriodClassifierBenchmark {
+
+    @Param({"1000000"})
+    private int rows;
+
+    private final AccountsDatesHelper helper = new AccountsDatesHelperImpl();
+
+    private ColumnarPeriodClassifier vector;
+
+    private int[] startEpochDays;
+    private int[] endEpochDays;
+    private byte[] kinds;
+    private int[] months;
+    private boolean[] sameYear;
+
+    @Setup
+    public void setUp() {
+        vector = ColumnarPeriodClassifier.vector()
+                .orElseThrow(() -> new IllegalStateException("Vector classifier not built or jdk.incubator.vector not added"));
+
+        SplittableRandom random = new SplittableRandom(18);
+        int first = (int) LocalDate.parse("2000-01-01").toEpochDay();
+        startEpochDays = new int[rows];
+        endEpochDays = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            startEpochDays[i] = first + random.nextInt(9_000);
+            // mostly twelve month periods, with short and long periods mixed in
+            endEpochDays[i] = startEpochDays[i] + (i % 4 == 0 ? random.nextInt(20, 700) : 364);
+        }
+        kinds = new byte[rows];
+        months = new int[rows];
+        sameYear = new boolean[rows];
+    }
+
+    @Benchmark
+    public int[] scalar() {
+        ColumnarPeriodClassifier.scalar().classify(startEpochDays, endEpochDays, kinds, months, sameYear);
+        return months;
+    }
+
+    @Benchmark
+    public int[] vector() {
+        vector.classify(startEpochDays, endEpochDays, kinds, months, sameYear);
+        return months;
+    }
+
+    @Benchmark
+    public void perRowHelper(Blackhole blackhole) {
+        for (int i = 0; i < rows; i++) {
+            LocalDate start = LocalDate.ofEpochDay(startEpochDays[i]);
+            LocalDate end = LocalDate.ofEpochDay(endEpochDays[i]);
+            PeriodRange range = helper.getPeriodRange(start, end, false);
+            blackhole.consume(range);
+            blackhole.consume(helper.isSameYear(start, end));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package uk.gov.companieshouse.accountsdates.calendar;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesHelperImpl;
+
+/**
+ * Counts the working days in the days before a date with {@link WorkingDayCalendar}, against walking the
+ * {@link AccountsDatesHelper#getPreviousDays(LocalDate, int)} list and checking each day. Run with
+ * {@code make benchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkingDayCalendarBenchmark {
+
+    private static final int DATES = 1_024;
+
+    @Param({"30", "365"})
+    private int numDays;
+
+    private final AccountsDatesHelper helper = new AccountsDatesHelperImpl();
+
+    private BankHolidayCalendar bankHolidays;
+    private WorkingDayCalendar calendar;
+    private LocalDate[] dates;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        // New Year's Day and Christmas Day are enough to exercise the lookups
+        List<LocalDate> holidays = new ArrayList<>();
+        for (int year = 2000; year <= 2030; year++) {
+            holidays.add(LocalDate.of(year, 1, 1));
+            holidays.add(LocalDate.of(year, 12, 25));
+        }
+        bankHolidays = BankHolidayCalendar.of(holidays);
+        calendar = WorkingDayCalendar.of(bankHolidays);
+
+        SplittableRandom random = new SplittableRandom(23);
+        dates = new LocalDate[DATES];
+        for (int i = 0; i < DATES; i++) {
+            dates[i] = LocalDate.of(2005, 1, 1).plusDays(random.nextInt(9_000));
+        }
+    }
+
+    @Benchmark
+    public int walkPreviousDays() {
+        int count = 0;
+        for (LocalDate day : helper.getPreviousDays(nextDate(), numDays)) {
+            count += bankHolidays.isWorkingDay(day) ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int workingDaysBetween() {
+        LocalDate date = nextDate();
+        return calendar.workingDaysBetween(date.minusDays(numDays), date);
+    }
+
+    @Benchmark
+    public LocalDate addWorkingDays() {
+        return calendar.addWorkingDays(nextDate(), numDays);
+    }
+
+    private LocalDate nextDate() {
+        return dates[next++ & (DATES - 1)];
+    }
+}
@@ -0,0 +1,150 @@
+package uk.gov.companieshouse.accountsdates.impl;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.DateAndTime;
+import uk.gov.companieshouse.accountsdates.PeriodRange;
+
+/**
+ * Throughput benchmarks covering every {@link AccountsDatesHelper} method. Run with
+ * {@code make benchmark}; the gc profiler adds allocations per operation to the report.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountsDatesHelperImplBenchmark {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/London");
+
+    /**
+     * Selects which branch of the balance sheet heading rules the period benchmarks exercise
+     */
+    @Param({"YEAR", "MONTHS", "SAME_YEAR"})
+    private String periodKind;
+
+    private final AccountsDatesHelper helper = new AccountsDatesHelperImpl();
+
+    private String periodStartString;
+    private String periodEndString;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private boolean sameYear;
+
+    private final String dateTimeString = "2017-12-31T18:15:00.000Z";
+    private final LocalDate date = LocalDate.of(2017, 3, 5);
+    private final Date legacyDate = new Date(1488672000000L);
+    private LocalDate recentDate;
+
+    @Setup
+    public void setUp() {
+        switch (periodKind) {
+            case "YEAR":
+                periodStartString = "2016-01-01";
+                periodEndString = "2016-12-31";
+                break;
+            case "MONTHS":
+                periodStartString = "2015-02-01";
+                periodEndString = "2016-02-16";
+                break;
+            default:
+                periodStartString = "2014-06-01";
+                periodEndString = "2015-06-30";
+                sameYear = true;
+                break;
+        }
+        periodStart = LocalDate.parse(periodStartString);
+        periodEnd = LocalDate.parse(periodEndString);
+        recentDate = LocalDate.now().minusDays(10);
+    }
+
+    @Benchmark
+    public LocalDate convertStringToDate() {
+        return helper.convertStringToDate(periodEndString);
+    }
+
+    @Benchmark
+    public LocalDate getLocalDatefromDateTimeString() {
+        return helper.getLocalDatefromDateTimeString(dateTimeString, ZONE);
+    }
+
+    @Benchmark
+    public String convertDateToString() {
+        return helper.convertDateToString(date);
+    }
+
+    @Benchmark
+    public String convertLocalDateToDisplayDate() {
+        return helper.convertLocalDateToDisplayDate(date);
+    }
+
+    @Benchmark
+    public Map<String, String> getDateAndTime() {
+        return helper.getDateAndTime(dateTimeString, ZONE);
+    }
+
+    @Benchmark
+    public DateAndTime getDisplayDateAndTime() {
+        return helper.getDisplayDateAndTime(dateTimeString, ZONE);
+    }
+
+    @Benchmark
+    public String generateBalanceSheetHeadingFromStrings() {
+        return helper.generateBalanceSheetHeading(periodStartString, periodEndString, sameYear);
+    }
+
+    @Benchmark
+    public String generateBalanceSheetHeadingFromLocalDates() {
+        return helper.generateBalanceSheetHeading(periodStart, periodEnd, sameYear);
+    }
+
+    @Benchmark
+    public Map<String, String> calculatePeriodRange() {
+        return helper.calculatePeriodRange(periodStart, periodEnd, sameYear);
+    }
+
+    @Benchmark
+    public PeriodRange getPeriodRange() {
+        return helper.getPeriodRange(periodStart, periodEnd, sameYear);
+    }
+
+    @Benchmark
+    public boolean isSameYear() {
+        return helper.isSameYear(periodStart, periodEnd);
+    }
+
+    @Benchmark
+    public LocalDate convertDateToLocalDate() {
+        return helper.convertDateToLocalDate(legacyDate);
+    }
+
+    @Benchmark
+    public List<LocalDate> getPreviousDays() {
+        return helper.getPreviousDays(date, 30);
+    }
+
+    @Benchmark
+    public List<LocalDate> getFutureDays() {
+        return helper.getFutureDays(recentDate, 30);
+    }
+}
@@ -0,0 +1,78 @@
+package uk.gov.companieshouse.accountsdates.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.PeriodRange;
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesHelperImpl;
+
+/**
+ * Writes a response of period ranges with {@link AccountsDatesJsonWriter}, against serialising the
+ * {@link AccountsDatesHelper#calculatePeriodRange} maps with databind. Run with {@code make benchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountsDatesJsonWriterBenchmark {
+
+    private static final int PERIODS = 100;
+
+    private final AccountsDatesHelper helper = new AccountsDatesHelperImpl();
+    private final ObjectMapper objectMapper = new ObjectMapper().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private final AccountsDatesJsonWriter writer = new AccountsDatesJsonWriter();
+    private final OutputStream out = OutputStream.nullOutputStream();
+
+    private LocalDate[] periodStarts;
+    private LocalDate[] periodEnds;
+
+    @Setup
+    public void setUp() {
+        periodStarts = new LocalDate[PERIODS];
+        periodEnds = new LocalDate[PERIODS];
+        for (int i = 0; i < PERIODS; i++) {
+            periodEnds[i] = LocalDate.of(2016, 12, 31).plusDays(i * 7L);
+            periodStarts[i] = periodEnds[i].minusMonths(12 + i % 6).plusDays(1);
+        }
+    }
+
+    @Benchmark
+    public void databindMaps() throws IOException {
+        List<Map<String, String>> maps = new ArrayList<>(PERIODS);
+        for (int i = 0; i < PERIODS; i++) {
+            maps.add(helper.calculatePeriodRange(periodStarts[i], periodEnds[i], false));
+        }
+        objectMapper.writeValue(out, maps);
+    }
+
+    @Benchmark
+    public void streamingWriter() throws IOException {
+        List<PeriodRange> ranges = new ArrayList<>(PERIODS);
+        for (int i = 0; i < PERIODS; i++) {
+            ranges.add(helper.getPeriodRange(periodStarts[i], periodEnds[i], false));
+        }
+        writer.writePeriodRanges(out, ranges);
+    }
+}
@@ -0,0 +1,98 @@
+package uk.gov.companieshouse.api.accounts.interceptor;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import uk.gov.companieshouse.accountsdates.metrics.AccountsMetrics;
+import uk.gov.companieshouse.api.util.security.EricConstants;
+import uk.gov.companieshouse.api.util.security.Permission.Key;
+import uk.gov.companieshouse.api.util.security.Permission.Value;
+import uk.gov.companieshouse.api.util.security.SecurityConstants;
+import uk.gov.companieshouse.api.util.security.TokenPermissions;
+
+/**
+ * Throughput benchmarks for {@link AuthenticationInterceptor#preHandle} on the api key bypass and the token
+ * permission paths. Run with {@code make benchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthenticationInterceptorBenchmark {
+
+    private final Object handler = new Object();
+
+    private AuthenticationInterceptor authorisedInterceptor;
+    private AuthenticationInterceptor unauthorisedInterceptor;
+
+    private MockHttpServletRequest apiKeyRequest;
+    private MockHttpServletRequest oauthRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        authorisedInterceptor = interceptorWithPermission(true);
+        unauthorisedInterceptor = interceptorWithPermission(false);
+
+        apiKeyRequest = new MockHttpServletRequest("POST", "/transactions/1/company-accounts");
+        apiKeyRequest.addHeader(EricConstants.ERIC_IDENTITY_TYPE, SecurityConstants.API_KEY_IDENTITY_TYPE);
+
+        oauthRequest = new MockHttpServletRequest("POST", "/transactions/1/company-accounts");
+        oauthRequest.addHeader(EricConstants.ERIC_IDENTITY_TYPE, "oauth2");
+
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public boolean preHandleApiKey() {
+        return authorisedInterceptor.preHandle(apiKeyRequest, response, handler);
+    }
+
+    @Benchmark
+    public boolean preHandleTokenAuthorised() {
+        return authorisedInterceptor.preHandle(oauthRequest, response, handler);
+    }
+
+    @Benchmark
+    public boolean preHandleTokenUnauthorised() {
+        return unauthorisedInterceptor.preHandle(oauthRequest, response, handler);
+    }
+
+    /**
+     * A plain proxy rather than a Mockito mock, as mock invocation bookkeeping would dominate the gc profile
+     */
+    private static AuthenticationInterceptor interceptorWithPermission(boolean hasPermission) {
+        TokenPermissions tokenPermissions = (TokenPermissions) Proxy.newProxyInstance(
+                TokenPermissions.class.getClassLoader(), new Class<?>[] {TokenPermissions.class},
+                (proxy, method, args) -> "hasPermission".equals(method.getName())
+                        && Key.COMPANY_ACCOUNTS.equals(args[0]) && Value.UPDATE.equals(args[1]) && hasPermission);
+        Optional<TokenPermissions> permissions = Optional.of(tokenPermissions);
+
+        // debug off regardless of LOGLEVEL, so the measured path is the production one
+        return new AuthenticationInterceptor(AccountsMetrics.noop(), false,
+                AuthenticationInterceptor.DEFAULT_DENIED_SAMPLE_RATE) {
+            @Override
+            protected Optional<TokenPermissions> getTokenPermissions(HttpServletRequest request) {
+                return permissions;
+            }
+        };
+    }
+}
@@ -0,0 +1,312 @@
+package uk.gov.companieshouse.accountsdates;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Accounting period packed into a single long, with the start epoch day in the high 32 bits and the end epoch day in
+ * the low 32 bits. The balance sheet heading rules of
+ * {@link AccountsDatesHelper#calculatePeriodRange(LocalDate, LocalDate, boolean)} are applied with integer arithmetic
+ * on the packed value, giving exactly the same classification as the {@link java.time.Period} and
+ * {@link java.time.temporal.ChronoUnit} calculation without creating any objects. The static methods work on the raw
+ * long for callers that keep periods in primitive arrays; the instance methods wrap them.
+ * <p>
+ * Dates are limited to epoch days that fit in an int, roughly the years -5,877,000 to 5,881,000.
+ */
+public final class AccountingPeriod {
+
+    /**
+     * Periods within this many days of a 365 day year are shown as a year
+     */
+    public static final int YEAR_ALLOWANCE_DAYS = 15;
+    public static final int YEAR_MIN_DAYS = 365 - YEAR_ALLOWANCE_DAYS;
+    public static final int YEAR_MAX_DAYS = 365 + YEAR_ALLOWANCE_DAYS;
+
+    /**
+     * Days over a whole number of months from which the month count is rounded up
+     */
+    public static final int MONTH_ROUND_UP_DAYS = 15;
+
+    private static final long DAYS_PER_CYCLE = 146_097L;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+    private static final long LOW_32_BITS = 0xFFFF_FFFFL;
+
+    private final long packed;
+
+    private AccountingPeriod(long packed) {
+        this.packed = packed;
+    }
+
+    public static AccountingPeriod of(LocalDate periodStart, LocalDate periodEnd) {
+        return new AccountingPeriod(pack(periodStart.toEpochDay(), periodEnd.toEpochDay()));
+    }
+
+    public static AccountingPeriod ofEpochDays(long startEpochDay, long endEpochDay) {
+        return new AccountingPeriod(pack(startEpochDay, endEpochDay));
+    }
+
+    public static AccountingPeriod fromPacked(long packed) {
+        return new AccountingPeriod(packed);
+    }
+
+    /**
+     * Returns true if both epoch days can be packed
+     *
+     * @param startEpochDay period start epoch day
+     * @param endEpochDay period end epoch day
+     * @return true if both fit in an int
+     */
+    public static boolean canPack(long startEpochDay, long endEpochDay) {
+        return startEpochDay == (int) startEpochDay && endEpochDay == (int) endEpochDay;
+    }
+
+    /**
+     * Packs start and end epoch days into a long
+     *
+     * @param startEpochDay period start epoch day
+     * @param endEpochDay period end epoch day
+     * @return packed period
+     * @throws DateTimeException if either epoch day does not fit in an int
+     */
+    public static long pack(long startEpochDay, long endEpochDay) {
+        if (!canPack(startEpochDay, endEpochDay)) {
+            throw new DateTimeException("Accounting period " + startEpochDay + " to " + endEpochDay
+                    + " is outside the supported epoch day range");
+        }
+        return (startEpochDay << 32) | (endEpochDay & LOW_32_BITS);
+    }
+
+    public static int startEpochDay(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    public static int endEpochDay(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Returns the number of days in the period, counting both the start and end days
+     *
+     * @param packed packed period
+     * @return inclusive day count, zero or negative if the end is before the start
+     */
+    public static long lengthInDays(long packed) {
+        return (long) endEpochDay(packed) - startEpochDay(packed) + 1;
+    }
+
+    /**
+     * Returns true if the period start and end are in the same calendar year, as
+     * {@link AccountsDatesHelper#isSameYear(LocalDate, LocalDate)}
+     *
+     * @param packed packed period
+     * @return true if both dates have the same year
+     */
+    public static boolean isSameYear(long packed) {
+        return year(yearMonthDay(startEpochDay(packed))) == year(yearMonthDay(endEpochDay(packed)));
+    }
+
+    /**
+     * Classifies the period for the balance sheet heading
+     *
+     * @param packed packed period
+     * @param isSameYear true if the previous and current periods end in the same year
+     * @return heading display format
+     */
+    public static PeriodRange.Kind kind(long packed, boolean isSameYear) {
+        if (isSameYear) {
+            return PeriodRange.Kind.FULL_DATE;
+        }
+        long days = lengthInDays(packed);
+        return days >= YEAR_MIN_DAYS && days <= YEAR_MAX_DAYS ? PeriodRange.Kind.YEAR : PeriodRange.Kind.MONTHS;
+    }
+
+    /**
+     * Returns the whole months between start and end, plus one if the remaining days are
+     * {@value #MONTH_ROUND_UP_DAYS} or more, and never zero. This is the month count shown in a
+     * {@link PeriodRange.Kind#MONTHS} heading
+     *
+     * @param packed packed period
+     * @return rounded month count
+     */
+    public static long roundedMonths(long packed) {
+        long startYmd = yearMonthDay(startEpochDay(packed));
+        long endYmd = yearMonthDay(endEpochDay(packed));
+        long startProlepticMonth = prolepticMonth(startYmd);
+        long endProlepticMonth = prolepticMonth(endYmd);
+        int startDay = day(startYmd);
+        int endDay = day(endYmd);
+
+        // ChronoUnit.MONTHS.between
+        long months = ((endProlepticMonth * 32 + endDay) - (startProlepticMonth * 32 + startDay)) / 32;
+
+        // the days part of Period.between
+        long totalMonths = endProlepticMonth - startProlepticMonth;
+        long days = endDay - startDay;
+        if (totalMonths > 0 && days < 0) {
+            long calcProlepticMonth = startProlepticMonth + totalMonths - 1;
+            long calcYear = Math.floorDiv(calcProlepticMonth, 12);
+            int calcMonth = (int) Math.floorMod(calcProlepticMonth, 12) + 1;
+            int calcDay = Math.min(startDay, lengthOfMonth(calcYear, calcMonth));
+            days = endEpochDay(packed) - toEpochDay(calcYear, calcMonth, calcDay);
+        } else if (totalMonths < 0 && days > 0) {
+            days -= lengthOfMonth(year(endYmd), month(endYmd));
+        }
+
+        if (days >= MONTH_ROUND_UP_DAYS) {
+            months++;
+        }
+        return months == 0 ? 1 : months;
+    }
+
+    /**
+     * Returns the balance sheet date range for the period
+     *
+     * @param packed packed period
+     * @param isSameYear true if the previous and current periods end in the same year
+     * @return period range
+     */
+    public static PeriodRange toPeriodRange(long packed, boolean isSameYear) {
+        LocalDate periodEnd = LocalDate.ofEpochDay(endEpochDay(packed));
+        switch (kind(packed, isSameYear)) {
+            case FULL_DATE:
+                return PeriodRange.fullDate(periodEnd);
+            case YEAR:
+                return PeriodRange.year(periodEnd);
+            default:
+                return PeriodRange.months(roundedMonths(packed), periodEnd);
+        }
+    }
+
+    public long packed() {
+        return packed;
+    }
+
+    public LocalDate periodStart() {
+        return LocalDate.ofEpochDay(startEpochDay(packed));
+    }
+
+    public LocalDate periodEnd() {
+        return LocalDate.ofEpochDay(endEpochDay(packed));
+    }
+
+    public long lengthInDays() {
+        return lengthInDays(packed);
+    }
+
+    public boolean isSameYear() {
+        return isSameYear(packed);
+    }
+
+    public PeriodRange.Kind kind(boolean isSameYear) {
+        return kind(packed, isSameYear);
+    }
+
+    public long roundedMonths() {
+        return roundedMonths(packed);
+    }
+
+    public PeriodRange toPeriodRange(boolean isSameYear) {
+        return toPeriodRange(packed, isSameYear);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof AccountingPeriod other && other.packed == packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(packed);
+    }
+
+    @Override
+    public String toString() {
+        return periodStart() + "/" + periodEnd();
+    }
+
+    /**
+     * Same calculation as {@link LocalDate#ofEpochDay(long)}, returning (year &lt;&lt; 9) | (month &lt;&lt; 5) | day
+     */
+    static long yearMonthDay(long epochDay) {
+        long zeroDay = epochDay + DAYS_0000_TO_1970;
+        // find the march-based year
+        zeroDay -= 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;
+        int marchDoy0 = (int) doyEst;
+
+        // convert march-based values back to january-based
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        yearEst += marchMonth0 / 10;
+
+        return (yearEst << 9) | ((long) month << 5) | day;
+    }
+
+    static long year(long yearMonthDay) {
+        return yearMonthDay >> 9;
+    }
+
+    static int month(long yearMonthDay) {
+        return (int) (yearMonthDay >>> 5) & 0xF;
+    }
+
+    static int day(long yearMonthDay) {
+        return (int) yearMonthDay & 0x1F;
+    }
+
+    private static long prolepticMonth(long yearMonthDay) {
+        return year(yearMonthDay) * 12 + month(yearMonthDay) - 1;
+    }
+
+    /**
+     * Same calculation as {@link LocalDate#toEpochDay()}
+     */
+    private static long toEpochDay(long year, int month, int day) {
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static int lengthOfMonth(long year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+}
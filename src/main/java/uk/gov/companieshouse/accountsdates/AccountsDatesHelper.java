@@ -5,7 +5,12 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import uk.gov.companieshouse.accountsdates.format.DateFormatterRegistry;
 
 public interface AccountsDatesHelper {
     
@@ -42,6 +47,18 @@ public interface AccountsDatesHelper {
      */
     String convertLocalDateToDisplayDate(LocalDate date) ;
 
+    /**
+     * Formats a {@link LocalDate} as 'd MMMM yyyy' with month names in the given {@link Locale}, e.g. Welsh for
+     * bilingual accounts
+     *
+     * @param date
+     * @param locale
+     * @return
+     */
+    default String convertLocalDateToDisplayDate(LocalDate date, Locale locale) {
+        return date.format(DateFormatterRegistry.getDisplayDateFormatter(locale));
+    }
+
     /**
      * Returns a date and time object from {@link String} date 
      * 
@@ -50,6 +67,19 @@ public interface AccountsDatesHelper {
      */
     Map<String, String> getDateAndTime(String dateString, ZoneId zoneId);
 
+    /**
+     * Returns the display date and time from {@link String} date, as {@link #getDateAndTime(String, ZoneId)} does. The
+     * default implementation reads them from that map, so implementations override it to avoid building one
+     *
+     * @param dateString
+     * @param zoneId
+     * @return
+     */
+    default DateAndTime getDisplayDateAndTime(String dateString, ZoneId zoneId) {
+        Map<String, String> dateAndTime = getDateAndTime(dateString, zoneId);
+        return new DateAndTime(dateAndTime.get(DateAndTime.DATE), dateAndTime.get(DateAndTime.TIME));
+    }
+
     /**
      * Generate balance sheet header string to display on web and ixbrl templates based on period start and end
      * dates
@@ -72,6 +102,32 @@ public interface AccountsDatesHelper {
      */
     String generateBalanceSheetHeading(LocalDate periodStart, LocalDate periodEnd, boolean isSameYear);
 
+    /**
+     * Generate balance sheet header strings for a batch of accounting periods, in the same order as the periods.
+     * Large batches are split across the common {@link ForkJoinPool}
+     *
+     * @param periods accounting periods
+     * @return balance sheet headings
+     */
+    default List<String> generateBalanceSheetHeadings(List<BalanceSheetPeriod> periods) {
+        return generateBalanceSheetHeadings(periods, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generate balance sheet header strings for a batch of accounting periods, in the same order as the periods.
+     * Large batches are split across the given {@link Executor}, although the default implementation generates each
+     * heading in turn on the calling thread
+     *
+     * @param periods accounting periods
+     * @param executor executor to run large batches on
+     * @return balance sheet headings
+     */
+    default List<String> generateBalanceSheetHeadings(List<BalanceSheetPeriod> periods, Executor executor) {
+        return periods.stream()
+                .map(period -> generateBalanceSheetHeading(period.periodStart(), period.periodEnd(), period.isSameYear()))
+                .toList();
+    }
+
     /**
      *Calculate balance sheet dates display format depending on range between period start and end dates
      * 
@@ -82,6 +138,31 @@ public interface AccountsDatesHelper {
      */
     Map<String, String> calculatePeriodRange(LocalDate periodStart, LocalDate periodEnd, boolean isSameYear);
 
+    /**
+     * Calculate balance sheet heading display format depending on range between period start and end dates. Unlike
+     * {@link #calculatePeriodRange(LocalDate, LocalDate, boolean)} no text is rendered until it is requested from the
+     * returned {@link PeriodRange}. The default implementation reads the range back from the text of
+     * {@link #calculatePeriodRange(LocalDate, LocalDate, boolean)}
+     *
+     * @param periodStart accounting period start date
+     * @param periodEnd accounting period end date
+     * @param isSameYear
+     * @return
+     */
+    default PeriodRange getPeriodRange(LocalDate periodStart, LocalDate periodEnd, boolean isSameYear) {
+        Map<String, String> periodRange = calculatePeriodRange(periodStart, periodEnd, isSameYear);
+
+        // periodStart is only present as the month count text, e.g. '13 months'
+        String months = periodRange.get(PeriodRange.PERIOD_START);
+        if (months != null) {
+            return PeriodRange.months(Long.parseLong(months.substring(0, months.indexOf(' '))), periodEnd);
+        }
+        if (Integer.toString(periodEnd.getYear()).equals(periodRange.get(PeriodRange.PERIOD_END))) {
+            return PeriodRange.year(periodEnd);
+        }
+        return PeriodRange.fullDate(periodEnd);
+    }
+
     /**
      * Returns true if given Java 8 {@link LocalDate} dates are in the same calendar year
      * 
@@ -120,4 +201,38 @@ public interface AccountsDatesHelper {
      */
     List<LocalDate> getFutureDays(LocalDate currentDate, int numDays);
 
+    /**
+     * Returns the same days as {@link #getPreviousDays(LocalDate, int)} as an immutable {@link DayRange} view, which
+     * only creates a {@link LocalDate} when an element is read
+     *
+     * @param currentDate
+     * @param numDays
+     * @return
+     */
+    default DayRange getPreviousDayRange(LocalDate currentDate, int numDays) {
+        return toDayRange(currentDate, getPreviousDays(currentDate, numDays));
+    }
+
+    /**
+     * Returns the same days as {@link #getFutureDays(LocalDate, int)} as an immutable {@link DayRange} view, which
+     * only creates a {@link LocalDate} when an element is read
+     *
+     * @param currentDate - date which to calculate future dates from
+     * @param numDays - maximum number of days after currentDate to include
+     * @return
+     */
+    default DayRange getFutureDayRange(LocalDate currentDate, int numDays) {
+        return toDayRange(currentDate, getFutureDays(currentDate, numDays));
+    }
+
+    /**
+     * Returns the run of consecutive days from the first to the last of days as a {@link DayRange}
+     */
+    private static DayRange toDayRange(LocalDate currentDate, List<LocalDate> days) {
+        if (days.isEmpty()) {
+            return DayRange.previousDays(currentDate, 0);
+        }
+        return DayRange.of(days.get(0), days.get(days.size() - 1));
+    }
+
 }
@@ -0,0 +1,20 @@
+package uk.gov.companieshouse.accountsdates;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Accounting period start and end dates used as input to the bulk balance sheet heading methods of
+ * {@link AccountsDatesHelper}
+ *
+ * @param periodStart accounting period start date
+ * @param periodEnd accounting period end date
+ * @param isSameYear true if the previous and current periods end in the same year
+ */
+public record BalanceSheetPeriod(LocalDate periodStart, LocalDate periodEnd, boolean isSameYear) {
+
+    public BalanceSheetPeriod {
+        Objects.requireNonNull(periodStart, "periodStart");
+        Objects.requireNonNull(periodEnd, "periodEnd");
+    }
+}
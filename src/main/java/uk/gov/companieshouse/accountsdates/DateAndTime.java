@@ -0,0 +1,28 @@
+package uk.gov.companieshouse.accountsdates;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Display date and time of a timestamp, e.g. '31 December 2017' and '6:15 pm'
+ *
+ * @param date date in 'd MMMM yyyy' format
+ * @param time time in lower case 'h:mm a' format
+ */
+public record DateAndTime(String date, String time) {
+
+    public static final String DATE = "date";
+    public static final String TIME = "time";
+
+    /**
+     * Returns the date and time as the map returned by {@link AccountsDatesHelper#getDateAndTime}
+     *
+     * @return mutable map of date and time
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> timeObject = new HashMap<>();
+        timeObject.put(DATE, date);
+        timeObject.put(TIME, time);
+        return timeObject;
+    }
+}
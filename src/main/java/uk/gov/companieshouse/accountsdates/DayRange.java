@@ -0,0 +1,149 @@
+package uk.gov.companieshouse.accountsdates;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.stream.LongStream;
+
+/**
+ * Immutable run of consecutive days, in ascending or descending order. Only the first epoch day, the size and the
+ * direction are held, so {@link #size()}, {@link #get(int)} and {@link #contains(Object)} are O(1) and a
+ * {@link LocalDate} is only created when an element is read.
+ */
+public final class DayRange extends AbstractList<LocalDate> implements RandomAccess {
+
+    private static final DayRange EMPTY = new DayRange(0, 0, 1);
+
+    private final long firstEpochDay;
+    private final int size;
+    private final int step;
+
+    private DayRange(long firstEpochDay, int size, int step) {
+        this.firstEpochDay = firstEpochDay;
+        this.size = size;
+        this.step = step;
+    }
+
+    /**
+     * Returns the days from first to last inclusive, descending if last is before first
+     *
+     * @param first first day in the range
+     * @param last last day in the range
+     * @return day range
+     */
+    public static DayRange of(LocalDate first, LocalDate last) {
+        long firstEpochDay = first.toEpochDay();
+        long lastEpochDay = last.toEpochDay();
+        int step = lastEpochDay < firstEpochDay ? -1 : 1;
+        return new DayRange(firstEpochDay, Math.toIntExact(Math.abs(lastEpochDay - firstEpochDay) + 1), step);
+    }
+
+    /**
+     * Returns numDays days starting the day before currentDate and going backwards, matching
+     * {@link AccountsDatesHelper#getPreviousDays(LocalDate, int)}
+     *
+     * @param currentDate date to count back from
+     * @param numDays number of days
+     * @return day range
+     */
+    public static DayRange previousDays(LocalDate currentDate, int numDays) {
+        if (numDays <= 0) {
+            return EMPTY;
+        }
+        return new DayRange(currentDate.toEpochDay() - 1, numDays, -1);
+    }
+
+    /**
+     * Returns up to numDays days starting the day after currentDate and going forwards, stopping after lastDay,
+     * matching {@link AccountsDatesHelper#getFutureDays(LocalDate, int)} when lastDay is today
+     *
+     * @param currentDate date to count forward from
+     * @param numDays maximum number of days
+     * @param lastDay last day that may be included
+     * @return day range
+     */
+    public static DayRange futureDays(LocalDate currentDate, int numDays, LocalDate lastDay) {
+        long firstEpochDay = currentDate.toEpochDay() + 1;
+        long available = lastDay.toEpochDay() - firstEpochDay + 1;
+        int size = (int) Math.max(0, Math.min(numDays, available));
+        if (size == 0) {
+            return EMPTY;
+        }
+        return new DayRange(firstEpochDay, size, 1);
+    }
+
+    @Override
+    public LocalDate get(int index) {
+        return LocalDate.ofEpochDay(getEpochDay(index));
+    }
+
+    /**
+     * Returns the epoch day at the given index without creating a {@link LocalDate}
+     *
+     * @param index index in the range
+     * @return epoch day
+     */
+    public long getEpochDay(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return firstEpochDay + (long) index * step;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof LocalDate date)) {
+            return -1;
+        }
+        return indexOfEpochDay(date.toEpochDay());
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    /**
+     * Returns the index of the epoch day in the range, or -1 if it is not in the range
+     *
+     * @param epochDay epoch day to find
+     * @return index or -1
+     */
+    public int indexOfEpochDay(long epochDay) {
+        long offset = (epochDay - firstEpochDay) * step;
+        return (offset >= 0 && offset < size) ? (int) offset : -1;
+    }
+
+    /**
+     * Returns the days in the range as epoch days, in range order
+     *
+     * @return epoch days
+     */
+    public LongStream epochDays() {
+        if (step > 0) {
+            return LongStream.range(firstEpochDay, firstEpochDay + size);
+        }
+        return LongStream.range(0, size).map(index -> firstEpochDay - index);
+    }
+
+    @Override
+    public DayRange subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex " + fromIndex + ", toIndex " + toIndex + ", size " + size);
+        }
+        if (fromIndex == toIndex) {
+            return EMPTY;
+        }
+        return new DayRange(firstEpochDay + (long) fromIndex * step, toIndex - fromIndex, step);
+    }
+}
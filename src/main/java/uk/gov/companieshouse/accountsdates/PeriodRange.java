@@ -0,0 +1,176 @@
+package uk.gov.companieshouse.accountsdates;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import uk.gov.companieshouse.accountsdates.format.DateFormatterRegistry;
+import uk.gov.companieshouse.accountsdates.format.DisplayDateTable;
+
+/**
+ * Balance sheet date range calculated from an accounting period. Only the classification is held; the display text
+ * is rendered when {@link #heading()}, {@link #periodStartText()}, {@link #periodEndText()} or {@link #toMap()} is
+ * called. Each has an overload taking a {@link DisplayDateTable} to render dates from, where null means the
+ * {@link DateFormatterRegistry} formatters for the default locale are used.
+ *
+ * @param kind how the heading is displayed
+ * @param months rounded number of months in the period, or 0 unless kind is {@link Kind#MONTHS}
+ * @param periodEnd accounting period end date
+ */
+public record PeriodRange(Kind kind, long months, LocalDate periodEnd) {
+
+    public static final String PERIOD_START = "periodStart";
+    public static final String PERIOD_END = "periodEnd";
+
+    /**
+     * Balance sheet heading display formats
+     */
+    public enum Kind {
+        /** Full period end date e.g. '31 December 2015' */
+        FULL_DATE,
+        /** Period end year e.g. '2015' */
+        YEAR,
+        /** Month count and full period end date e.g. '15 months to 31 December 2016' */
+        MONTHS
+    }
+
+    public PeriodRange {
+        Objects.requireNonNull(kind, "kind");
+        Objects.requireNonNull(periodEnd, "periodEnd");
+    }
+
+    public static PeriodRange fullDate(LocalDate periodEnd) {
+        return new PeriodRange(Kind.FULL_DATE, 0, periodEnd);
+    }
+
+    public static PeriodRange year(LocalDate periodEnd) {
+        return new PeriodRange(Kind.YEAR, 0, periodEnd);
+    }
+
+    public static PeriodRange months(long months, LocalDate periodEnd) {
+        return new PeriodRange(Kind.MONTHS, months, periodEnd);
+    }
+
+    /**
+     * Returns the month count text e.g. '15 months', or null unless kind is {@link Kind#MONTHS}
+     *
+     * @return period start text
+     */
+    public String periodStartText() {
+        return kind == Kind.MONTHS ? appendMonths(new StringBuilder(10)).toString() : null;
+    }
+
+    /**
+     * Returns the period end text, either the year or the full display date
+     *
+     * @return period end text
+     */
+    public String periodEndText() {
+        return periodEndText(null);
+    }
+
+    /**
+     * Returns the period end text, either the year or the full display date
+     *
+     * @param displayDates table to render dates from, or null
+     * @return period end text
+     */
+    public String periodEndText(DisplayDateTable displayDates) {
+        if (displayDates != null) {
+            return kind == Kind.YEAR ? displayDates.year(periodEnd) : displayDates.displayDate(periodEnd);
+        }
+        return appendPeriodEnd(new StringBuilder(20), displayDates).toString();
+    }
+
+    /**
+     * Returns the balance sheet heading to display on web and ixbrl templates
+     *
+     * @return balance sheet heading
+     */
+    public String heading() {
+        return heading(null);
+    }
+
+    /**
+     * Returns the balance sheet heading to display on web and ixbrl templates
+     *
+     * @param displayDates table to render dates from, or null
+     * @return balance sheet heading
+     */
+    public String heading(DisplayDateTable displayDates) {
+        if (kind != Kind.MONTHS) {
+            return periodEndText(displayDates);
+        }
+        return appendHeading(new StringBuilder(32), displayDates).toString();
+    }
+
+    /**
+     * Appends the balance sheet heading to a caller supplied {@link StringBuilder}
+     *
+     * @param builder builder to append to
+     * @return the builder
+     */
+    public StringBuilder appendHeading(StringBuilder builder) {
+        return appendHeading(builder, null);
+    }
+
+    /**
+     * Appends the balance sheet heading to a caller supplied {@link StringBuilder}
+     *
+     * @param builder builder to append to
+     * @param displayDates table to render dates from, or null
+     * @return the builder
+     */
+    public StringBuilder appendHeading(StringBuilder builder, DisplayDateTable displayDates) {
+        if (kind == Kind.MONTHS) {
+            appendMonths(builder).append(" to ");
+        }
+        return appendPeriodEnd(builder, displayDates);
+    }
+
+    /**
+     * Returns the range as the "periodStart"/"periodEnd" map returned by
+     * {@link AccountsDatesHelper#calculatePeriodRange(LocalDate, LocalDate, boolean)}
+     *
+     * @return mutable map of period start and end text
+     */
+    public Map<String, String> toMap() {
+        return toMap(null);
+    }
+
+    /**
+     * Returns the range as the "periodStart"/"periodEnd" map returned by
+     * {@link AccountsDatesHelper#calculatePeriodRange(LocalDate, LocalDate, boolean)}
+     *
+     * @param displayDates table to render dates from, or null
+     * @return mutable map of period start and end text
+     */
+    public Map<String, String> toMap(DisplayDateTable displayDates) {
+        Map<String, String> periodObject = new HashMap<>();
+        if (kind == Kind.MONTHS) {
+            periodObject.put(PERIOD_START, periodStartText());
+        }
+        periodObject.put(PERIOD_END, periodEndText(displayDates));
+        return periodObject;
+    }
+
+    private StringBuilder appendMonths(StringBuilder builder) {
+        return builder.append(months).append(months == 1 ? " month" : " months");
+    }
+
+    private StringBuilder appendPeriodEnd(StringBuilder builder, DisplayDateTable displayDates) {
+        if (kind == Kind.YEAR) {
+            if (displayDates != null) {
+                return builder.append(displayDates.year(periodEnd));
+            }
+            DateFormatterRegistry.getFormatter(DateFormatterRegistry.DATE_FORMAT_YYYY).formatTo(periodEnd, builder);
+            return builder;
+        }
+        if (displayDates != null) {
+            return displayDates.appendDisplayDate(periodEnd, builder);
+        }
+        DateFormatterRegistry.getFormatter(DateFormatterRegistry.DATE_FORMAT_D_MMMM_YYYY).formatTo(periodEnd, builder);
+        return builder;
+    }
+}
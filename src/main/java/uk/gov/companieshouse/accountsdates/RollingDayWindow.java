@@ -0,0 +1,175 @@
+package uk.gov.companieshouse.accountsdates;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The days before a current date, as returned by {@link AccountsDatesHelper#getPreviousDays(LocalDate, int)}, that
+ * move forward with the current date instead of being rebuilt on every call. Each day in the window has a long value,
+ * e.g. a count of events on that day, held in a ring buffer indexed by epoch day, along with their running total.
+ * <p>
+ * Moving to the next day only clears the slot of the day that drops out of the window, so a tick costs the same
+ * whatever the window size. {@link #days()} is a live view of the window, yesterday first, that follows each move.
+ * A window is not thread safe, so should be confined to one thread or guarded by the caller.
+ */
+public final class RollingDayWindow {
+
+    private final long[] values;
+    private final Days days = new Days();
+
+    private long currentEpochDay;
+    private long total;
+
+    /**
+     * @param currentDate date the window ends before
+     * @param numDays number of days in the window
+     */
+    public RollingDayWindow(LocalDate currentDate, int numDays) {
+        if (numDays < 1) {
+            throw new IllegalArgumentException("Window must have at least one day: " + numDays);
+        }
+        this.values = new long[numDays];
+        this.currentEpochDay = currentDate.toEpochDay();
+    }
+
+    /**
+     * Moves the window to end the day before currentDate, dropping the values of days that fall out of it
+     *
+     * @param currentDate new current date, not before the existing one
+     * @return true if the window moved
+     * @throws IllegalArgumentException if currentDate is before the current date
+     */
+    public boolean advanceTo(LocalDate currentDate) {
+        final long epochDay = currentDate.toEpochDay();
+        final long daysMoved = epochDay - currentEpochDay;
+        if (daysMoved < 0) {
+            throw new IllegalArgumentException("Cannot move window back from " + getCurrentDate() + " to "
+                    + currentDate);
+        }
+        if (daysMoved >= values.length) {
+            Arrays.fill(values, 0L);
+            total = 0L;
+        } else {
+            // each day entering the window takes the slot of one leaving it
+            for (long day = currentEpochDay; day < epochDay; day++) {
+                final int slot = slot(day);
+                total -= values[slot];
+                values[slot] = 0L;
+            }
+        }
+        currentEpochDay = epochDay;
+        return daysMoved > 0;
+    }
+
+    /**
+     * Adds to the value of a day in the window
+     *
+     * @param date day to add to
+     * @param delta amount to add
+     * @return true if the day is in the window, false if it is not and nothing was added
+     */
+    public boolean add(LocalDate date, long delta) {
+        final long epochDay = date.toEpochDay();
+        if (!contains(epochDay)) {
+            return false;
+        }
+        values[slot(epochDay)] += delta;
+        total += delta;
+        return true;
+    }
+
+    /**
+     * @param date day to read
+     * @return value of the day, or 0 if it is not in the window
+     */
+    public long getValue(LocalDate date) {
+        final long epochDay = date.toEpochDay();
+        return contains(epochDay) ? values[slot(epochDay)] : 0L;
+    }
+
+    /**
+     * @param index index in {@link #days()}, where 0 is the day before the current date
+     * @return value of the day at the index
+     */
+    public long getValue(int index) {
+        return values[slot(days.getEpochDay(index))];
+    }
+
+    /**
+     * @return sum of the values of every day in the window
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    public LocalDate getCurrentDate() {
+        return LocalDate.ofEpochDay(currentEpochDay);
+    }
+
+    public int getNumDays() {
+        return values.length;
+    }
+
+    /**
+     * Returns a live view of the days in the window, in the same order as
+     * {@link AccountsDatesHelper#getPreviousDays(LocalDate, int)}. The view changes when the window moves
+     *
+     * @return days in the window
+     */
+    public List<LocalDate> days() {
+        return days;
+    }
+
+    /**
+     * @return the days currently in the window, unaffected by later moves
+     */
+    public DayRange toDayRange() {
+        return DayRange.previousDays(getCurrentDate(), values.length);
+    }
+
+    private boolean contains(long epochDay) {
+        return epochDay < currentEpochDay && epochDay >= currentEpochDay - values.length;
+    }
+
+    private int slot(long epochDay) {
+        return (int) Math.floorMod(epochDay, (long) values.length);
+    }
+
+    private final class Days extends AbstractList<LocalDate> implements RandomAccess {
+
+        @Override
+        public LocalDate get(int index) {
+            return LocalDate.ofEpochDay(getEpochDay(index));
+        }
+
+        long getEpochDay(int index) {
+            if (index < 0 || index >= values.length) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + values.length);
+            }
+            return currentEpochDay - 1 - index;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof LocalDate date && RollingDayWindow.this.contains(date.toEpochDay());
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return contains(o) ? (int) (currentEpochDay - 1 - ((LocalDate) o).toEpochDay()) : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return indexOf(o);
+        }
+    }
+}
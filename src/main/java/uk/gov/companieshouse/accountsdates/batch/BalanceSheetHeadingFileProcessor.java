@@ -0,0 +1,369 @@
+package uk.gov.companieshouse.accountsdates.batch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Objects;
+
+import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.format.IsoDates;
+
+/**
+ * Generates a balance sheet heading for every accounting period in a CSV or NDJSON file and streams them, one per
+ * line and in input order, to an output channel.
+ * <p>
+ * The input is memory mapped a window at a time and the 'yyyy-MM-dd' fields are parsed in place, so memory use is
+ * bounded by the window and output buffer sizes rather than the file size. Accepted layouts are:
+ * <ul>
+ * <li>CSV: {@code periodStart,periodEnd[,isSameYear]}, with an optional header line whose first field is
+ * {@code periodStart}</li>
+ * <li>NDJSON: {@code {"periodStart":"2016-01-01","periodEnd":"2016-12-31","isSameYear":false}}, where isSameYear
+ * is optional and the keys may be in any order</li>
+ * </ul>
+ * A missing isSameYear is treated as false and blank lines are skipped.
+ */
+public class BalanceSheetHeadingFileProcessor {
+
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+    public static final int DEFAULT_OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte[] CSV_HEADER_FIRST_FIELD = "periodStart".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PERIOD_START_KEY = "\"periodStart\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PERIOD_END_KEY = "\"periodEnd\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] IS_SAME_YEAR_KEY = "\"isSameYear\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int NOT_FOUND = -1;
+    private static final int INVALID_FLAG = -1;
+
+    /**
+     * Supported input file layouts
+     */
+    public enum Format {
+        CSV,
+        NDJSON;
+
+        /**
+         * Picks the format from a file name, treating '.ndjson' and '.jsonl' as NDJSON and anything else as CSV
+         *
+         * @param file input file
+         * @return format
+         */
+        public static Format fromFileName(Path file) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            return name.endsWith(".ndjson") || name.endsWith(".jsonl") ? NDJSON : CSV;
+        }
+    }
+
+    private final AccountsDatesHelper accountsDatesHelper;
+    private final int windowSize;
+    private final int outputBufferSize;
+
+    public BalanceSheetHeadingFileProcessor(AccountsDatesHelper accountsDatesHelper) {
+        this(accountsDatesHelper, DEFAULT_WINDOW_SIZE, DEFAULT_OUTPUT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param accountsDatesHelper helper used to generate each heading
+     * @param windowSize bytes of input mapped at a time, which is also the longest line accepted
+     * @param outputBufferSize bytes of output buffered between channel writes
+     */
+    public BalanceSheetHeadingFileProcessor(AccountsDatesHelper accountsDatesHelper, int windowSize,
+            int outputBufferSize) {
+        this.accountsDatesHelper = Objects.requireNonNull(accountsDatesHelper, "accountsDatesHelper");
+        if (windowSize < 1 || outputBufferSize < 1) {
+            throw new IllegalArgumentException("Window and output buffer sizes must be positive");
+        }
+        this.windowSize = windowSize;
+        this.outputBufferSize = outputBufferSize;
+    }
+
+    /**
+     * Writes a heading line to output for each accounting period in input. The output channel is not closed
+     *
+     * @param input CSV or NDJSON file
+     * @param format layout of input
+     * @param output channel to write headings to
+     * @return number of headings written
+     * @throws IOException if input cannot be read or output cannot be written
+     * @throws IllegalArgumentException if a line is not a valid accounting period, naming the line number
+     */
+    public long process(Path input, Format format, WritableByteChannel output) throws IOException {
+        Objects.requireNonNull(format, "format");
+        HeadingWriter writer = new HeadingWriter(output, outputBufferSize);
+
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            long lineNumber = 0;
+
+            while (position < size) {
+                int length = (int) Math.min(windowSize, size - position);
+                boolean lastWindow = position + length == size;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                int lineStart = 0;
+                while (lineStart < length) {
+                    int lineEnd = indexOf(window, lineStart, length, (byte) '\n');
+                    if (lineEnd == NOT_FOUND) {
+                        if (!lastWindow) {
+                            // partial line, picked up again at the start of the next window
+                            break;
+                        }
+                        lineEnd = length;
+                    }
+                    lineNumber++;
+                    processLine(window, lineStart, trimCarriageReturn(window, lineStart, lineEnd), format,
+                            lineNumber, writer);
+                    lineStart = lineEnd + 1;
+                }
+
+                if (lineStart == 0) {
+                    throw new IOException("Line " + (lineNumber + 1) + " of " + input
+                            + " is longer than the " + windowSize + " byte window");
+                }
+                position += Math.min(lineStart, length);
+            }
+        }
+        writer.flush();
+        return writer.getCount();
+    }
+
+    private void processLine(ByteBuffer line, int start, int end, Format format, long lineNumber,
+            HeadingWriter writer) throws IOException {
+        if (isBlank(line, start, end) || (format == Format.CSV && lineNumber == 1 && isCsvHeader(line, start, end))) {
+            return;
+        }
+        boolean parsed = format == Format.CSV
+                ? processCsvLine(line, start, end, writer)
+                : processNdjsonLine(line, start, end, writer);
+        if (!parsed) {
+            throw new IllegalArgumentException("Line " + lineNumber + " is not a valid accounting period");
+        }
+    }
+
+    /**
+     * Returns true if the line's first field is periodStart
+     */
+    private static boolean isCsvHeader(ByteBuffer line, int start, int end) {
+        int fieldEnd = indexOf(line, start, end, (byte) ',');
+        return regionMatches(line, start, fieldEnd == NOT_FOUND ? end : fieldEnd, CSV_HEADER_FIRST_FIELD);
+    }
+
+    private boolean processCsvLine(ByteBuffer line, int start, int end, HeadingWriter writer) throws IOException {
+        int periodEndStart = start + IsoDates.LENGTH + 1;
+        int periodEndEnd = periodEndStart + IsoDates.LENGTH;
+        if (periodEndEnd > end || line.get(periodEndStart - 1) != ',') {
+            return false;
+        }
+
+        boolean isSameYear = false;
+        if (periodEndEnd < end) {
+            if (line.get(periodEndEnd) != ',') {
+                return false;
+            }
+            int flag = parseFlag(line, periodEndEnd + 1, end);
+            if (flag == INVALID_FLAG) {
+                return false;
+            }
+            isSameYear = flag == 1;
+        }
+        return writeHeading(line, start, periodEndStart, isSameYear, writer);
+    }
+
+    private boolean processNdjsonLine(ByteBuffer line, int start, int end, HeadingWriter writer)
+            throws IOException {
+        int periodStart = stringValue(line, start, end, PERIOD_START_KEY);
+        int periodEnd = stringValue(line, start, end, PERIOD_END_KEY);
+        if (periodStart == NOT_FOUND || periodEnd == NOT_FOUND) {
+            return false;
+        }
+
+        boolean isSameYear = false;
+        int flagStart = value(line, start, end, IS_SAME_YEAR_KEY);
+        if (flagStart != NOT_FOUND) {
+            int flag = parseFlag(line, flagStart, literalEnd(line, flagStart, end));
+            if (flag == INVALID_FLAG) {
+                return false;
+            }
+            isSameYear = flag == 1;
+        }
+        return writeHeading(line, periodStart, periodEnd, isSameYear, writer);
+    }
+
+    private boolean writeHeading(ByteBuffer line, int periodStartIndex, int periodEndIndex, boolean isSameYear,
+            HeadingWriter writer) throws IOException {
+        long periodStart = IsoDates.parseEpochDay(line, periodStartIndex);
+        long periodEnd = IsoDates.parseEpochDay(line, periodEndIndex);
+        if (periodStart == IsoDates.INVALID_EPOCH_DAY || periodEnd == IsoDates.INVALID_EPOCH_DAY) {
+            return false;
+        }
+        writer.writeLine(accountsDatesHelper.generateBalanceSheetHeading(
+                LocalDate.ofEpochDay(periodStart), LocalDate.ofEpochDay(periodEnd), isSameYear));
+        return true;
+    }
+
+    /**
+     * Returns the index of the first character of a quoted ten character value for key, or {@link #NOT_FOUND}
+     */
+    private static int stringValue(ByteBuffer line, int start, int end, byte[] key) {
+        int valueStart = value(line, start, end, key);
+        if (valueStart == NOT_FOUND || valueStart + IsoDates.LENGTH + 2 > end
+                || line.get(valueStart) != '"' || line.get(valueStart + IsoDates.LENGTH + 1) != '"') {
+            return NOT_FOUND;
+        }
+        return valueStart + 1;
+    }
+
+    /**
+     * Returns the index of the first character of the value after key and its ':' separator, or {@link #NOT_FOUND}
+     */
+    private static int value(ByteBuffer line, int start, int end, byte[] key) {
+        int keyStart = indexOf(line, start, end, key);
+        if (keyStart == NOT_FOUND) {
+            return NOT_FOUND;
+        }
+        int index = skipWhitespace(line, keyStart + key.length, end);
+        if (index == end || line.get(index) != ':') {
+            return NOT_FOUND;
+        }
+        return skipWhitespace(line, index + 1, end);
+    }
+
+    private static int literalEnd(ByteBuffer line, int start, int end) {
+        int index = start;
+        while (index < end && line.get(index) != ',' && line.get(index) != '}' && !isWhitespace(line.get(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns 1 for 'true', 0 for 'false' or {@link #INVALID_FLAG}
+     */
+    private static int parseFlag(ByteBuffer line, int start, int end) {
+        if (regionMatches(line, start, end, TRUE)) {
+            return 1;
+        }
+        return regionMatches(line, start, end, FALSE) ? 0 : INVALID_FLAG;
+    }
+
+    private static boolean regionMatches(ByteBuffer line, int start, int end, byte[] expected) {
+        if (end - start != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (line.get(start + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(ByteBuffer buffer, int start, int end, byte value) {
+        for (int index = start; index < end; index++) {
+            if (buffer.get(index) == value) {
+                return index;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static int indexOf(ByteBuffer buffer, int start, int end, byte[] value) {
+        int last = end - value.length;
+        for (int index = start; index <= last; index++) {
+            if (buffer.get(index) == value[0] && regionMatches(buffer, index, index + value.length, value)) {
+                return index;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static int trimCarriageReturn(ByteBuffer line, int start, int end) {
+        return end > start && line.get(end - 1) == '\r' ? end - 1 : end;
+    }
+
+    private static int skipWhitespace(ByteBuffer line, int start, int end) {
+        int index = start;
+        while (index < end && isWhitespace(line.get(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isBlank(ByteBuffer line, int start, int end) {
+        return skipWhitespace(line, start, end) == end;
+    }
+
+    private static boolean isWhitespace(byte value) {
+        return value == ' ' || value == '\t';
+    }
+
+    /**
+     * Fixed size buffer of encoded heading lines, drained to the channel whenever the next line might not fit
+     */
+    private static final class HeadingWriter {
+
+        // a UTF-8 encoded char never takes more than three bytes
+        private static final int MAX_BYTES_PER_CHAR = 3;
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+        private long count;
+
+        HeadingWriter(WritableByteChannel channel, int size) {
+            this.channel = Objects.requireNonNull(channel, "output");
+            this.buffer = ByteBuffer.allocate(size);
+        }
+
+        void writeLine(String heading) throws IOException {
+            int maxLength = heading.length() * MAX_BYTES_PER_CHAR + 1;
+            if (buffer.remaining() < maxLength) {
+                flush();
+            }
+            if (buffer.remaining() < maxLength) {
+                drain(ByteBuffer.wrap((heading + '\n').getBytes(StandardCharsets.UTF_8)));
+            } else {
+                put(heading);
+                buffer.put((byte) '\n');
+            }
+            count++;
+        }
+
+        private void put(String heading) {
+            for (int i = 0; i < heading.length(); i++) {
+                char c = heading.charAt(i);
+                if (c >= 0x80) {
+                    // headings in most locales are ASCII, so only encode when something else turns up
+                    buffer.put(heading.substring(i).getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                buffer.put((byte) c);
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            drain(buffer);
+            buffer.clear();
+        }
+
+        private void drain(ByteBuffer bytes) throws IOException {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package uk.gov.companieshouse.accountsdates.batch;
+
+import java.util.Optional;
+
+import uk.gov.companieshouse.accountsdates.AccountingPeriod;
+import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.PeriodRange;
+
+/**
+ * Classifies accounting periods held in columns of start and end epoch days, filling primitive output columns instead
+ * of creating a {@link PeriodRange} per row. Row i of the outputs holds:
+ * <ul>
+ * <li>kinds: the {@link PeriodRange.Kind} ordinal of
+ * {@link AccountsDatesHelper#calculatePeriodRange(java.time.LocalDate, java.time.LocalDate, boolean)} with isSameYear
+ * false, so {@link #KIND_YEAR} or {@link #KIND_MONTHS}. Rows whose previous and current periods end in the same year
+ * are shown as {@link #KIND_FULL_DATE} instead; that flag describes two periods, so callers apply it themselves</li>
+ * <li>months: the rounded month count for {@link #KIND_MONTHS} rows, otherwise 0</li>
+ * <li>sameYear: {@link AccountsDatesHelper#isSameYear(java.time.LocalDate, java.time.LocalDate)} of the start and
+ * end</li>
+ * </ul>
+ * The results are exactly those of {@link AccountingPeriod}.
+ */
+public interface ColumnarPeriodClassifier {
+
+    byte KIND_FULL_DATE = (byte) PeriodRange.Kind.FULL_DATE.ordinal();
+    byte KIND_YEAR = (byte) PeriodRange.Kind.YEAR.ordinal();
+    byte KIND_MONTHS = (byte) PeriodRange.Kind.MONTHS.ordinal();
+
+    /**
+     * Returns the plain loop implementation, which runs on any JVM
+     *
+     * @return scalar classifier
+     */
+    static ColumnarPeriodClassifier scalar() {
+        return ScalarPeriodClassifier.INSTANCE;
+    }
+
+    /**
+     * Returns the Vector API implementation if the library was built with the vector profile and the
+     * jdk.incubator.vector module has been added to the JVM with {@code --add-modules jdk.incubator.vector}
+     *
+     * @return vector classifier, or empty if the module is not available
+     */
+    static Optional<ColumnarPeriodClassifier> vector() {
+        return ColumnarPeriodClassifiers.CLASSIFIER;
+    }
+
+    /**
+     * Returns the Vector API implementation when available, otherwise the scalar one
+     *
+     * @return fastest available classifier
+     */
+    static ColumnarPeriodClassifier fastest() {
+        return vector().orElse(scalar());
+    }
+
+    /**
+     * Decodes a value of the kinds column
+     *
+     * @param kind kind column value
+     * @return period range kind
+     */
+    static PeriodRange.Kind kind(byte kind) {
+        return ColumnarPeriodClassifiers.KINDS[kind];
+    }
+
+    /**
+     * Classifies every row
+     *
+     * @param startEpochDays period start epoch days
+     * @param endEpochDays period end epoch days, the same length as startEpochDays
+     * @param kinds receives the period kinds
+     * @param months receives the month counts
+     * @param sameYear receives whether start and end are in the same calendar year
+     */
+    default void classify(int[] startEpochDays, int[] endEpochDays, byte[] kinds, int[] months, boolean[] sameYear) {
+        if (startEpochDays.length != endEpochDays.length) {
+            throw new IllegalArgumentException("Start and end columns have different lengths: "
+                    + startEpochDays.length + " and " + endEpochDays.length);
+        }
+        classify(startEpochDays, endEpochDays, 0, startEpochDays.length, kinds, months, sameYear);
+    }
+
+    /**
+     * Classifies rows from (inclusive) to to (exclusive), writing the outputs at the same indexes
+     *
+     * @param startEpochDays period start epoch days
+     * @param endEpochDays period end epoch days
+     * @param from first row
+     * @param to row after the last
+     * @param kinds receives the period kinds
+     * @param months receives the month counts
+     * @param sameYear receives whether start and end are in the same calendar year
+     * @throws IndexOutOfBoundsException if the rows are outside any of the arrays
+     */
+    void classify(int[] startEpochDays, int[] endEpochDays, int from, int to, byte[] kinds, int[] months,
+            boolean[] sameYear);
+}
@@ -0,0 +1,47 @@
+package uk.gov.companieshouse.accountsdates.batch;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import uk.gov.companieshouse.accountsdates.PeriodRange;
+
+/**
+ * Shared state for the {@link ColumnarPeriodClassifier} implementations
+ */
+final class ColumnarPeriodClassifiers {
+
+    static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    static final PeriodRange.Kind[] KINDS = PeriodRange.Kind.values();
+
+    /**
+     * The Vector API classifier is only loaded when the incubator module is present, as its class cannot be linked
+     * without it
+     */
+    static final Optional<ColumnarPeriodClassifier> CLASSIFIER = loadVectorClassifier();
+
+    private ColumnarPeriodClassifiers() {
+    }
+
+    static void checkRows(int[] startEpochDays, int[] endEpochDays, int from, int to, byte[] kinds, int[] months,
+            boolean[] sameYear) {
+        Objects.checkFromToIndex(from, to, startEpochDays.length);
+        Objects.checkFromToIndex(from, to, endEpochDays.length);
+        Objects.checkFromToIndex(from, to, kinds.length);
+        Objects.checkFromToIndex(from, to, months.length);
+        Objects.checkFromToIndex(from, to, sameYear.length);
+    }
+
+    private static Optional<ColumnarPeriodClassifier> loadVectorClassifier() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            Class<?> vectorClass = Class.forName(ColumnarPeriodClassifiers.class.getPackageName()
+                    + ".VectorPeriodClassifier");
+            return Optional.of((ColumnarPeriodClassifier) vectorClass.getEnumConstants()[0]);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+}
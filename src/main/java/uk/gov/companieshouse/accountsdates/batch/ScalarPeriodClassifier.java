@@ -0,0 +1,31 @@
+package uk.gov.companieshouse.accountsdates.batch;
+
+import uk.gov.companieshouse.accountsdates.AccountingPeriod;
+
+/**
+ * {@link ColumnarPeriodClassifier} using plain loops. The kind loop is branch free int arithmetic over the two input
+ * columns, which C2 auto-vectorizes; the month and same-year loop needs calendar fields, so runs row by row through
+ * {@link AccountingPeriod} and only for the rows that need them.
+ */
+enum ScalarPeriodClassifier implements ColumnarPeriodClassifier {
+
+    INSTANCE;
+
+    @Override
+    public void classify(int[] startEpochDays, int[] endEpochDays, int from, int to, byte[] kinds, int[] months,
+            boolean[] sameYear) {
+        ColumnarPeriodClassifiers.checkRows(startEpochDays, endEpochDays, from, to, kinds, months, sameYear);
+
+        for (int i = from; i < to; i++) {
+            long length = (long) endEpochDays[i] - startEpochDays[i] + 1;
+            kinds[i] = length >= AccountingPeriod.YEAR_MIN_DAYS && length <= AccountingPeriod.YEAR_MAX_DAYS
+                    ? KIND_YEAR : KIND_MONTHS;
+        }
+
+        for (int i = from; i < to; i++) {
+            long packed = AccountingPeriod.pack(startEpochDays[i], endEpochDays[i]);
+            months[i] = kinds[i] == KIND_MONTHS ? (int) AccountingPeriod.roundedMonths(packed) : 0;
+            sameYear[i] = AccountingPeriod.isSameYear(packed);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package uk.gov.companieshouse.accountsdates.cache;
+
+/**
+ * Point in time statistics for a {@link ConcurrentLruCache}
+ *
+ * @param hits number of lookups that found a cached value
+ * @param misses number of lookups that had to compute a value
+ * @param evictions number of entries removed to stay within the maximum size
+ * @param size number of entries currently cached
+ * @param expirations number of entries removed because they outlived the cache's expiry time
+ */
+public record CacheStats(long hits, long misses, long evictions, long size, long expirations) {
+
+    /**
+     * Statistics for a cache whose entries do not expire
+     */
+    public CacheStats(long hits, long misses, long evictions, long size) {
+        this(hits, misses, evictions, size, 0);
+    }
+
+    /**
+     * Returns the ratio of hits to lookups, or 0 if there have been no lookups
+     *
+     * @return hit rate between 0 and 1
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
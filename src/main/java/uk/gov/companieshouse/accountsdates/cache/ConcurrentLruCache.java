@@ -0,0 +1,266 @@
+package uk.gov.companieshouse.accountsdates.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache with least recently used eviction. Entries are spread over lock striped segments, each an access
+ * ordered {@link LinkedHashMap} holding an equal share of the maximum size, so threads only contend when their keys
+ * hash to the same segment. Values are computed outside the segment lock, so two threads missing on the same key at
+ * the same time may both compute it. Entries can optionally expire a fixed time after they were written, in which
+ * case an expired entry is removed and treated as a miss the next time it is read.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class ConcurrentLruCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier nanoTime;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * @param maximumSize maximum number of entries held across all segments
+     */
+    public ConcurrentLruCache(int maximumSize) {
+        this(maximumSize, 0, System::nanoTime);
+    }
+
+    /**
+     * @param maximumSize maximum number of entries held across all segments
+     * @param expireAfterWrite how long an entry is kept after it was written
+     */
+    public ConcurrentLruCache(int maximumSize, Duration expireAfterWrite) {
+        this(maximumSize, positiveNanos(expireAfterWrite), System::nanoTime);
+    }
+
+    /**
+     * @param expireAfterWriteNanos entry lifetime, or 0 for entries that never expire
+     * @param nanoTime source of {@link System#nanoTime()} style readings
+     */
+    @SuppressWarnings("unchecked")
+    ConcurrentLruCache(int maximumSize, long expireAfterWriteNanos, LongSupplier nanoTime) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1 but was " + maximumSize);
+        }
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.nanoTime = nanoTime;
+        int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maximumSize));
+
+        // split the maximum size exactly, the first segments taking one extra entry each for any remainder
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int segmentCapacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            segments[i] = new Segment<>(segmentCapacity, evictions, expirations);
+        }
+        segmentMask = segmentCount - 1;
+    }
+
+    /**
+     * Returns the cached value for the key, computing and caching it on a miss
+     *
+     * @param key cache key
+     * @param mappingFunction computes the value for a key that is not cached, must not return null
+     * @return cached or computed value
+     */
+    public V get(K key, Function<? super K, ? extends V> mappingFunction) {
+        Segment<K, V> segment = segmentFor(key);
+
+        long now = now();
+        V value = segment.get(key, now);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+
+        misses.increment();
+        value = Objects.requireNonNull(mappingFunction.apply(key), "value");
+        segment.put(key, value, expiresAt(now));
+        return value;
+    }
+
+    /**
+     * Returns the cached value for the key without computing it, or null if it is not cached
+     *
+     * @param key cache key
+     * @return cached value or null
+     */
+    public V getIfPresent(K key) {
+        V value = segmentFor(key).get(key, now());
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Adds or replaces the cached value for the key
+     *
+     * @param key cache key
+     * @param value value to cache, must not be null
+     */
+    public void put(K key, V value) {
+        Objects.requireNonNull(value, "value");
+        segmentFor(key).put(key, value, expiresAt(now()));
+    }
+
+    /**
+     * Removes the cached value for the key, if present
+     *
+     * @param key cache key
+     */
+    public void invalidate(K key) {
+        segmentFor(key).remove(key);
+    }
+
+    /**
+     * Removes every cached value. Statistics are not reset
+     */
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Returns the number of entries currently cached, which may include expired entries that have not been read since
+     * they expired
+     *
+     * @return cache size
+     */
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss, eviction and expiration counts
+     *
+     * @return cache statistics
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size(), expirations.sum());
+    }
+
+    private long now() {
+        // only read the clock when entries can expire
+        return expireAfterWriteNanos == 0 ? 0 : nanoTime.getAsLong();
+    }
+
+    private long expiresAt(long now) {
+        return expireAfterWriteNanos == 0 ? NEVER : now + expireAfterWriteNanos;
+    }
+
+    private static long positiveNanos(Duration duration) {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("expireAfterWrite must be positive but was " + duration);
+        }
+        return duration.toNanos();
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    private record Node<V>(V value, long expiresAt) {
+    }
+
+    private static final class Segment<K, V> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<K, Node<V>> entries;
+        private final LongAdder expirations;
+
+        Segment(int capacity, LongAdder evictions, LongAdder expirations) {
+            this.expirations = expirations;
+            entries = new LinkedHashMap<>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Node<V>> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        V get(K key, long now) {
+            lock.lock();
+            try {
+                Node<V> node = entries.get(key);
+                if (node == null) {
+                    return null;
+                }
+                // subtraction rather than comparison, as nanoTime readings may wrap
+                if (node.expiresAt() != NEVER && now - node.expiresAt() >= 0) {
+                    entries.remove(key);
+                    expirations.increment();
+                    return null;
+                }
+                return node.value();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(K key, V value, long expiresAt) {
+            lock.lock();
+            try {
+                entries.put(key, new Node<>(value, expiresAt));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(K key) {
+            lock.lock();
+            try {
+                entries.remove(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                entries.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
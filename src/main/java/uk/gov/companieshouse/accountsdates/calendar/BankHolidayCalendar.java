@@ -0,0 +1,252 @@
+package uk.gov.companieshouse.accountsdates.calendar;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+import uk.gov.companieshouse.accountsdates.format.IsoDates;
+
+/**
+ * Weekends and bank holidays between two dates, held as one bit per day in a {@link BitSet} indexed from the first
+ * day's epoch day. A year of days takes 46 longs, and checking a day or finding the nearest working day reads whole
+ * words rather than walking the days.
+ * <p>
+ * Bank holidays differ between England and Wales, Scotland and Northern Ireland and are announced a year or so
+ * ahead, so none are built in. They are loaded from a local file with {@link #load(Path)}, and days outside the
+ * calendar are rejected rather than assumed to be working days.
+ */
+public final class BankHolidayCalendar {
+
+    private static final int DAYS_PER_WEEK = 7;
+    /** 1970-01-01 was a Thursday, so epoch day 2 was a Saturday */
+    private static final int SATURDAY_EPOCH_DAY = 2;
+
+    private final long firstEpochDay;
+    private final long lastEpochDay;
+    private final BitSet nonWorkingDays;
+    private final int bankHolidays;
+
+    private BankHolidayCalendar(long firstEpochDay, long lastEpochDay, BitSet nonWorkingDays, int bankHolidays) {
+        this.firstEpochDay = firstEpochDay;
+        this.lastEpochDay = lastEpochDay;
+        this.nonWorkingDays = nonWorkingDays;
+        this.bankHolidays = bankHolidays;
+    }
+
+    /**
+     * Creates a calendar covering the whole years from the first to the last bank holiday
+     *
+     * @param bankHolidays bank holidays, in any order
+     * @return calendar
+     * @throws IllegalArgumentException if there are no bank holidays
+     */
+    public static BankHolidayCalendar of(Collection<LocalDate> bankHolidays) {
+        if (bankHolidays.isEmpty()) {
+            throw new IllegalArgumentException("No bank holidays");
+        }
+        LocalDate first = LocalDate.MAX;
+        LocalDate last = LocalDate.MIN;
+        for (LocalDate bankHoliday : bankHolidays) {
+            first = bankHoliday.isBefore(first) ? bankHoliday : first;
+            last = bankHoliday.isAfter(last) ? bankHoliday : last;
+        }
+        return of(first.withDayOfYear(1), last.withDayOfYear(last.lengthOfYear()), bankHolidays);
+    }
+
+    /**
+     * Creates a calendar from first to last inclusive
+     *
+     * @param first first day covered
+     * @param last last day covered
+     * @param bankHolidays bank holidays, where any outside the calendar are ignored
+     * @return calendar
+     */
+    public static BankHolidayCalendar of(LocalDate first, LocalDate last, Collection<LocalDate> bankHolidays) {
+        final long firstEpochDay = first.toEpochDay();
+        final long lastEpochDay = last.toEpochDay();
+        if (lastEpochDay < firstEpochDay) {
+            throw new IllegalArgumentException("Calendar ends " + last + " before it starts " + first);
+        }
+        final int size = Math.toIntExact(lastEpochDay - firstEpochDay + 1);
+        final BitSet nonWorkingDays = new BitSet(size);
+
+        // set each Saturday and Sunday, starting from the first Saturday on or after the first day
+        final int firstSaturday = (int) Math.floorMod(SATURDAY_EPOCH_DAY - firstEpochDay, DAYS_PER_WEEK);
+        if (firstSaturday == DAYS_PER_WEEK - 1) {
+            nonWorkingDays.set(0);
+        }
+        for (int saturday = firstSaturday; saturday < size; saturday += DAYS_PER_WEEK) {
+            nonWorkingDays.set(saturday, Math.min(saturday + 2, size));
+        }
+
+        int weekdayBankHolidays = 0;
+        for (LocalDate bankHoliday : bankHolidays) {
+            final long epochDay = bankHoliday.toEpochDay();
+            if (epochDay < firstEpochDay || epochDay > lastEpochDay) {
+                continue;
+            }
+            final int index = index(epochDay, firstEpochDay);
+            if (!nonWorkingDays.get(index)) {
+                nonWorkingDays.set(index);
+                weekdayBankHolidays++;
+            }
+        }
+        return new BankHolidayCalendar(firstEpochDay, lastEpochDay, nonWorkingDays, weekdayBankHolidays);
+    }
+
+    /**
+     * Loads bank holidays from a UTF-8 text file with one 'yyyy-MM-dd' date per line, optionally followed by a name,
+     * e.g. {@code 2024-12-25 Christmas Day}. Blank lines and text after a '#' are ignored. The calendar covers the
+     * whole years from the first to the last date in the file.
+     *
+     * @param file bank holidays file
+     * @return calendar
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a line does not start with a date, or there are no dates
+     */
+    public static BankHolidayCalendar load(Path file) throws IOException {
+        final List<LocalDate> bankHolidays = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                final int comment = line.indexOf('#');
+                final String text = (comment < 0 ? line : line.substring(0, comment)).strip();
+                if (text.isEmpty()) {
+                    continue;
+                }
+                final int end = Math.min(text.length(), IsoDates.LENGTH);
+                try {
+                    if (end < text.length() && !Character.isWhitespace(text.charAt(end))) {
+                        throw new DateTimeParseException("Date not followed by a space", text, end);
+                    }
+                    bankHolidays.add(IsoDates.parse(text.substring(0, end)));
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException(
+                            "Invalid bank holiday on line " + lineNumber + " of " + file + ": " + text, e);
+                }
+            }
+        }
+        if (bankHolidays.isEmpty()) {
+            throw new IllegalArgumentException("No bank holidays in " + file);
+        }
+        return of(bankHolidays);
+    }
+
+    public LocalDate getFirstDay() {
+        return LocalDate.ofEpochDay(firstEpochDay);
+    }
+
+    public LocalDate getLastDay() {
+        return LocalDate.ofEpochDay(lastEpochDay);
+    }
+
+    /**
+     * @return number of bank holidays that fall on a weekday
+     */
+    public int getBankHolidayCount() {
+        return bankHolidays;
+    }
+
+    /**
+     * @param date date to check
+     * @return true if the date is between the first and last days of the calendar
+     */
+    public boolean covers(LocalDate date) {
+        return covers(date.toEpochDay());
+    }
+
+    /**
+     * @param date date to check
+     * @return true if the date is a weekday and not a bank holiday
+     * @throws DateTimeException if the calendar does not cover the date
+     */
+    public boolean isWorkingDay(LocalDate date) {
+        return isWorkingDay(date.toEpochDay());
+    }
+
+    /**
+     * @param epochDay epoch day to check
+     * @return true if the day is a weekday and not a bank holiday
+     * @throws DateTimeException if the calendar does not cover the day
+     */
+    public boolean isWorkingDay(long epochDay) {
+        return !nonWorkingDays.get(checkedIndex(epochDay));
+    }
+
+    /**
+     * Returns the date if it is a working day, otherwise the last working day before it
+     *
+     * @param date date to start from
+     * @return working day on or before date
+     * @throws DateTimeException if the calendar does not cover the date or the working day
+     */
+    public LocalDate workingDayOnOrBefore(LocalDate date) {
+        final int index = nonWorkingDays.previousClearBit(checkedIndex(date.toEpochDay()));
+        if (index < 0) {
+            throw new DateTimeException("No working day in calendar on or before " + date);
+        }
+        return LocalDate.ofEpochDay(firstEpochDay + index);
+    }
+
+    /**
+     * Returns the date if it is a working day, otherwise the first working day after it
+     *
+     * @param date date to start from
+     * @return working day on or after date
+     * @throws DateTimeException if the calendar does not cover the date or the working day
+     */
+    public LocalDate workingDayOnOrAfter(LocalDate date) {
+        final long epochDay = firstEpochDay + nonWorkingDays.nextClearBit(checkedIndex(date.toEpochDay()));
+        if (epochDay > lastEpochDay) {
+            throw new DateTimeException("No working day in calendar on or after " + date);
+        }
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    long firstEpochDay() {
+        return firstEpochDay;
+    }
+
+    long lastEpochDay() {
+        return lastEpochDay;
+    }
+
+    /**
+     * Non-working day bits, indexed from the first epoch day. Callers must not modify them
+     */
+    BitSet nonWorkingDays() {
+        return nonWorkingDays;
+    }
+
+    private boolean covers(long epochDay) {
+        return epochDay >= firstEpochDay && epochDay <= lastEpochDay;
+    }
+
+    private int checkedIndex(long epochDay) {
+        if (!covers(epochDay)) {
+            throw new DateTimeException("Date " + LocalDate.ofEpochDay(epochDay)
+                    + " is outside the bank holiday calendar " + getFirstDay() + " to " + getLastDay());
+        }
+        return index(epochDay, firstEpochDay);
+    }
+
+    private static int index(long epochDay, long firstEpochDay) {
+        return (int) (epochDay - firstEpochDay);
+    }
+
+    @Override
+    public String toString() {
+        return "BankHolidayCalendar[" + getFirstDay() + " to " + getLastDay() + ", " + bankHolidays + " bank holidays]";
+    }
+}
@@ -0,0 +1,153 @@
+package uk.gov.companieshouse.accountsdates.calendar;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Working day arithmetic over a window of a {@link BankHolidayCalendar}, answered in constant time from two arrays
+ * built once: a running count of the working days before each day, and the position of each working day in order.
+ * Counting working days between two dates is a subtraction of counts, and adding working days is a lookup of the
+ * working day at a count, so neither walks the days in between.
+ * <p>
+ * The arrays take about 6 bytes per day of the window, around 220KB for a century.
+ */
+public final class WorkingDayCalendar {
+
+    private final long firstEpochDay;
+    private final long lastEpochDay;
+    /** Working days from the first day up to, but not including, the day at each offset; one longer than the window */
+    private final int[] workingDaysBefore;
+    /** Offset of each working day from the first day, in order */
+    private final int[] workingDayOffsets;
+
+    private WorkingDayCalendar(long firstEpochDay, long lastEpochDay, int[] workingDaysBefore,
+            int[] workingDayOffsets) {
+        this.firstEpochDay = firstEpochDay;
+        this.lastEpochDay = lastEpochDay;
+        this.workingDaysBefore = workingDaysBefore;
+        this.workingDayOffsets = workingDayOffsets;
+    }
+
+    /**
+     * @param calendar weekends and bank holidays
+     * @return working day calendar covering the whole of the bank holiday calendar
+     */
+    public static WorkingDayCalendar of(BankHolidayCalendar calendar) {
+        return of(calendar, calendar.getFirstDay(), calendar.getLastDay());
+    }
+
+    /**
+     * @param calendar weekends and bank holidays
+     * @param first first day of the window
+     * @param last last day of the window
+     * @return working day calendar covering first to last inclusive
+     * @throws DateTimeException if the bank holiday calendar does not cover the window
+     */
+    public static WorkingDayCalendar of(BankHolidayCalendar calendar, LocalDate first, LocalDate last) {
+        if (last.isBefore(first)) {
+            throw new IllegalArgumentException("Window ends " + last + " before it starts " + first);
+        }
+        if (!calendar.covers(first) || !calendar.covers(last)) {
+            throw new DateTimeException("Window " + first + " to " + last + " is outside " + calendar);
+        }
+        final long firstEpochDay = first.toEpochDay();
+        final int size = Math.toIntExact(last.toEpochDay() - firstEpochDay + 1);
+        final int start = (int) (firstEpochDay - calendar.firstEpochDay());
+        final BitSet nonWorkingDays = calendar.nonWorkingDays();
+
+        final int[] workingDaysBefore = new int[size + 1];
+        final int[] workingDayOffsets = new int[size];
+        int count = 0;
+        for (int offset = 0; offset < size; offset++) {
+            workingDaysBefore[offset] = count;
+            if (!nonWorkingDays.get(start + offset)) {
+                workingDayOffsets[count++] = offset;
+            }
+        }
+        workingDaysBefore[size] = count;
+        return new WorkingDayCalendar(firstEpochDay, last.toEpochDay(), workingDaysBefore,
+                Arrays.copyOf(workingDayOffsets, count));
+    }
+
+    public LocalDate getFirstDay() {
+        return LocalDate.ofEpochDay(firstEpochDay);
+    }
+
+    public LocalDate getLastDay() {
+        return LocalDate.ofEpochDay(lastEpochDay);
+    }
+
+    /**
+     * @return number of working days in the window
+     */
+    public int getWorkingDayCount() {
+        return workingDayOffsets.length;
+    }
+
+    /**
+     * @param date date to check
+     * @return true if the date is a weekday and not a bank holiday
+     * @throws DateTimeException if the window does not cover the date
+     */
+    public boolean isWorkingDay(LocalDate date) {
+        final int offset = offset(date.toEpochDay(), lastEpochDay);
+        return workingDaysBefore[offset + 1] != workingDaysBefore[offset];
+    }
+
+    /**
+     * Counts working days from start inclusive to end exclusive, in the same way as
+     * {@link java.time.temporal.ChronoUnit#between}, so the result is negative when end is before start. End may be
+     * the day after the last day of the window
+     *
+     * @param start first day counted
+     * @param end day after the last day counted
+     * @return number of working days
+     * @throws DateTimeException if the window does not cover the dates
+     */
+    public int workingDaysBetween(LocalDate start, LocalDate end) {
+        return workingDaysBefore[offset(end.toEpochDay(), lastEpochDay + 1)]
+                - workingDaysBefore[offset(start.toEpochDay(), lastEpochDay + 1)];
+    }
+
+    /**
+     * Returns the working day that is workingDays working days after date, or before it if workingDays is negative.
+     * Adding 1 gives the next working day after date whether or not date is itself a working day, and adding 0
+     * returns date unchanged
+     *
+     * @param date date to count from
+     * @param workingDays working days to add
+     * @return working day
+     * @throws DateTimeException if the window does not cover the date or the result
+     */
+    public LocalDate addWorkingDays(LocalDate date, int workingDays) {
+        final int offset = offset(date.toEpochDay(), lastEpochDay);
+        if (workingDays == 0) {
+            return date;
+        }
+        // index of the working day in workingDayOffsets, counting on from those up to date or back from those before
+        final long index = workingDays > 0
+                ? (long) workingDaysBefore[offset + 1] + workingDays - 1
+                : (long) workingDaysBefore[offset] + workingDays;
+        if (index < 0 || index >= workingDayOffsets.length) {
+            throw new DateTimeException("Adding " + workingDays + " working days to " + date
+                    + " is outside the working day calendar " + getFirstDay() + " to " + getLastDay());
+        }
+        return LocalDate.ofEpochDay(firstEpochDay + workingDayOffsets[(int) index]);
+    }
+
+    private int offset(long epochDay, long maxEpochDay) {
+        if (epochDay < firstEpochDay || epochDay > maxEpochDay) {
+            throw new DateTimeException("Date " + LocalDate.ofEpochDay(epochDay)
+                    + " is outside the working day calendar " + getFirstDay() + " to " + getLastDay());
+        }
+        return (int) (epochDay - firstEpochDay);
+    }
+
+    @Override
+    public String toString() {
+        return "WorkingDayCalendar[" + getFirstDay() + " to " + getLastDay() + ", " + getWorkingDayCount()
+                + " working days]";
+    }
+}
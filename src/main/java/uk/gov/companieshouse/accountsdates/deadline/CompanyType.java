@@ -0,0 +1,25 @@
+package uk.gov.companieshouse.accountsdates.deadline;
+
+/**
+ * Company types with different accounts filing periods under section 442 of the Companies Act 2006
+ */
+public enum CompanyType {
+
+    /** Accounts due 9 months after the period end */
+    PRIVATE(9),
+    /** Accounts due 6 months after the period end */
+    PUBLIC(6);
+
+    private final int monthsToFile;
+
+    CompanyType(int monthsToFile) {
+        this.monthsToFile = monthsToFile;
+    }
+
+    /**
+     * @return months after the end of the accounting reference period that accounts are due
+     */
+    public int getMonthsToFile() {
+        return monthsToFile;
+    }
+}
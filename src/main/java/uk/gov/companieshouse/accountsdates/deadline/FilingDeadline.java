@@ -0,0 +1,44 @@
+package uk.gov.companieshouse.accountsdates.deadline;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Accounts filing deadline for an accounting reference period
+ *
+ * @param periodEnd accounting reference period end date
+ * @param dueDate last day the accounts may be delivered. This is not moved for weekends or bank holidays
+ * @param lastWorkingDay the due date if it is a working day, otherwise the last working day before it
+ */
+public record FilingDeadline(LocalDate periodEnd, LocalDate dueDate, LocalDate lastWorkingDay) {
+
+    public FilingDeadline {
+        Objects.requireNonNull(periodEnd, "periodEnd");
+        Objects.requireNonNull(dueDate, "dueDate");
+        Objects.requireNonNull(lastWorkingDay, "lastWorkingDay");
+    }
+
+    /**
+     * @param asOf date to check
+     * @return true if accounts delivered on asOf are late
+     */
+    public boolean isOverdue(LocalDate asOf) {
+        return asOf.isAfter(dueDate);
+    }
+
+    /**
+     * @param asOf date to count to
+     * @return calendar days from the due date to asOf, or 0 if the accounts are not yet overdue
+     */
+    public long daysOverdue(LocalDate asOf) {
+        return Math.max(0L, asOf.toEpochDay() - dueDate.toEpochDay());
+    }
+
+    /**
+     * @param asOf date to count from
+     * @return calendar days from asOf to the due date, or 0 if the accounts are overdue
+     */
+    public long daysRemaining(LocalDate asOf) {
+        return Math.max(0L, dueDate.toEpochDay() - asOf.toEpochDay());
+    }
+}
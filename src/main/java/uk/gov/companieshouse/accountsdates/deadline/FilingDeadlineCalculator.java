@@ -0,0 +1,111 @@
+package uk.gov.companieshouse.accountsdates.deadline;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import uk.gov.companieshouse.accountsdates.calendar.BankHolidayCalendar;
+
+/**
+ * Works out accounts filing deadlines under sections 442 and 443 of the Companies Act 2006. Each deadline is a fixed
+ * number of months after a date, so it takes a few field calculations whatever the length of the period, and the
+ * last working day before it is read from the {@link BankHolidayCalendar} bits.
+ * <p>
+ * Months are added by the corresponding date rule: a date on the last day of its month moves to the last day of the
+ * target month, so a period ending 28 February 2023 is due by 30 November 2023, and any other date keeps its day of
+ * month where the target month has it. First accounts covering more than 12 months are due by whichever is later of
+ * {@link CompanyType#getMonthsToFile()} months after the first anniversary of incorporation and
+ * {@value #FIRST_ACCOUNTS_MONTHS_AFTER_PERIOD_END} months after the period end.
+ */
+public final class FilingDeadlineCalculator {
+
+    public static final int FIRST_ACCOUNTS_MONTHS_AFTER_PERIOD_END = 3;
+
+    private static final int MONTHS_PER_YEAR = 12;
+
+    private final BankHolidayCalendar calendar;
+
+    public FilingDeadlineCalculator(BankHolidayCalendar calendar) {
+        this.calendar = Objects.requireNonNull(calendar, "calendar");
+    }
+
+    /**
+     * @param periodEnd accounting reference period end date
+     * @param companyType company type
+     * @return filing deadline
+     * @throws DateTimeException if the calendar does not cover the due date
+     */
+    public FilingDeadline calculate(LocalDate periodEnd, CompanyType companyType) {
+        return deadline(periodEnd, dueDate(periodEnd, companyType));
+    }
+
+    /**
+     * Calculates the deadline for a company's first accounts, which start on its date of incorporation
+     *
+     * @param incorporationDate date of incorporation
+     * @param periodEnd first accounting reference period end date
+     * @param companyType company type
+     * @return filing deadline
+     * @throws DateTimeException if the calendar does not cover the due date
+     */
+    public FilingDeadline calculateFirstAccounts(LocalDate incorporationDate, LocalDate periodEnd,
+            CompanyType companyType) {
+        return deadline(periodEnd, firstAccountsDueDate(incorporationDate, periodEnd, companyType));
+    }
+
+    /**
+     * Returns the calendar days a filing is overdue by
+     *
+     * @param periodEnd accounting reference period end date
+     * @param companyType company type
+     * @param asOf date to count to
+     * @return days after the due date, or 0 if not yet due
+     */
+    public static long daysOverdue(LocalDate periodEnd, CompanyType companyType, LocalDate asOf) {
+        return Math.max(0L, asOf.toEpochDay() - dueDate(periodEnd, companyType).toEpochDay());
+    }
+
+    /**
+     * @param periodEnd accounting reference period end date
+     * @param companyType company type
+     * @return last day accounts for the period may be delivered
+     */
+    public static LocalDate dueDate(LocalDate periodEnd, CompanyType companyType) {
+        return plusMonths(periodEnd, companyType.getMonthsToFile());
+    }
+
+    /**
+     * @param incorporationDate date of incorporation
+     * @param periodEnd first accounting reference period end date
+     * @param companyType company type
+     * @return last day the first accounts may be delivered
+     */
+    public static LocalDate firstAccountsDueDate(LocalDate incorporationDate, LocalDate periodEnd,
+            CompanyType companyType) {
+        if (periodEnd.isBefore(incorporationDate)) {
+            throw new DateTimeException("Period end " + periodEnd + " is before incorporation " + incorporationDate);
+        }
+        if (periodEnd.isBefore(plusMonths(incorporationDate, MONTHS_PER_YEAR))) {
+            return dueDate(periodEnd, companyType);
+        }
+        final LocalDate fromIncorporation =
+                plusMonths(incorporationDate, MONTHS_PER_YEAR + companyType.getMonthsToFile());
+        final LocalDate fromPeriodEnd = plusMonths(periodEnd, FIRST_ACCOUNTS_MONTHS_AFTER_PERIOD_END);
+        return fromIncorporation.isAfter(fromPeriodEnd) ? fromIncorporation : fromPeriodEnd;
+    }
+
+    /**
+     * Adds months by the corresponding date rule in section 443
+     */
+    static LocalDate plusMonths(LocalDate date, int months) {
+        final LocalDate result = date.plusMonths(months);
+        if (date.getDayOfMonth() == date.lengthOfMonth()) {
+            return result.withDayOfMonth(result.lengthOfMonth());
+        }
+        return result;
+    }
+
+    private FilingDeadline deadline(LocalDate periodEnd, LocalDate dueDate) {
+        return new FilingDeadline(periodEnd, dueDate, calendar.workingDayOnOrBefore(dueDate));
+    }
+}
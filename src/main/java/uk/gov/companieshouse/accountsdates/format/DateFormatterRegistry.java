@@ -0,0 +1,70 @@
+package uk.gov.companieshouse.accountsdates.format;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shared registry of compiled {@link DateTimeFormatter}s. Each pattern is compiled once per {@link Locale} and the
+ * resulting immutable formatter is reused by every caller, so pattern parsing is kept off the render path.
+ */
+public final class DateFormatterRegistry {
+
+    public static final String DATE_FORMAT_YYYYMMDD = "yyyy-MM-dd";
+    public static final String DATE_FORMAT_D_MMMM_YYYY = "d MMMM yyyy";
+    public static final String DATE_FORMAT_YYYY = "yyyy";
+    public static final String TIME_FORMAT_H_MM_A = "h:mm a";
+
+    /**
+     * Locale for the Welsh side of bilingual accounts, e.g. '5 Mawrth 2017'
+     */
+    public static final Locale WELSH = Locale.forLanguageTag("cy-GB");
+
+    private static final ConcurrentMap<String, ConcurrentMap<Locale, DateTimeFormatter>> FORMATTERS =
+            new ConcurrentHashMap<>();
+
+    private DateFormatterRegistry() {
+    }
+
+    /**
+     * Returns the formatter for the given pattern in the default format {@link Locale}, matching the behaviour of
+     * {@link DateTimeFormatter#ofPattern(String)}
+     *
+     * @param pattern date time pattern
+     * @return compiled formatter
+     */
+    public static DateTimeFormatter getFormatter(String pattern) {
+        return getFormatter(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Returns the formatter for the given pattern and {@link Locale}, compiling it on first use
+     *
+     * @param pattern date time pattern
+     * @param locale locale used for month and am/pm names
+     * @return compiled formatter
+     */
+    public static DateTimeFormatter getFormatter(String pattern, Locale locale) {
+        ConcurrentMap<Locale, DateTimeFormatter> byLocale = FORMATTERS.get(pattern);
+        if (byLocale == null) {
+            byLocale = FORMATTERS.computeIfAbsent(pattern, p -> new ConcurrentHashMap<>());
+        }
+
+        DateTimeFormatter formatter = byLocale.get(locale);
+        if (formatter == null) {
+            formatter = byLocale.computeIfAbsent(locale, l -> DateTimeFormatter.ofPattern(pattern, l));
+        }
+        return formatter;
+    }
+
+    /**
+     * Returns the 'd MMMM yyyy' display date formatter for the given {@link Locale}
+     *
+     * @param locale locale used for month names, e.g. {@link #WELSH}
+     * @return compiled formatter
+     */
+    public static DateTimeFormatter getDisplayDateFormatter(Locale locale) {
+        return getFormatter(DATE_FORMAT_D_MMMM_YYYY, locale);
+    }
+}
@@ -0,0 +1,87 @@
+package uk.gov.companieshouse.accountsdates.format;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Writes 'd MMMM yyyy' dates and lower case 'h:mm a' times straight from their numeric fields, using month and am/pm
+ * names looked up once per {@link Locale} from the {@link DateFormatterRegistry} formatters. The output matches
+ * formatting with those patterns, with the time lower cased as {@link String#toLowerCase()} would.
+ */
+public final class DateTimeText {
+
+    private static final ConcurrentMap<Locale, DateTimeText> BY_LOCALE = new ConcurrentHashMap<>();
+
+    private final String[] months = new String[12];
+    private final String am;
+    private final String pm;
+
+    private DateTimeText(Locale locale) {
+        DateTimeFormatter monthFormatter = DateFormatterRegistry.getFormatter("MMMM", locale);
+        for (int month = 1; month <= 12; month++) {
+            months[month - 1] = monthFormatter.format(LocalDate.of(2000, month, 1));
+        }
+        DateTimeFormatter amPmFormatter = DateFormatterRegistry.getFormatter("a", locale);
+        am = amPmFormatter.format(LocalTime.MIDNIGHT).toLowerCase();
+        pm = amPmFormatter.format(LocalTime.NOON).toLowerCase();
+    }
+
+    /**
+     * Returns the month and am/pm names for the given {@link Locale}
+     *
+     * @param locale locale for month and am/pm names
+     * @return date and time writer
+     */
+    public static DateTimeText forLocale(Locale locale) {
+        DateTimeText text = BY_LOCALE.get(locale);
+        if (text == null) {
+            text = BY_LOCALE.computeIfAbsent(locale, DateTimeText::new);
+        }
+        return text;
+    }
+
+    /**
+     * Appends a date in 'd MMMM yyyy' format e.g. '5 March 2017'
+     *
+     * @param builder builder to append to
+     * @param year year from 0001 to 9999
+     * @param month month from 1 to 12
+     * @param day day of month
+     * @return the builder
+     */
+    public StringBuilder appendDisplayDate(StringBuilder builder, int year, int month, int day) {
+        if (!IsoDates.isSupportedYear(year)) {
+            throw new IllegalArgumentException("Year " + year + " cannot be formatted as yyyy");
+        }
+        return builder.append(day)
+                .append(' ')
+                .append(months[month - 1])
+                .append(' ')
+                .append((char) ('0' + year / 1000))
+                .append((char) ('0' + year / 100 % 10))
+                .append((char) ('0' + year / 10 % 10))
+                .append((char) ('0' + year % 10));
+    }
+
+    /**
+     * Appends a time in lower case 'h:mm a' format e.g. '6:15 pm'
+     *
+     * @param builder builder to append to
+     * @param hour hour of day from 0 to 23
+     * @param minute minute of hour from 0 to 59
+     * @return the builder
+     */
+    public StringBuilder appendTime(StringBuilder builder, int hour, int minute) {
+        int clockHour = hour % 12 == 0 ? 12 : hour % 12;
+        return builder.append(clockHour)
+                .append(':')
+                .append((char) ('0' + minute / 10))
+                .append((char) ('0' + minute % 10))
+                .append(' ')
+                .append(hour < 12 ? am : pm);
+    }
+}
@@ -0,0 +1,144 @@
+package uk.gov.companieshouse.accountsdates.format;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Lookup table of pre-rendered 'd MMMM yyyy' display dates and 'yyyy' years indexed by epoch day. Display dates are
+ * held in a single shared character block with an offset per day, so a date inside the window is rendered by
+ * slicing the block rather than running a formatter, and {@link #appendDisplayDate} copies it into a caller supplied
+ * {@link StringBuilder} without allocating. Dates outside the window fall back to the
+ * {@link DateFormatterRegistry} formatter for the table's locale.
+ */
+public final class DisplayDateTable {
+
+    public static final LocalDate DEFAULT_FIRST_DATE = LocalDate.of(1990, 1, 1);
+    public static final LocalDate DEFAULT_LAST_DATE = LocalDate.of(2100, 12, 31);
+
+    private final Locale locale;
+    private final DateTimeFormatter displayDateFormatter;
+    private final DateTimeFormatter yearFormatter;
+
+    private final long firstEpochDay;
+    private final long lastEpochDay;
+    private final int firstYear;
+
+    private final char[] displayDates;
+    private final int[] offsets;
+    private final String[] years;
+
+    /**
+     * Creates a table for {@link #DEFAULT_FIRST_DATE} to {@link #DEFAULT_LAST_DATE} in the given {@link Locale}
+     *
+     * @param locale locale used for month names
+     */
+    public DisplayDateTable(Locale locale) {
+        this(DEFAULT_FIRST_DATE, DEFAULT_LAST_DATE, locale);
+    }
+
+    /**
+     * Creates a table for the given inclusive window of dates in the given {@link Locale}
+     *
+     * @param firstDate first date held in the table
+     * @param lastDate last date held in the table
+     * @param locale locale used for month names
+     */
+    public DisplayDateTable(LocalDate firstDate, LocalDate lastDate, Locale locale) {
+        if (lastDate.isBefore(firstDate)) {
+            throw new IllegalArgumentException("lastDate " + lastDate + " is before firstDate " + firstDate);
+        }
+        this.locale = Objects.requireNonNull(locale, "locale");
+        this.displayDateFormatter = DateFormatterRegistry.getDisplayDateFormatter(locale);
+        this.yearFormatter = DateFormatterRegistry.getFormatter(DateFormatterRegistry.DATE_FORMAT_YYYY, locale);
+
+        this.firstEpochDay = firstDate.toEpochDay();
+        this.lastEpochDay = lastDate.toEpochDay();
+        this.firstYear = firstDate.getYear();
+
+        int days = Math.toIntExact(lastEpochDay - firstEpochDay + 1);
+        StringBuilder block = new StringBuilder(days * 16);
+        offsets = new int[days + 1];
+        for (int day = 0; day < days; day++) {
+            offsets[day] = block.length();
+            displayDateFormatter.formatTo(LocalDate.ofEpochDay(firstEpochDay + day), block);
+        }
+        offsets[days] = block.length();
+        displayDates = new char[block.length()];
+        block.getChars(0, block.length(), displayDates, 0);
+
+        years = new String[lastDate.getYear() - firstYear + 1];
+        for (int year = 0; year < years.length; year++) {
+            years[year] = yearFormatter.format(LocalDate.of(firstYear + year, 1, 1));
+        }
+    }
+
+    /**
+     * Returns the date in 'd MMMM yyyy' format e.g. '5 March 2017'
+     *
+     * @param date date to format
+     * @return display date
+     */
+    public String displayDate(LocalDate date) {
+        int index = indexOf(date);
+        if (index < 0) {
+            return date.format(displayDateFormatter);
+        }
+        int offset = offsets[index];
+        return new String(displayDates, offset, offsets[index + 1] - offset);
+    }
+
+    /**
+     * Appends the date in 'd MMMM yyyy' format to a caller supplied {@link StringBuilder}
+     *
+     * @param date date to format
+     * @param builder builder to append to
+     * @return the builder
+     */
+    public StringBuilder appendDisplayDate(LocalDate date, StringBuilder builder) {
+        int index = indexOf(date);
+        if (index < 0) {
+            displayDateFormatter.formatTo(date, builder);
+            return builder;
+        }
+        int offset = offsets[index];
+        return builder.append(displayDates, offset, offsets[index + 1] - offset);
+    }
+
+    /**
+     * Returns the year of the date in 'yyyy' format. Years inside the window return a shared instance
+     *
+     * @param date date to format
+     * @return year
+     */
+    public String year(LocalDate date) {
+        int index = date.getYear() - firstYear;
+        if (index < 0 || index >= years.length) {
+            return date.format(yearFormatter);
+        }
+        return years[index];
+    }
+
+    /**
+     * Returns true if the date is rendered from the table rather than by a formatter
+     *
+     * @param date date to check
+     * @return true if the date is inside the window
+     */
+    public boolean contains(LocalDate date) {
+        return indexOf(date) >= 0;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    private int indexOf(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        if (epochDay < firstEpochDay || epochDay > lastEpochDay) {
+            return -1;
+        }
+        return (int) (epochDay - firstEpochDay);
+    }
+}
@@ -0,0 +1,322 @@
+package uk.gov.companieshouse.accountsdates.format;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+/**
+ * Fixed width parser and writer for 'yyyy-MM-dd' dates that avoids the general {@link java.time.format.DateTimeFormatter}
+ * machinery. Only years 0001 to 9999 are handled and validation is strict: the text must be exactly ten characters,
+ * use ASCII digits and '-' separators and name a real calendar date. Any date accepted here is the same
+ * {@link LocalDate} that {@link LocalDate#parse(CharSequence)} returns, and any date written here is the same text
+ * that {@link LocalDate#toString()} returns.
+ */
+public final class IsoDates {
+
+    public static final int LENGTH = 10;
+    public static final int MIN_YEAR = 1;
+    public static final int MAX_YEAR = 9999;
+
+    /**
+     * Returned by the epoch day parsers when the text is not a valid 'yyyy-MM-dd' date
+     */
+    public static final long INVALID_EPOCH_DAY = Long.MIN_VALUE;
+
+    private static final int INVALID = -1;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    private IsoDates() {
+    }
+
+    /**
+     * Parses a 'yyyy-MM-dd' date
+     *
+     * @param text ten character date
+     * @return parsed date
+     * @throws DateTimeParseException if the text is not a valid 'yyyy-MM-dd' date
+     */
+    public static LocalDate parse(CharSequence text) {
+        LocalDate date = tryParse(text);
+        if (date == null) {
+            throw new DateTimeParseException("Text '" + text + "' could not be parsed as yyyy-MM-dd", text, 0);
+        }
+        return date;
+    }
+
+    /**
+     * Parses a 'yyyy-MM-dd' date, returning null rather than throwing if the text is not valid
+     *
+     * @param text ten character date
+     * @return parsed date or null
+     */
+    public static LocalDate tryParse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        if (text.length() != LENGTH) {
+            return null;
+        }
+        return toLocalDate(parseFields(text, 0));
+    }
+
+    /**
+     * Parses a 'yyyy-MM-dd' date from ten ASCII bytes starting at offset
+     *
+     * @param bytes source bytes
+     * @param offset index of the first year digit
+     * @return parsed date
+     * @throws DateTimeParseException if the bytes are not a valid 'yyyy-MM-dd' date
+     */
+    public static LocalDate parse(byte[] bytes, int offset) {
+        Objects.checkFromIndexSize(offset, LENGTH, bytes.length);
+        LocalDate date = toLocalDate(parseFields(bytes, offset));
+        if (date == null) {
+            String text = new String(bytes, offset, LENGTH, StandardCharsets.ISO_8859_1);
+            throw new DateTimeParseException("Text '" + text + "' could not be parsed as yyyy-MM-dd", text, 0);
+        }
+        return date;
+    }
+
+    /**
+     * Parses ten characters starting at offset as a 'yyyy-MM-dd' date and returns its epoch day, without creating a
+     * {@link LocalDate}
+     *
+     * @param text source text
+     * @param offset index of the first year digit
+     * @return epoch day or {@link #INVALID_EPOCH_DAY}
+     */
+    public static long parseEpochDay(CharSequence text, int offset) {
+        Objects.checkFromIndexSize(offset, LENGTH, text.length());
+        return toEpochDay(parseFields(text, offset));
+    }
+
+    /**
+     * Parses ten ASCII bytes starting at offset as a 'yyyy-MM-dd' date and returns its epoch day, without creating a
+     * {@link LocalDate}
+     *
+     * @param bytes source bytes
+     * @param offset index of the first year digit
+     * @return epoch day or {@link #INVALID_EPOCH_DAY}
+     */
+    public static long parseEpochDay(byte[] bytes, int offset) {
+        Objects.checkFromIndexSize(offset, LENGTH, bytes.length);
+        return toEpochDay(parseFields(bytes, offset));
+    }
+
+    /**
+     * Parses ten ASCII bytes starting at an absolute index of the buffer as a 'yyyy-MM-dd' date and returns its epoch
+     * day. The buffer's position is not changed, so this can read straight from a memory mapped file
+     *
+     * @param buffer source buffer
+     * @param index absolute index of the first year digit
+     * @return epoch day or {@link #INVALID_EPOCH_DAY}
+     */
+    public static long parseEpochDay(ByteBuffer buffer, int index) {
+        Objects.checkFromIndexSize(index, LENGTH, buffer.limit());
+        return toEpochDay(parseFields(buffer, index));
+    }
+
+    /**
+     * Formats a date as 'yyyy-MM-dd'
+     *
+     * @param date date with a year from 0001 to 9999
+     * @return formatted date
+     */
+    public static String format(LocalDate date) {
+        byte[] bytes = new byte[LENGTH];
+        formatTo(date, bytes, 0);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Appends a date as 'yyyy-MM-dd' to a caller supplied {@link StringBuilder}
+     *
+     * @param date date with a year from 0001 to 9999
+     * @param builder builder to append to
+     * @return the builder
+     */
+    public static StringBuilder appendTo(LocalDate date, StringBuilder builder) {
+        int year = checkYear(date);
+        int month = date.getMonthValue();
+        int day = date.getDayOfMonth();
+
+        return builder
+                .append(digit(year / 1000))
+                .append(digit(year / 100 % 10))
+                .append(digit(year / 10 % 10))
+                .append(digit(year % 10))
+                .append('-')
+                .append(digit(month / 10))
+                .append(digit(month % 10))
+                .append('-')
+                .append(digit(day / 10))
+                .append(digit(day % 10));
+    }
+
+    /**
+     * Writes a date as ten ASCII 'yyyy-MM-dd' bytes starting at offset
+     *
+     * @param date date with a year from 0001 to 9999
+     * @param bytes destination bytes
+     * @param offset index to write the first year digit to
+     * @return index after the last byte written
+     */
+    public static int formatTo(LocalDate date, byte[] bytes, int offset) {
+        Objects.checkFromIndexSize(offset, LENGTH, bytes.length);
+        int year = checkYear(date);
+        int month = date.getMonthValue();
+        int day = date.getDayOfMonth();
+
+        bytes[offset] = (byte) digit(year / 1000);
+        bytes[offset + 1] = (byte) digit(year / 100 % 10);
+        bytes[offset + 2] = (byte) digit(year / 10 % 10);
+        bytes[offset + 3] = (byte) digit(year % 10);
+        bytes[offset + 4] = '-';
+        bytes[offset + 5] = (byte) digit(month / 10);
+        bytes[offset + 6] = (byte) digit(month % 10);
+        bytes[offset + 7] = '-';
+        bytes[offset + 8] = (byte) digit(day / 10);
+        bytes[offset + 9] = (byte) digit(day % 10);
+
+        return offset + LENGTH;
+    }
+
+    /**
+     * Returns true if dates in the given year can be handled by this class
+     *
+     * @param year proleptic year
+     * @return true for years 0001 to 9999
+     */
+    public static boolean isSupportedYear(int year) {
+        return year >= MIN_YEAR && year <= MAX_YEAR;
+    }
+
+    /**
+     * Extracts year, month and day as a packed int, or {@link #INVALID} if the layout or values are wrong
+     */
+    private static int parseFields(CharSequence text, int offset) {
+        if (text.charAt(offset + 4) != '-' || text.charAt(offset + 7) != '-') {
+            return INVALID;
+        }
+        int y1 = value(text.charAt(offset));
+        int y2 = value(text.charAt(offset + 1));
+        int y3 = value(text.charAt(offset + 2));
+        int y4 = value(text.charAt(offset + 3));
+        int m1 = value(text.charAt(offset + 5));
+        int m2 = value(text.charAt(offset + 6));
+        int d1 = value(text.charAt(offset + 8));
+        int d2 = value(text.charAt(offset + 9));
+
+        return pack(y1, y2, y3, y4, m1, m2, d1, d2);
+    }
+
+    private static int parseFields(byte[] bytes, int offset) {
+        if (bytes[offset + 4] != '-' || bytes[offset + 7] != '-') {
+            return INVALID;
+        }
+        int y1 = value(bytes[offset]);
+        int y2 = value(bytes[offset + 1]);
+        int y3 = value(bytes[offset + 2]);
+        int y4 = value(bytes[offset + 3]);
+        int m1 = value(bytes[offset + 5]);
+        int m2 = value(bytes[offset + 6]);
+        int d1 = value(bytes[offset + 8]);
+        int d2 = value(bytes[offset + 9]);
+
+        return pack(y1, y2, y3, y4, m1, m2, d1, d2);
+    }
+
+    private static int parseFields(ByteBuffer buffer, int offset) {
+        if (buffer.get(offset + 4) != '-' || buffer.get(offset + 7) != '-') {
+            return INVALID;
+        }
+        int y1 = value(buffer.get(offset));
+        int y2 = value(buffer.get(offset + 1));
+        int y3 = value(buffer.get(offset + 2));
+        int y4 = value(buffer.get(offset + 3));
+        int m1 = value(buffer.get(offset + 5));
+        int m2 = value(buffer.get(offset + 6));
+        int d1 = value(buffer.get(offset + 8));
+        int d2 = value(buffer.get(offset + 9));
+
+        return pack(y1, y2, y3, y4, m1, m2, d1, d2);
+    }
+
+    private static int pack(int y1, int y2, int y3, int y4, int m1, int m2, int d1, int d2) {
+        // any non digit maps to INVALID, so a negative OR means at least one bad character
+        if ((y1 | y2 | y3 | y4 | m1 | m2 | d1 | d2) < 0) {
+            return INVALID;
+        }
+        int year = y1 * 1000 + y2 * 100 + y3 * 10 + y4;
+        int month = m1 * 10 + m2;
+        int day = d1 * 10 + d2;
+
+        if (year < MIN_YEAR || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return INVALID;
+        }
+        return (year << 9) | (month << 5) | day;
+    }
+
+    private static LocalDate toLocalDate(int fields) {
+        if (fields == INVALID) {
+            return null;
+        }
+        return LocalDate.of(fields >>> 9, (fields >>> 5) & 0xF, fields & 0x1F);
+    }
+
+    /**
+     * Same calculation as {@link LocalDate#toEpochDay()}, for the positive years handled here
+     */
+    private static long toEpochDay(int fields) {
+        if (fields == INVALID) {
+            return INVALID_EPOCH_DAY;
+        }
+        int year = fields >>> 9;
+        int month = (fields >>> 5) & 0xF;
+        int day = fields & 0x1F;
+
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total -= isLeapYear(year) ? 1 : 2;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int value(int c) {
+        int digit = c - '0';
+        return (digit >= 0 && digit <= 9) ? digit : INVALID;
+    }
+
+    private static char digit(int value) {
+        return (char) ('0' + value);
+    }
+
+    private static int checkYear(LocalDate date) {
+        int year = date.getYear();
+        if (!isSupportedYear(year)) {
+            throw new DateTimeException("Year " + year + " cannot be formatted as yyyy-MM-dd");
+        }
+        return year;
+    }
+}
@@ -0,0 +1,101 @@
+package uk.gov.companieshouse.accountsdates.format;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Fixed layout parser for UTC ISO-8601 instants of the form 'yyyy-MM-ddTHH:mm:ssZ' or 'yyyy-MM-ddTHH:mm:ss.SSSZ'
+ * with one to nine fraction digits, as sent in "submitted on" timestamps. Anything outside that layout, including
+ * offsets other than 'Z' and leap seconds, is left to {@link Instant#parse(CharSequence)}.
+ */
+public final class IsoInstants {
+
+    /**
+     * Returned by {@link #parseEpochSecond(CharSequence)} when the text is not in the fixed layout
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final int SECONDS_LENGTH = 20;
+    private static final int MAX_LENGTH = 30;
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    private IsoInstants() {
+    }
+
+    /**
+     * Parses an instant, using the fixed layout parser when possible and {@link Instant#parse(CharSequence)} otherwise
+     *
+     * @param text ISO-8601 instant
+     * @return parsed instant
+     * @throws java.time.format.DateTimeParseException if the text is not a valid instant
+     */
+    public static Instant parse(CharSequence text) {
+        long epochSecond = parseEpochSecond(text);
+        if (epochSecond == INVALID) {
+            return Instant.parse(text);
+        }
+        return Instant.ofEpochSecond(epochSecond, parseNanos(text));
+    }
+
+    /**
+     * Returns the whole seconds since the epoch for an instant in the fixed layout, ignoring any fraction, or
+     * {@link #INVALID} if the text is not in the fixed layout or does not name a valid date and time
+     *
+     * @param text ISO-8601 instant
+     * @return epoch seconds or {@link #INVALID}
+     */
+    public static long parseEpochSecond(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        int length = text.length();
+        if (length != SECONDS_LENGTH && (length < SECONDS_LENGTH + 2 || length > MAX_LENGTH)) {
+            return INVALID;
+        }
+        if (text.charAt(10) != 'T' || text.charAt(13) != ':' || text.charAt(16) != ':'
+                || text.charAt(length - 1) != 'Z') {
+            return INVALID;
+        }
+        if (length > SECONDS_LENGTH) {
+            if (text.charAt(19) != '.') {
+                return INVALID;
+            }
+            for (int i = 20; i < length - 1; i++) {
+                if (digit(text.charAt(i)) < 0) {
+                    return INVALID;
+                }
+            }
+        }
+
+        long epochDay = IsoDates.parseEpochDay(text, 0);
+        if (epochDay == IsoDates.INVALID_EPOCH_DAY) {
+            return INVALID;
+        }
+        int hour = twoDigits(text, 11);
+        int minute = twoDigits(text, 14);
+        int second = twoDigits(text, 17);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return INVALID;
+        }
+
+        return epochDay * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second;
+    }
+
+    private static int parseNanos(CharSequence text) {
+        int nanos = 0;
+        int fractionEnd = text.length() - 1;
+        for (int i = 20; i < 29; i++) {
+            nanos = nanos * 10 + (i < fractionEnd ? text.charAt(i) - '0' : 0);
+        }
+        return nanos;
+    }
+
+    private static int twoDigits(CharSequence text, int offset) {
+        int tens = digit(text.charAt(offset));
+        int units = digit(text.charAt(offset + 1));
+        return (tens < 0 || units < 0) ? -1 : tens * 10 + units;
+    }
+
+    private static int digit(char c) {
+        return (c >= '0' && c <= '9') ? c - '0' : -1;
+    }
+
+}
@@ -1,27 +1,87 @@
 package uk.gov.companieshouse.accountsdates.impl;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.Period;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 
+import uk.gov.companieshouse.accountsdates.AccountingPeriod;
 import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.BalanceSheetPeriod;
+import uk.gov.companieshouse.accountsdates.DateAndTime;
+import uk.gov.companieshouse.accountsdates.DayRange;
+import uk.gov.companieshouse.accountsdates.PeriodRange;
+import uk.gov.companieshouse.accountsdates.format.DateFormatterRegistry;
+import uk.gov.companieshouse.accountsdates.format.DateTimeText;
+import uk.gov.companieshouse.accountsdates.format.DisplayDateTable;
+import uk.gov.companieshouse.accountsdates.format.IsoDates;
+import uk.gov.companieshouse.accountsdates.format.IsoInstants;
 
 public class AccountsDatesHelperImpl implements AccountsDatesHelper {
 
-    private static final String PERIOD_START = "periodStart";
-    private static final String PERIOD_END = "periodEnd";
-    private static final String DATE_FORMAT_YYYYMMDD = "yyyy-MM-dd";
-    private static final String DATE_FORMAT_D_MMMM_YYYY = "d MMMM yyyy";
+    private static final String DATE_FORMAT_YYYYMMDD = DateFormatterRegistry.DATE_FORMAT_YYYYMMDD;
+    private static final String DATE_FORMAT_D_MMMM_YYYY = DateFormatterRegistry.DATE_FORMAT_D_MMMM_YYYY;
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    private final DisplayDateTable displayDates;
+    /** Fixed zone, or null to read the system default zone on every call */
+    private final ZoneId zone;
+    private final CachedToday today;
+
+    /**
+     * Uses the system clock and the system default zone at the time of each call, so a later
+     * {@link java.util.TimeZone#setDefault} is followed
+     */
+    public AccountsDatesHelperImpl() {
+        this(null);
+    }
+
+    /**
+     * Uses the system clock and the system default zone at the time of each call
+     *
+     * @param displayDates optional table of pre-rendered display dates, used instead of the default locale formatter
+     *                     for display dates and balance sheet headings, or null
+     */
+    public AccountsDatesHelperImpl(DisplayDateTable displayDates) {
+        this.zone = null;
+        this.today = new CachedToday(Clock.systemUTC());
+        this.displayDates = displayDates;
+    }
+
+    /**
+     * @param clock clock used for today's date in {@link #getFutureDays(LocalDate, int)}
+     * @param zone zone used to convert the clock's instants and {@link Date}s to {@link LocalDate}s
+     */
+    public AccountsDatesHelperImpl(Clock clock, ZoneId zone) {
+        this(clock, zone, null);
+    }
+
+    /**
+     * @param clock clock used for today's date in {@link #getFutureDays(LocalDate, int)}
+     * @param zone zone used to convert the clock's instants and {@link Date}s to {@link LocalDate}s
+     * @param displayDates optional table of pre-rendered display dates, used instead of the default locale formatter
+     *                     for display dates and balance sheet headings, or null
+     */
+    public AccountsDatesHelperImpl(Clock clock, ZoneId zone, DisplayDateTable displayDates) {
+        this.zone = Objects.requireNonNull(zone, "zone");
+        this.today = new CachedToday(clock, zone);
+        this.displayDates = displayDates;
+    }
 
     /**
      * Takes a {@link String} date in format yyyy-MM-dd and converts it to a Java 8 {@link LocalDate}
@@ -31,7 +91,13 @@ public class AccountsDatesHelperImpl implements AccountsDatesHelper {
      */
     @Override
     public LocalDate convertStringToDate(String stringDate) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_FORMAT_YYYYMMDD);
+        LocalDate date = IsoDates.tryParse(stringDate);
+        if (date != null) {
+            return date;
+        }
+
+        // fall back to the formatter for its resolving and error reporting of anything the fixed width parser rejects
+        DateTimeFormatter formatter = DateFormatterRegistry.getFormatter(DATE_FORMAT_YYYYMMDD);
         
         return LocalDate.parse(stringDate, formatter);
     }
@@ -44,10 +110,9 @@ public class AccountsDatesHelperImpl implements AccountsDatesHelper {
      */
     @Override
     public LocalDate getLocalDatefromDateTimeString(String dateTimeString, ZoneId zoneId) {
-        Instant instant = Instant.parse(dateTimeString);
-        LocalDateTime localDateTime = LocalDateTime.ofInstant(instant, ZoneId.of(zoneId.getId()));
+        long localSecond = toLocalEpochSecond(dateTimeString, zoneId);
 
-        return localDateTime.toLocalDate();
+        return LocalDate.ofEpochDay(Math.floorDiv(localSecond, SECONDS_PER_DAY));
     }
 
     /**
@@ -58,7 +123,11 @@ public class AccountsDatesHelperImpl implements AccountsDatesHelper {
      */
     @Override
     public String convertDateToString(LocalDate date) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_FORMAT_YYYYMMDD);
+        if (IsoDates.isSupportedYear(date.getYear())) {
+            return IsoDates.format(date);
+        }
+
+        DateTimeFormatter formatter = DateFormatterRegistry.getFormatter(DATE_FORMAT_YYYYMMDD);
         return date.format(formatter);
     }
 
@@ -71,11 +140,28 @@ public class AccountsDatesHelperImpl implements AccountsDatesHelper {
     @Override
     public String convertLocalDateToDisplayDate(LocalDate date) {
 
-        DateTimeFormatter dateFormatDesired = DateTimeFormatter.ofPattern(DATE_FORMAT_D_MMMM_YYYY);
+        if (displayDates != null) {
+            return displayDates.displayDate(date);
+        }
+
+        DateTimeFormatter dateFormatDesired = DateFormatterRegistry.getFormatter(DATE_FORMAT_D_MMMM_YYYY);
 
         return date.format(dateFormatDesired);
     }
 
+    /**
+     * Formats a {@link LocalDate} as 'd MMMM yyyy' with month names in the given {@link Locale}, e.g. '5 Mawrth 2017'
+     * for {@link DateFormatterRegistry#WELSH}
+     *
+     * @param date
+     * @param locale
+     * @return
+     */
+    @Override
+    public String convertLocalDateToDisplayDate(LocalDate date, Locale locale) {
+        return date.format(DateFormatterRegistry.getDisplayDateFormatter(locale));
+    }
+
     /**
      * Returns a date and time object in the format 'D_MMMM_YYYY' 'h:mm a' from given "yyyy-MM-dd'T'HH:mm:ss.SSSZ" date/time string
      * 
@@ -84,23 +170,70 @@ public class AccountsDatesHelperImpl implements AccountsDatesHelper {
      */
     @Override
     public Map<String, String> getDateAndTime(String dateString, ZoneId zoneId ) {
-        Map<String, String> timeObject = new HashMap<>();
 
-        Instant instant = Instant.parse(dateString);
+        return getDisplayDateAndTime(dateString, zoneId).toMap();
+    }
+
+    /**
+     * Returns the display date and time in the formats 'd MMMM yyyy' and 'h:mm a' from given
+     * "yyyy-MM-dd'T'HH:mm:ss.SSSZ" date/time string. Both are written in one pass from the parsed fields, without
+     * building a {@link LocalDateTime} or running a formatter
+     *
+     * @param dateString
+     * @param zoneId
+     * @return
+     */
+    @Override
+    public DateAndTime getDisplayDateAndTime(String dateString, ZoneId zoneId) {
+        long localSecond = toLocalEpochSecond(dateString, zoneId);
+        LocalDate localDate = LocalDate.ofEpochDay(Math.floorDiv(localSecond, SECONDS_PER_DAY));
+        int secondOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY);
+
+        if (!IsoDates.isSupportedYear(localDate.getYear())) {
+            return formatDateAndTime(localDate.atTime(LocalTime.ofSecondOfDay(secondOfDay)));
+        }
+
+        DateTimeText dateTimeText = DateTimeText.forLocale(Locale.getDefault(Locale.Category.FORMAT));
+        StringBuilder text = new StringBuilder(32);
+        if (displayDates != null) {
+            displayDates.appendDisplayDate(localDate, text);
+        } else {
+            dateTimeText.appendDisplayDate(text, localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth());
+        }
+        int dateLength = text.length();
+        dateTimeText.appendTime(text, secondOfDay / 3600, secondOfDay / 60 % 60);
 
-        LocalDateTime localDateTime = LocalDateTime.ofInstant(instant, ZoneId.of(zoneId.getId()));
-        LocalDate localDate = localDateTime.toLocalDate();
+        return new DateAndTime(text.substring(0, dateLength), text.substring(dateLength));
+    }
 
-        DateTimeFormatter dateFormatDesired = DateTimeFormatter.ofPattern(DATE_FORMAT_D_MMMM_YYYY);
-        DateTimeFormatter timeFormatDesired = DateTimeFormatter.ofPattern("h:mm a");
+    /**
+     * Formats years the fixed layout writers do not handle
+     */
+    private DateAndTime formatDateAndTime(LocalDateTime localDateTime) {
+        DateTimeFormatter dateFormatDesired = DateFormatterRegistry.getFormatter(DATE_FORMAT_D_MMMM_YYYY);
+        DateTimeFormatter timeFormatDesired = DateFormatterRegistry.getFormatter(DateFormatterRegistry.TIME_FORMAT_H_MM_A);
 
-        String date = localDate.format(dateFormatDesired);
+        String date = localDateTime.toLocalDate().format(dateFormatDesired);
         String time = localDateTime.format(timeFormatDesired).toLowerCase();
 
-        timeObject.put("date", date);
-        timeObject.put("time", time);
+        return new DateAndTime(date, time);
+    }
 
-        return timeObject;
+    /**
+     * Parses an ISO-8601 instant and returns its seconds since the epoch in local time for the given zone
+     */
+    private static long toLocalEpochSecond(String dateTimeString, ZoneId zoneId) {
+        long epochSecond = IsoInstants.parseEpochSecond(dateTimeString);
+        if (epochSecond == IsoInstants.INVALID) {
+            epochSecond = Instant.parse(dateTimeString).getEpochSecond();
+        }
+
+        // a ZoneOffset builds new rules on every getRules() call, while region ids hold theirs once loaded
+        int offsetSeconds = zoneId instanceof ZoneOffset offset
+                ? offset.getTotalSeconds()
+                : zoneId.getRules().getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+
+        return epochSecond + offsetSeconds;
     }
 
     /**
@@ -115,9 +248,8 @@ public class AccountsDatesHelperImpl implements AccountsDatesHelper {
     @Override
     public String generateBalanceSheetHeading(String periodStartString, String periodEndString, boolean isSameYear) {
 
-        Map<String, String> resultDates = calculatePeriodRange(convertStringToDate(periodStartString), convertStringToDate(periodEndString), isSameYear);
-
-        return generateBalanceSheetHeading(resultDates);
+        return getPeriodRange(convertStringToDate(periodStartString), convertStringToDate(periodEndString), isSameYear)
+                .heading(displayDates);
     }
 
     /**
@@ -126,23 +258,27 @@ public class AccountsDatesHelperImpl implements AccountsDatesHelper {
     @Override
     public String generateBalanceSheetHeading(LocalDate periodStart, LocalDate periodEnd, boolean isSameYear) {
 
-        Map<String, String> resultDates = calculatePeriodRange(periodStart, periodEnd, isSameYear);
+        return getPeriodRange(periodStart, periodEnd, isSameYear).heading(displayDates);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> generateBalanceSheetHeadings(List<BalanceSheetPeriod> periods) {
 
-        return generateBalanceSheetHeading(resultDates);
+        return generateBalanceSheetHeadings(periods, ForkJoinPool.commonPool());
     }
 
     /**
-     * Generate balance sheet heading for a given calculated period date range
-     * @param resultDates calculated period date range
-     * @return balance sheet heading
+     * {@inheritDoc}
      */
-    private String generateBalanceSheetHeading(Map<String, String> resultDates) {
+    @Override
+    public List<String> generateBalanceSheetHeadings(List<BalanceSheetPeriod> periods, Executor executor) {
 
-        if (!resultDates.containsKey(PERIOD_START)) {
-            return resultDates.get(PERIOD_END);
-        } else {
-            return resultDates.get(PERIOD_START) + " to " + resultDates.get(PERIOD_END);
-        }
+        return BalanceSheetHeadingBatch.generate(periods,
+                period -> generateBalanceSheetHeading(period.periodStart(), period.periodEnd(), period.isSameYear()),
+                executor);
     }
 
     /**
@@ -156,13 +292,40 @@ public class AccountsDatesHelperImpl implements AccountsDatesHelper {
     @Override
     public Map<String, String> calculatePeriodRange(LocalDate periodStart, LocalDate periodEnd, boolean isSameYear) {
 
+        return getPeriodRange(periodStart, periodEnd, isSameYear).toMap(displayDates);
+    }
+
+    /**
+     * Calculate balance sheet heading display format depending on range between period start and end dates, without
+     * rendering any text
+     *
+     * @param periodStart accounting period start date
+     * @param periodEnd accounting period end date
+     * @param isSameYear
+     * @return
+     */
+    @Override
+    public PeriodRange getPeriodRange(LocalDate periodStart, LocalDate periodEnd, boolean isSameYear) {
+
+        long startEpochDay = periodStart.toEpochDay();
+        long endEpochDay = periodEnd.toEpochDay();
+        if (AccountingPeriod.canPack(startEpochDay, endEpochDay)) {
+            return AccountingPeriod.toPeriodRange(AccountingPeriod.pack(startEpochDay, endEpochDay), isSameYear);
+        }
+        return getPeriodRangeUnpacked(periodStart, periodEnd, isSameYear);
+    }
+
+    /**
+     * java.time calculation of {@link #getPeriodRange(LocalDate, LocalDate, boolean)} for dates too far from 1970 to
+     * pack into an {@link AccountingPeriod}
+     */
+    private static PeriodRange getPeriodRangeUnpacked(LocalDate periodStart, LocalDate periodEnd, boolean isSameYear) {
+
         int allowance = 15; // We allow year +/-15 days difference between dates to treat them as full year
                             // difference
         int yearRangeMax = 365 + allowance;
         int yearRangeMin = 365 - allowance;
 
-        Map<String, String> periodObject = new HashMap<>();
-
         // period returns years, hours and days between dates eg 1 year, 3 months and 4
         // days
         Period accountsPeriod = Period.between(periodStart, periodEnd);
@@ -173,18 +336,13 @@ public class AccountsDatesHelperImpl implements AccountsDatesHelper {
         // If the previous and current periods both end in the same year, then the
         // heading is output as a full date e.g. ‘5 January 2015’ ’31 December 2015’.
         if (isSameYear) {
-            periodObject.put(PERIOD_END, convertLocalDateToDisplayDate(periodEnd));
-
-            return periodObject;
+            return PeriodRange.fullDate(periodEnd);
         }
 
         // If the accounting period is twelve months (+/- 15 days - period start to period end)
         // Then the heading for the balance sheet figures is: ccyy e.g. 2015 2016
         else if (totalDaysDiff >= yearRangeMin && totalDaysDiff <= yearRangeMax) {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy");
-            periodObject.put(PERIOD_END, periodEnd.format(formatter));
-
-            return periodObject;
+            return PeriodRange.year(periodEnd);
         }
 
         // If the accounting period is less than twelve months (<350 days - period start to period end) or
@@ -205,11 +363,7 @@ public class AccountsDatesHelperImpl implements AccountsDatesHelper {
                 totalMonthsDiff = 1L;
             }
 
-            String monthsDiffString = (totalMonthsDiff == 1) ? " month" : " months";
-            periodObject.put(PERIOD_START, totalMonthsDiff + monthsDiffString);
-            periodObject.put(PERIOD_END, convertLocalDateToDisplayDate(periodEnd));
-
-            return periodObject;
+            return PeriodRange.months(totalMonthsDiff, periodEnd);
         }
     }
 
@@ -234,7 +388,7 @@ public class AccountsDatesHelperImpl implements AccountsDatesHelper {
      */
 
     public LocalDate convertDateToLocalDate(Date date) {
-        return date != null ? date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate() : null;
+        return date != null ? LocalDate.ofInstant(date.toInstant(), zone != null ? zone : ZoneId.systemDefault()) : null;
     }
 
     /**
@@ -264,7 +418,7 @@ public class AccountsDatesHelperImpl implements AccountsDatesHelper {
      */
     public List<LocalDate> getFutureDays(LocalDate currentDate, int numDays) {
         List<LocalDate> futureDays = new ArrayList<>();
-        LocalDate now = LocalDate.now();
+        LocalDate now = today.get();
         LocalDate nextDate;
 
         for (int i = 1; i <= numDays; i++) {
@@ -277,4 +431,20 @@ public class AccountsDatesHelperImpl implements AccountsDatesHelper {
         
         return futureDays;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DayRange getPreviousDayRange(LocalDate currentDate, int numDays) {
+        return DayRange.previousDays(currentDate, numDays);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DayRange getFutureDayRange(LocalDate currentDate, int numDays) {
+        return DayRange.futureDays(currentDate, numDays, today.get());
+    }
 }
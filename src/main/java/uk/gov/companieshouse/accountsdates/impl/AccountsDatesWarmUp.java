@@ -0,0 +1,93 @@
+package uk.gov.companieshouse.accountsdates.impl;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.BalanceSheetPeriod;
+import uk.gov.companieshouse.accountsdates.format.DateFormatterRegistry;
+
+/**
+ * Runs representative {@link AccountsDatesHelper} calls so the java.time locale data, the shared formatters and the
+ * balance sheet heading code are loaded and JIT compiled before live traffic arrives. Dates vary between iterations
+ * so calls through {@link CachingAccountsDatesHelper} reach the delegate as well as the cache. Calls through
+ * {@link MetricsAccountsDatesHelper} are recorded like any other.
+ */
+public final class AccountsDatesWarmUp {
+
+    /**
+     * Enough iterations for the hot methods to reach the optimising compiler
+     */
+    public static final int DEFAULT_ITERATIONS = 10_000;
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/London");
+    private static final LocalDate FIRST_PERIOD_END = LocalDate.of(2016, 12, 31);
+    private static final Instant FIRST_INSTANT = Instant.parse("2017-12-31T18:15:00Z");
+    private static final int DAYS = 730;
+    private static final int CALLS_PER_ITERATION = 20;
+
+    private final AccountsDatesHelper helper;
+    private final int iterations;
+
+    public AccountsDatesWarmUp(AccountsDatesHelper helper) {
+        this(helper, DEFAULT_ITERATIONS);
+    }
+
+    public AccountsDatesWarmUp(AccountsDatesHelper helper, int iterations) {
+        if (iterations < 0) {
+            throw new IllegalArgumentException("Iterations must not be negative: " + iterations);
+        }
+        this.helper = Objects.requireNonNull(helper, "helper");
+        this.iterations = iterations;
+    }
+
+    /**
+     * Runs the warm-up calls on the calling thread
+     *
+     * @return number of helper calls made
+     */
+    public long run() {
+        long calls = 0;
+        for (int i = 0; i < iterations; i++) {
+            LocalDate periodEnd = FIRST_PERIOD_END.plusDays(i % DAYS);
+            LocalDate yearStart = periodEnd.minusYears(1).plusDays(1);
+            LocalDate monthsStart = periodEnd.minusMonths(12 + i % 7).minusDays(i % 31);
+            String periodEndString = helper.convertDateToString(periodEnd);
+            String yearStartString = helper.convertDateToString(yearStart);
+            String dateTimeString = FIRST_INSTANT.plusSeconds(i * 61L).toString();
+
+            helper.generateBalanceSheetHeading(yearStartString, periodEndString, false);
+            helper.generateBalanceSheetHeading(monthsStart, periodEnd, false);
+            helper.generateBalanceSheetHeading(yearStart, periodEnd, true);
+            helper.calculatePeriodRange(monthsStart, periodEnd, false);
+            helper.getPeriodRange(yearStart, periodEnd, false);
+            helper.isSameYear(yearStart, periodEnd);
+            helper.convertStringToDate(periodEndString);
+            helper.convertLocalDateToDisplayDate(periodEnd);
+            helper.convertLocalDateToDisplayDate(periodEnd, DateFormatterRegistry.WELSH);
+            helper.convertLocalDateToDisplayDate(periodEnd, Locale.UK);
+            helper.getDateAndTime(dateTimeString, ZONE);
+            helper.getDisplayDateAndTime(dateTimeString, ZONE);
+            helper.getLocalDatefromDateTimeString(dateTimeString, ZONE);
+            helper.convertDateToLocalDate(Date.from(FIRST_INSTANT));
+            helper.getPreviousDays(periodEnd, 7);
+            helper.getFutureDays(periodEnd, 7);
+            helper.getPreviousDayRange(periodEnd, 7);
+            helper.getFutureDayRange(periodEnd, 7);
+            calls += CALLS_PER_ITERATION;
+
+            if (i % 100 == 0) {
+                helper.generateBalanceSheetHeadings(List.of(
+                        new BalanceSheetPeriod(yearStart, periodEnd, false),
+                        new BalanceSheetPeriod(monthsStart, periodEnd, false)));
+                calls++;
+            }
+        }
+        return calls;
+    }
+}
@@ -0,0 +1,104 @@
+package uk.gov.companieshouse.accountsdates.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+import uk.gov.companieshouse.accountsdates.BalanceSheetPeriod;
+
+/**
+ * Generates balance sheet headings for a batch of periods, splitting large batches across an {@link Executor}.
+ * Batches no larger than {@link #SEQUENTIAL_THRESHOLD} are generated on the calling thread.
+ */
+final class BalanceSheetHeadingBatch {
+
+    static final int SEQUENTIAL_THRESHOLD = 2048;
+
+    private BalanceSheetHeadingBatch() {
+    }
+
+    static List<String> generate(List<BalanceSheetPeriod> periods, Function<BalanceSheetPeriod, String> heading,
+            Executor executor) {
+
+        BalanceSheetPeriod[] input = periods.toArray(new BalanceSheetPeriod[0]);
+        String[] output = new String[input.length];
+
+        if (input.length <= SEQUENTIAL_THRESHOLD) {
+            generate(input, output, 0, input.length, heading);
+        } else if (executor instanceof ForkJoinPool pool) {
+            pool.invoke(new HeadingTask(input, output, 0, input.length, heading));
+        } else {
+            generateInChunks(input, output, heading, executor);
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(output));
+    }
+
+    private static void generateInChunks(BalanceSheetPeriod[] input, String[] output,
+            Function<BalanceSheetPeriod, String> heading, Executor executor) {
+
+        int chunks = (input.length + SEQUENTIAL_THRESHOLD - 1) / SEQUENTIAL_THRESHOLD;
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int from = chunk * SEQUENTIAL_THRESHOLD;
+            int to = Math.min(from + SEQUENTIAL_THRESHOLD, input.length);
+            futures[chunk] = CompletableFuture.runAsync(() -> generate(input, output, from, to, heading), executor);
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            // rethrow what the heading function threw, as the sequential path would
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void generate(BalanceSheetPeriod[] input, String[] output, int from, int to,
+            Function<BalanceSheetPeriod, String> heading) {
+
+        for (int i = from; i < to; i++) {
+            output[i] = heading.apply(input[i]);
+        }
+    }
+
+    private static final class HeadingTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient BalanceSheetPeriod[] input;
+        private final transient String[] output;
+        private final int from;
+        private final int to;
+        private final transient Function<BalanceSheetPeriod, String> heading;
+
+        HeadingTask(BalanceSheetPeriod[] input, String[] output, int from, int to,
+                Function<BalanceSheetPeriod, String> heading) {
+            this.input = input;
+            this.output = output;
+            this.from = from;
+            this.to = to;
+            this.heading = heading;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                generate(input, output, from, to, heading);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new HeadingTask(input, output, from, middle, heading),
+                    new HeadingTask(input, output, middle, to, heading));
+        }
+    }
+}
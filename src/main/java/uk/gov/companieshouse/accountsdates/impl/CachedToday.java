@@ -0,0 +1,65 @@
+package uk.gov.companieshouse.accountsdates.impl;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Today's date from a {@link Clock} in a fixed zone, or in the system default zone read on every call. The date is
+ * worked out once and then served from a cached copy until the clock passes the next midnight or the default zone
+ * changes, so callers in a tight loop only pay for reading the clock's millis and the default zone.
+ */
+final class CachedToday {
+
+    private final Clock clock;
+    private final ZoneId zone;
+
+    private volatile Day day;
+
+    /**
+     * @param clock clock to read
+     */
+    CachedToday(Clock clock) {
+        this(clock, null);
+    }
+
+    /**
+     * @param clock clock to read
+     * @param zone zone today's date is in, or null for the system default zone at the time of each call
+     */
+    CachedToday(Clock clock, ZoneId zone) {
+        this.clock = clock;
+        this.zone = zone;
+        this.day = dayAt(clock.millis(), zone());
+    }
+
+    LocalDate get() {
+        long now = clock.millis();
+        ZoneId currentZone = zone();
+        Day current = day;
+        if (now >= current.startMillis && now < current.endMillis && current.zone.equals(currentZone)) {
+            return current.date;
+        }
+        current = dayAt(now, currentZone);
+        day = current;
+        return current.date;
+    }
+
+    private ZoneId zone() {
+        return zone != null ? zone : ZoneId.systemDefault();
+    }
+
+    private static Day dayAt(long millis, ZoneId zone) {
+        LocalDate date = LocalDate.ofInstant(Instant.ofEpochMilli(millis), zone);
+        long startMillis = date.atStartOfDay(zone).toInstant().toEpochMilli();
+        long endMillis = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        return new Day(date, zone, startMillis, endMillis);
+    }
+
+    /**
+     * A date and the instants its day starts at (inclusive) and ends at (exclusive) in a zone
+     */
+    private record Day(LocalDate date, ZoneId zone, long startMillis, long endMillis) {
+    }
+}
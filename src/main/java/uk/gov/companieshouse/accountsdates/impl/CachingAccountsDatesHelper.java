@@ -0,0 +1,171 @@
+package uk.gov.companieshouse.accountsdates.impl;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.BalanceSheetPeriod;
+import uk.gov.companieshouse.accountsdates.DateAndTime;
+import uk.gov.companieshouse.accountsdates.DayRange;
+import uk.gov.companieshouse.accountsdates.PeriodRange;
+import uk.gov.companieshouse.accountsdates.cache.CacheStats;
+import uk.gov.companieshouse.accountsdates.cache.ConcurrentLruCache;
+
+/**
+ * {@link AccountsDatesHelper} decorator that memoizes balance sheet headings, keyed on period start, period end, the
+ * same year flag and the default format {@link Locale} the delegate takes month names from, so a heading cached
+ * before a change of default locale is not returned after it. Accounting periods repeat heavily across filings, so a
+ * small bounded cache serves most headings without recalculating the period. Every other method is passed straight
+ * to the delegate.
+ */
+public class CachingAccountsDatesHelper implements AccountsDatesHelper {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final AccountsDatesHelper delegate;
+    private final ConcurrentLruCache<HeadingKey, String> headings;
+
+    public CachingAccountsDatesHelper(AccountsDatesHelper delegate) {
+        this(delegate, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public CachingAccountsDatesHelper(AccountsDatesHelper delegate, int maximumSize) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.headings = new ConcurrentLruCache<>(maximumSize);
+    }
+
+    /**
+     * Returns hit, miss and eviction counts for the balance sheet heading cache
+     *
+     * @return cache statistics
+     */
+    public CacheStats getHeadingCacheStats() {
+        return headings.stats();
+    }
+
+    /**
+     * Removes every cached balance sheet heading
+     */
+    public void clearHeadingCache() {
+        headings.invalidateAll();
+    }
+
+    @Override
+    public String generateBalanceSheetHeading(String periodStartString, String periodEndString, boolean isSameYear) {
+        return generateBalanceSheetHeading(delegate.convertStringToDate(periodStartString),
+                delegate.convertStringToDate(periodEndString), isSameYear);
+    }
+
+    @Override
+    public String generateBalanceSheetHeading(LocalDate periodStart, LocalDate periodEnd, boolean isSameYear) {
+        return heading(new BalanceSheetPeriod(periodStart, periodEnd, isSameYear));
+    }
+
+    @Override
+    public List<String> generateBalanceSheetHeadings(List<BalanceSheetPeriod> periods) {
+        return generateBalanceSheetHeadings(periods, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public List<String> generateBalanceSheetHeadings(List<BalanceSheetPeriod> periods, Executor executor) {
+        return BalanceSheetHeadingBatch.generate(periods, this::heading, executor);
+    }
+
+    private String heading(BalanceSheetPeriod period) {
+        return headings.get(new HeadingKey(period, Locale.getDefault(Locale.Category.FORMAT)), this::computeHeading);
+    }
+
+    private String computeHeading(HeadingKey key) {
+        final BalanceSheetPeriod period = key.period();
+        return delegate.generateBalanceSheetHeading(period.periodStart(), period.periodEnd(), period.isSameYear());
+    }
+
+    @Override
+    public LocalDate convertStringToDate(String stringDate) {
+        return delegate.convertStringToDate(stringDate);
+    }
+
+    @Override
+    public LocalDate getLocalDatefromDateTimeString(String dateTimeString, ZoneId zoneId) {
+        return delegate.getLocalDatefromDateTimeString(dateTimeString, zoneId);
+    }
+
+    @Override
+    public String convertDateToString(LocalDate date) {
+        return delegate.convertDateToString(date);
+    }
+
+    @Override
+    public String convertLocalDateToDisplayDate(LocalDate date) {
+        return delegate.convertLocalDateToDisplayDate(date);
+    }
+
+    @Override
+    public String convertLocalDateToDisplayDate(LocalDate date, Locale locale) {
+        return delegate.convertLocalDateToDisplayDate(date, locale);
+    }
+
+    @Override
+    public Map<String, String> getDateAndTime(String dateString, ZoneId zoneId) {
+        return delegate.getDateAndTime(dateString, zoneId);
+    }
+
+    @Override
+    public DateAndTime getDisplayDateAndTime(String dateString, ZoneId zoneId) {
+        return delegate.getDisplayDateAndTime(dateString, zoneId);
+    }
+
+    @Override
+    public Map<String, String> calculatePeriodRange(LocalDate periodStart, LocalDate periodEnd, boolean isSameYear) {
+        return delegate.calculatePeriodRange(periodStart, periodEnd, isSameYear);
+    }
+
+    @Override
+    public PeriodRange getPeriodRange(LocalDate periodStart, LocalDate periodEnd, boolean isSameYear) {
+        return delegate.getPeriodRange(periodStart, periodEnd, isSameYear);
+    }
+
+    @Override
+    public boolean isSameYear(LocalDate date1, LocalDate date2) {
+        return delegate.isSameYear(date1, date2);
+    }
+
+    @Override
+    public LocalDate convertDateToLocalDate(Date date) {
+        return delegate.convertDateToLocalDate(date);
+    }
+
+    @Override
+    public List<LocalDate> getPreviousDays(LocalDate currentDate, int numDays) {
+        return delegate.getPreviousDays(currentDate, numDays);
+    }
+
+    @Override
+    public List<LocalDate> getFutureDays(LocalDate currentDate, int numDays) {
+        return delegate.getFutureDays(currentDate, numDays);
+    }
+
+    @Override
+    public DayRange getPreviousDayRange(LocalDate currentDate, int numDays) {
+        return delegate.getPreviousDayRange(currentDate, numDays);
+    }
+
+    @Override
+    public DayRange getFutureDayRange(LocalDate currentDate, int numDays) {
+        return delegate.getFutureDayRange(currentDate, numDays);
+    }
+
+    /**
+     * @param period balance sheet period
+     * @param locale default format locale when the heading was generated
+     */
+    private record HeadingKey(BalanceSheetPeriod period, Locale locale) {
+    }
+}
@@ -0,0 +1,238 @@
+package uk.gov.companieshouse.accountsdates.impl;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.BalanceSheetPeriod;
+import uk.gov.companieshouse.accountsdates.DateAndTime;
+import uk.gov.companieshouse.accountsdates.DayRange;
+import uk.gov.companieshouse.accountsdates.PeriodRange;
+import uk.gov.companieshouse.accountsdates.metrics.AccountsMetrics;
+import uk.gov.companieshouse.accountsdates.metrics.Operation;
+
+/**
+ * {@link AccountsDatesHelper} decorator that records the latency of every call, including calls that throw, as an
+ * {@link Operation} on an {@link AccountsMetrics}. Overloads of a method are recorded against the same operation.
+ * Wrap a {@link CachingAccountsDatesHelper} to measure cached calls, or be wrapped by one to measure only misses.
+ * The clock is not read while {@link AccountsMetrics#isEnabled()} is false.
+ */
+public class MetricsAccountsDatesHelper implements AccountsDatesHelper {
+
+    private final AccountsDatesHelper delegate;
+    private final AccountsMetrics metrics;
+
+    public MetricsAccountsDatesHelper(AccountsDatesHelper delegate, AccountsMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    @Override
+    public LocalDate convertStringToDate(String stringDate) {
+        long start = start();
+        try {
+            return delegate.convertStringToDate(stringDate);
+        } finally {
+            record(Operation.CONVERT_STRING_TO_DATE, start);
+        }
+    }
+
+    @Override
+    public LocalDate getLocalDatefromDateTimeString(String dateTimeString, ZoneId zoneId) {
+        long start = start();
+        try {
+            return delegate.getLocalDatefromDateTimeString(dateTimeString, zoneId);
+        } finally {
+            record(Operation.GET_LOCAL_DATE_FROM_DATE_TIME_STRING, start);
+        }
+    }
+
+    @Override
+    public String convertDateToString(LocalDate date) {
+        long start = start();
+        try {
+            return delegate.convertDateToString(date);
+        } finally {
+            record(Operation.CONVERT_DATE_TO_STRING, start);
+        }
+    }
+
+    @Override
+    public String convertLocalDateToDisplayDate(LocalDate date) {
+        long start = start();
+        try {
+            return delegate.convertLocalDateToDisplayDate(date);
+        } finally {
+            record(Operation.CONVERT_LOCAL_DATE_TO_DISPLAY_DATE, start);
+        }
+    }
+
+    @Override
+    public String convertLocalDateToDisplayDate(LocalDate date, Locale locale) {
+        long start = start();
+        try {
+            return delegate.convertLocalDateToDisplayDate(date, locale);
+        } finally {
+            record(Operation.CONVERT_LOCAL_DATE_TO_DISPLAY_DATE, start);
+        }
+    }
+
+    @Override
+    public Map<String, String> getDateAndTime(String dateString, ZoneId zoneId) {
+        long start = start();
+        try {
+            return delegate.getDateAndTime(dateString, zoneId);
+        } finally {
+            record(Operation.GET_DATE_AND_TIME, start);
+        }
+    }
+
+    @Override
+    public DateAndTime getDisplayDateAndTime(String dateString, ZoneId zoneId) {
+        long start = start();
+        try {
+            return delegate.getDisplayDateAndTime(dateString, zoneId);
+        } finally {
+            record(Operation.GET_DISPLAY_DATE_AND_TIME, start);
+        }
+    }
+
+    @Override
+    public String generateBalanceSheetHeading(String periodStartString, String periodEndString, boolean isSameYear) {
+        long start = start();
+        try {
+            return delegate.generateBalanceSheetHeading(periodStartString, periodEndString, isSameYear);
+        } finally {
+            record(Operation.GENERATE_BALANCE_SHEET_HEADING, start);
+        }
+    }
+
+    @Override
+    public String generateBalanceSheetHeading(LocalDate periodStart, LocalDate periodEnd, boolean isSameYear) {
+        long start = start();
+        try {
+            return delegate.generateBalanceSheetHeading(periodStart, periodEnd, isSameYear);
+        } finally {
+            record(Operation.GENERATE_BALANCE_SHEET_HEADING, start);
+        }
+    }
+
+    @Override
+    public List<String> generateBalanceSheetHeadings(List<BalanceSheetPeriod> periods) {
+        long start = start();
+        try {
+            return delegate.generateBalanceSheetHeadings(periods);
+        } finally {
+            record(Operation.GENERATE_BALANCE_SHEET_HEADINGS, start);
+        }
+    }
+
+    @Override
+    public List<String> generateBalanceSheetHeadings(List<BalanceSheetPeriod> periods, Executor executor) {
+        long start = start();
+        try {
+            return delegate.generateBalanceSheetHeadings(periods, executor);
+        } finally {
+            record(Operation.GENERATE_BALANCE_SHEET_HEADINGS, start);
+        }
+    }
+
+    @Override
+    public Map<String, String> calculatePeriodRange(LocalDate periodStart, LocalDate periodEnd, boolean isSameYear) {
+        long start = start();
+        try {
+            return delegate.calculatePeriodRange(periodStart, periodEnd, isSameYear);
+        } finally {
+            record(Operation.CALCULATE_PERIOD_RANGE, start);
+        }
+    }
+
+    @Override
+    public PeriodRange getPeriodRange(LocalDate periodStart, LocalDate periodEnd, boolean isSameYear) {
+        long start = start();
+        try {
+            return delegate.getPeriodRange(periodStart, periodEnd, isSameYear);
+        } finally {
+            record(Operation.GET_PERIOD_RANGE, start);
+        }
+    }
+
+    @Override
+    public boolean isSameYear(LocalDate date1, LocalDate date2) {
+        long start = start();
+        try {
+            return delegate.isSameYear(date1, date2);
+        } finally {
+            record(Operation.IS_SAME_YEAR, start);
+        }
+    }
+
+    @Override
+    public LocalDate convertDateToLocalDate(Date date) {
+        long start = start();
+        try {
+            return delegate.convertDateToLocalDate(date);
+        } finally {
+            record(Operation.CONVERT_DATE_TO_LOCAL_DATE, start);
+        }
+    }
+
+    @Override
+    public List<LocalDate> getPreviousDays(LocalDate currentDate, int numDays) {
+        long start = start();
+        try {
+            return delegate.getPreviousDays(currentDate, numDays);
+        } finally {
+            record(Operation.GET_PREVIOUS_DAYS, start);
+        }
+    }
+
+    @Override
+    public List<LocalDate> getFutureDays(LocalDate currentDate, int numDays) {
+        long start = start();
+        try {
+            return delegate.getFutureDays(currentDate, numDays);
+        } finally {
+            record(Operation.GET_FUTURE_DAYS, start);
+        }
+    }
+
+    @Override
+    public DayRange getPreviousDayRange(LocalDate currentDate, int numDays) {
+        long start = start();
+        try {
+            return delegate.getPreviousDayRange(currentDate, numDays);
+        } finally {
+            record(Operation.GET_PREVIOUS_DAY_RANGE, start);
+        }
+    }
+
+    @Override
+    public DayRange getFutureDayRange(LocalDate currentDate, int numDays) {
+        long start = start();
+        try {
+            return delegate.getFutureDayRange(currentDate, numDays);
+        } finally {
+            record(Operation.GET_FUTURE_DAY_RANGE, start);
+        }
+    }
+
+    /**
+     * Reads the clock only when metrics are enabled
+     */
+    private long start() {
+        return metrics.isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    private void record(Operation operation, long start) {
+        if (metrics.isEnabled()) {
+            metrics.recordOperation(operation, System.nanoTime() - start);
+        }
+    }
+}
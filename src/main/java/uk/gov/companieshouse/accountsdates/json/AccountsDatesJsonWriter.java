@@ -0,0 +1,195 @@
+package uk.gov.companieshouse.accountsdates.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.DateAndTime;
+import uk.gov.companieshouse.accountsdates.PeriodRange;
+import uk.gov.companieshouse.accountsdates.format.DisplayDateTable;
+
+/**
+ * Writes balance sheet headings, {@link PeriodRange}s and {@link DateAndTime}s straight to a Jackson
+ * {@link JsonGenerator} or {@link OutputStream}, producing the same JSON as serialising the maps returned by
+ * {@link AccountsDatesHelper#calculatePeriodRange} and {@link AccountsDatesHelper#getDateAndTime} with databind,
+ * but without building the maps or looking up serializers. Field names are encoded once, and lists are written as
+ * JSON arrays in one pass.
+ * <p>
+ * A writer holds no per-call state, so one instance can be shared between threads.
+ */
+public final class AccountsDatesJsonWriter {
+
+    private static final SerializableString PERIOD_START = new SerializedString(PeriodRange.PERIOD_START);
+    private static final SerializableString PERIOD_END = new SerializedString(PeriodRange.PERIOD_END);
+    private static final SerializableString DATE = new SerializedString(DateAndTime.DATE);
+    private static final SerializableString TIME = new SerializedString(DateAndTime.TIME);
+
+    /** Leaves output streams open for the caller to close */
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final DisplayDateTable displayDates;
+
+    public AccountsDatesJsonWriter() {
+        this(null);
+    }
+
+    /**
+     * @param displayDates table to render period end dates from, or null to use the
+     *                     {@link uk.gov.companieshouse.accountsdates.format.DateFormatterRegistry} formatters for the
+     *                     default locale
+     */
+    public AccountsDatesJsonWriter(DisplayDateTable displayDates) {
+        this.displayDates = displayDates;
+    }
+
+    /**
+     * Creates a UTF-8 generator that flushes but does not close the stream when it is closed
+     *
+     * @param out stream to write to
+     * @return generator
+     * @throws IOException if the generator cannot be created
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        return JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+    }
+
+    /**
+     * Writes the balance sheet heading as a JSON string
+     *
+     * @param generator generator to write to
+     * @param range period range
+     * @throws IOException if writing fails
+     */
+    public void writeHeading(JsonGenerator generator, PeriodRange range) throws IOException {
+        generator.writeString(range.heading(displayDates));
+    }
+
+    /**
+     * Writes the range as a {"periodStart", "periodEnd"} object, where periodStart is only present for ranges of
+     * kind {@link PeriodRange.Kind#MONTHS}
+     *
+     * @param generator generator to write to
+     * @param range period range
+     * @throws IOException if writing fails
+     */
+    public void writePeriodRange(JsonGenerator generator, PeriodRange range) throws IOException {
+        generator.writeStartObject();
+        if (range.kind() == PeriodRange.Kind.MONTHS) {
+            generator.writeFieldName(PERIOD_START);
+            generator.writeString(range.periodStartText());
+        }
+        generator.writeFieldName(PERIOD_END);
+        generator.writeString(range.periodEndText(displayDates));
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the date and time as a {"date", "time"} object
+     *
+     * @param generator generator to write to
+     * @param dateAndTime display date and time
+     * @throws IOException if writing fails
+     */
+    public void writeDateAndTime(JsonGenerator generator, DateAndTime dateAndTime) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(DATE);
+        generator.writeString(dateAndTime.date());
+        generator.writeFieldName(TIME);
+        generator.writeString(dateAndTime.time());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a JSON array of balance sheet headings, in list order
+     *
+     * @param generator generator to write to
+     * @param ranges period ranges
+     * @throws IOException if writing fails
+     */
+    public void writeHeadings(JsonGenerator generator, List<PeriodRange> ranges) throws IOException {
+        generator.writeStartArray(ranges, ranges.size());
+        for (PeriodRange range : ranges) {
+            writeHeading(generator, range);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes a JSON array of period range objects, in list order
+     *
+     * @param generator generator to write to
+     * @param ranges period ranges
+     * @throws IOException if writing fails
+     */
+    public void writePeriodRanges(JsonGenerator generator, List<PeriodRange> ranges) throws IOException {
+        generator.writeStartArray(ranges, ranges.size());
+        for (PeriodRange range : ranges) {
+            writePeriodRange(generator, range);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes a JSON array of date and time objects, in list order
+     *
+     * @param generator generator to write to
+     * @param datesAndTimes display dates and times
+     * @throws IOException if writing fails
+     */
+    public void writeDateAndTimes(JsonGenerator generator, List<DateAndTime> datesAndTimes) throws IOException {
+        generator.writeStartArray(datesAndTimes, datesAndTimes.size());
+        for (DateAndTime dateAndTime : datesAndTimes) {
+            writeDateAndTime(generator, dateAndTime);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeHeading(OutputStream out, PeriodRange range) throws IOException {
+        write(out, generator -> writeHeading(generator, range));
+    }
+
+    public void writePeriodRange(OutputStream out, PeriodRange range) throws IOException {
+        write(out, generator -> writePeriodRange(generator, range));
+    }
+
+    public void writeDateAndTime(OutputStream out, DateAndTime dateAndTime) throws IOException {
+        write(out, generator -> writeDateAndTime(generator, dateAndTime));
+    }
+
+    public void writeHeadings(OutputStream out, List<PeriodRange> ranges) throws IOException {
+        write(out, generator -> writeHeadings(generator, ranges));
+    }
+
+    public void writePeriodRanges(OutputStream out, List<PeriodRange> ranges) throws IOException {
+        write(out, generator -> writePeriodRanges(generator, ranges));
+    }
+
+    public void writeDateAndTimes(OutputStream out, List<DateAndTime> datesAndTimes) throws IOException {
+        write(out, generator -> writeDateAndTimes(generator, datesAndTimes));
+    }
+
+    /**
+     * Writes one value to the stream through a new generator, flushing but leaving the stream open
+     */
+    private static void write(OutputStream out, JsonValue value) throws IOException {
+        try (JsonGenerator generator = createGenerator(out)) {
+            value.writeTo(generator);
+        }
+    }
+
+    @FunctionalInterface
+    private interface JsonValue {
+
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+}
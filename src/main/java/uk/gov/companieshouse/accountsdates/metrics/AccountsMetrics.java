@@ -0,0 +1,44 @@
+package uk.gov.companieshouse.accountsdates.metrics;
+
+/**
+ * Service provider interface for recording call counts and latencies from the accounts dates helper and the
+ * authentication interceptor. Implementations must be thread safe and cheap, as they are called on every request.
+ * {@link #noop()} is used when nothing is configured, and {@link InMemoryAccountsMetrics} keeps histograms in memory
+ * and publishes them over JMX.
+ */
+public interface AccountsMetrics {
+
+    /**
+     * Returns the shared implementation that discards everything
+     *
+     * @return no-op metrics
+     */
+    static AccountsMetrics noop() {
+        return NoopAccountsMetrics.INSTANCE;
+    }
+
+    /**
+     * Records a completed {@link uk.gov.companieshouse.accountsdates.AccountsDatesHelper} call
+     *
+     * @param operation helper method called
+     * @param elapsedNanos time taken in nanoseconds
+     */
+    void recordOperation(Operation operation, long elapsedNanos);
+
+    /**
+     * Records an authentication interceptor decision
+     *
+     * @param decision outcome of the permission check
+     * @param elapsedNanos time taken to reach the decision in nanoseconds
+     */
+    void recordDecision(Decision decision, long elapsedNanos);
+
+    /**
+     * Returns false if recorded values are discarded, so callers can skip reading the clock
+     *
+     * @return true if values are recorded
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,26 @@
+package uk.gov.companieshouse.accountsdates.metrics;
+
+/**
+ * Outcomes of the authentication interceptor permission check
+ */
+public enum Decision {
+
+    /** Api key request, token permission checks skipped */
+    API_KEY_SKIP("apiKeySkip"),
+    /** Token has the company_accounts=update permission, or the permission required by the matching rule */
+    AUTHORISED("authorised"),
+    /** Token does not have the required permission */
+    UNAUTHORISED("unauthorised"),
+    /** No configured permission rule matches the request, so it is denied */
+    NO_RULE("noRule");
+
+    private final String metricName;
+
+    Decision(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+}
@@ -0,0 +1,132 @@
+package uk.gov.companieshouse.accountsdates.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * {@link AccountsMetrics} that keeps a {@link LatencyTimer} per operation and per decision in memory. The timers can
+ * be read directly or registered as MXBeans named
+ * {@code uk.gov.companieshouse.accounts:type=AccountsDatesHelper,name=<method>} and
+ * {@code uk.gov.companieshouse.accounts:type=AuthenticationInterceptor,name=<decision>}.
+ */
+public class InMemoryAccountsMetrics implements AccountsMetrics {
+
+    public static final String JMX_DOMAIN = "uk.gov.companieshouse.accounts";
+
+    private static final String OPERATION_TYPE = "AccountsDatesHelper";
+    private static final String DECISION_TYPE = "AuthenticationInterceptor";
+
+    private final LatencyTimer[] operations;
+    private final LatencyTimer[] decisions;
+
+    public InMemoryAccountsMetrics() {
+        Operation[] operationValues = Operation.values();
+        operations = new LatencyTimer[operationValues.length];
+        for (Operation operation : operationValues) {
+            operations[operation.ordinal()] = new LatencyTimer(operation.getMetricName());
+        }
+
+        Decision[] decisionValues = Decision.values();
+        decisions = new LatencyTimer[decisionValues.length];
+        for (Decision decision : decisionValues) {
+            decisions[decision.ordinal()] = new LatencyTimer(decision.getMetricName());
+        }
+    }
+
+    @Override
+    public void recordOperation(Operation operation, long elapsedNanos) {
+        operations[operation.ordinal()].record(elapsedNanos);
+    }
+
+    @Override
+    public void recordDecision(Decision decision, long elapsedNanos) {
+        decisions[decision.ordinal()].record(elapsedNanos);
+    }
+
+    public LatencyTimer getTimer(Operation operation) {
+        return operations[operation.ordinal()];
+    }
+
+    public LatencyTimer getTimer(Decision decision) {
+        return decisions[decision.ordinal()];
+    }
+
+    /**
+     * Clears every timer
+     */
+    public void reset() {
+        for (LatencyTimer timer : operations) {
+            timer.reset();
+        }
+        for (LatencyTimer timer : decisions) {
+            timer.reset();
+        }
+    }
+
+    /**
+     * Registers every timer with the platform MBean server
+     *
+     * @return names the timers were registered under
+     * @throws JMException if a timer cannot be registered, for example because the names are already taken
+     */
+    public List<ObjectName> registerMBeans() throws JMException {
+        return registerMBeans(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Registers every timer with the given MBean server
+     *
+     * @param server MBean server to register with
+     * @return names the timers were registered under
+     * @throws JMException if a timer cannot be registered, for example because the names are already taken
+     */
+    public List<ObjectName> registerMBeans(MBeanServer server) throws JMException {
+        List<ObjectName> names = new ArrayList<>(operations.length + decisions.length);
+        for (LatencyTimer timer : operations) {
+            names.add(register(server, OPERATION_TYPE, timer));
+        }
+        for (LatencyTimer timer : decisions) {
+            names.add(register(server, DECISION_TYPE, timer));
+        }
+        return names;
+    }
+
+    /**
+     * Removes every timer registered by {@link #registerMBeans(MBeanServer)}, ignoring any that are not registered
+     *
+     * @param server MBean server to unregister from
+     * @throws JMException if a timer cannot be unregistered
+     */
+    public void unregisterMBeans(MBeanServer server) throws JMException {
+        for (LatencyTimer timer : operations) {
+            unregister(server, objectName(OPERATION_TYPE, timer));
+        }
+        for (LatencyTimer timer : decisions) {
+            unregister(server, objectName(DECISION_TYPE, timer));
+        }
+    }
+
+    private static ObjectName register(MBeanServer server, String type, LatencyTimer timer) throws JMException {
+        ObjectName name = objectName(type, timer);
+        server.registerMBean(timer, name);
+        return name;
+    }
+
+    private static void unregister(MBeanServer server, ObjectName name) throws JMException {
+        try {
+            server.unregisterMBean(name);
+        } catch (InstanceNotFoundException e) {
+            // already unregistered
+        }
+    }
+
+    private static ObjectName objectName(String type, LatencyTimer timer) throws JMException {
+        return new ObjectName(JMX_DOMAIN + ":type=" + type + ",name=" + timer.getName());
+    }
+}
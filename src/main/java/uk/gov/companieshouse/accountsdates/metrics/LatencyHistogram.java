@@ -0,0 +1,105 @@
+package uk.gov.companieshouse.accountsdates.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free latency histogram using the same log-linear bucket layout as HdrHistogram: values below
+ * {@value #SUB_BUCKET_COUNT} get a bucket each, and every power of two above that is split into
+ * {@value #HALF_SUB_BUCKET_COUNT} equal buckets. Percentiles are therefore reported to within about 3% of the
+ * recorded value across the whole range of a long, using a fixed array of counts and no allocation per record.
+ */
+public class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 6;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    static final int BUCKET_COUNT = index(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a value, treating negative values as zero
+     *
+     * @param value value in nanoseconds
+     */
+    public void record(long value) {
+        long nonNegative = Math.max(0, value);
+        counts.incrementAndGet(index(nonNegative));
+        total.add(nonNegative);
+        max.accumulate(nonNegative);
+    }
+
+    /**
+     * Returns the count, mean, percentiles and maximum of the values recorded since creation or the last
+     * {@link #reset()}
+     *
+     * @return latency snapshot
+     */
+    public LatencySnapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        if (count == 0) {
+            return LatencySnapshot.EMPTY;
+        }
+
+        long maximum = max.get();
+        return new LatencySnapshot(count, (double) total.sum() / count,
+                valueAtQuantile(copy, count, 0.5, maximum),
+                valueAtQuantile(copy, count, 0.9, maximum),
+                valueAtQuantile(copy, count, 0.99, maximum),
+                valueAtQuantile(copy, count, 0.999, maximum),
+                maximum);
+    }
+
+    /**
+     * Clears all recorded values. Values recorded concurrently with a reset may or may not be kept
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        total.reset();
+        max.reset();
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // shift so that the top SUB_BUCKET_BITS bits remain, which lands in the upper half of the sub buckets
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return shift * HALF_SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    static long lowestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / HALF_SUB_BUCKET_COUNT - 1;
+        return (long) (index - shift * HALF_SUB_BUCKET_COUNT) << shift;
+    }
+
+    static long highestEquivalentValue(int index) {
+        return index == BUCKET_COUNT - 1 ? Long.MAX_VALUE : lowestEquivalentValue(index + 1) - 1;
+    }
+
+    private static long valueAtQuantile(long[] counts, long count, double quantile, long maximum) {
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), maximum);
+            }
+        }
+        return maximum;
+    }
+}
@@ -0,0 +1,17 @@
+package uk.gov.companieshouse.accountsdates.metrics;
+
+/**
+ * Point in time view of a {@link LatencyHistogram}. All values are in nanoseconds
+ *
+ * @param count number of values recorded
+ * @param mean mean of the recorded values
+ * @param p50 median
+ * @param p90 90th percentile
+ * @param p99 99th percentile
+ * @param p999 99.9th percentile
+ * @param max largest recorded value
+ */
+public record LatencySnapshot(long count, double mean, long p50, long p90, long p99, long p999, long max) {
+
+    public static final LatencySnapshot EMPTY = new LatencySnapshot(0, 0.0, 0, 0, 0, 0, 0);
+}
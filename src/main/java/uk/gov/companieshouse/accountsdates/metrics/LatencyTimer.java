@@ -0,0 +1,131 @@
+package uk.gov.companieshouse.accountsdates.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Call count, mean rate and latency histogram for a single operation or decision
+ * <p>
+ * The MXBean latency getters read one histogram snapshot, reused for {@link #MBEAN_SNAPSHOT_MAX_AGE_NANOS} after it
+ * is taken, so a JMX poll reading every attribute scans the histogram once and gets a mean, percentiles and max that
+ * agree with each other. {@link #snapshot()} always reads the histogram afresh.
+ */
+public class LatencyTimer implements LatencyTimerMXBean {
+
+    /**
+     * How long the latency getters reuse a snapshot, long enough to cover one poll of every attribute
+     */
+    public static final long MBEAN_SNAPSHOT_MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final String name;
+    private final LongSupplier nanoTime;
+    private final LongAdder count = new LongAdder();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private volatile long startNanos;
+    private volatile TimedSnapshot mbeanSnapshot;
+
+    public LatencyTimer(String name) {
+        this(name, System::nanoTime);
+    }
+
+    LatencyTimer(String name, LongSupplier nanoTime) {
+        this.name = name;
+        this.nanoTime = nanoTime;
+        this.startNanos = nanoTime.getAsLong();
+    }
+
+    /**
+     * Records one call
+     *
+     * @param elapsedNanos time taken in nanoseconds
+     */
+    public void record(long elapsedNanos) {
+        count.increment();
+        histogram.record(elapsedNanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the latency distribution recorded since creation or the last {@link #reset()}
+     *
+     * @return latency snapshot in nanoseconds
+     */
+    public LatencySnapshot snapshot() {
+        return histogram.snapshot();
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean number of calls per second since creation or the last {@link #reset()}
+     */
+    @Override
+    public double getRatePerSecond() {
+        long elapsed = nanoTime.getAsLong() - startNanos;
+        return elapsed <= 0 ? 0.0 : count.sum() * NANOS_PER_SECOND / elapsed;
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return mbeanSnapshot().mean() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return mbeanSnapshot().p50() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP90Micros() {
+        return mbeanSnapshot().p90() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return mbeanSnapshot().p99() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return mbeanSnapshot().p999() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return mbeanSnapshot().max() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public void reset() {
+        count.reset();
+        histogram.reset();
+        startNanos = nanoTime.getAsLong();
+        mbeanSnapshot = null;
+    }
+
+    /**
+     * Returns the snapshot shared by the latency getters, taking a new one once it is too old
+     */
+    private LatencySnapshot mbeanSnapshot() {
+        final long now = nanoTime.getAsLong();
+        TimedSnapshot current = mbeanSnapshot;
+        if (current == null || now - current.takenNanos() >= MBEAN_SNAPSHOT_MAX_AGE_NANOS) {
+            current = new TimedSnapshot(histogram.snapshot(), now);
+            mbeanSnapshot = current;
+        }
+        return current.snapshot();
+    }
+
+    private record TimedSnapshot(LatencySnapshot snapshot, long takenNanos) {
+    }
+}
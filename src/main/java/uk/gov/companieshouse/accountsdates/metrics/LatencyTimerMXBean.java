@@ -0,0 +1,26 @@
+package uk.gov.companieshouse.accountsdates.metrics;
+
+/**
+ * JMX view of a {@link LatencyTimer}. Latencies are reported in microseconds, all read from one snapshot of the
+ * histogram taken at most {@link LatencyTimer#MBEAN_SNAPSHOT_MAX_AGE_NANOS} earlier
+ */
+public interface LatencyTimerMXBean {
+
+    long getCount();
+
+    double getRatePerSecond();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP90Micros();
+
+    double getP99Micros();
+
+    double getP999Micros();
+
+    double getMaxMicros();
+
+    void reset();
+}
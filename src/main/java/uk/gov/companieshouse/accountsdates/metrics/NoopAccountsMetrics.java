@@ -0,0 +1,24 @@
+package uk.gov.companieshouse.accountsdates.metrics;
+
+/**
+ * Default {@link AccountsMetrics} that records nothing
+ */
+enum NoopAccountsMetrics implements AccountsMetrics {
+
+    INSTANCE;
+
+    @Override
+    public void recordOperation(Operation operation, long elapsedNanos) {
+        // nothing recorded
+    }
+
+    @Override
+    public void recordDecision(Decision decision, long elapsedNanos) {
+        // nothing recorded
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
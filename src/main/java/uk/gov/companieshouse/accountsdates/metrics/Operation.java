@@ -0,0 +1,35 @@
+package uk.gov.companieshouse.accountsdates.metrics;
+
+/**
+ * {@link uk.gov.companieshouse.accountsdates.AccountsDatesHelper} methods that metrics are recorded for. Overloads of
+ * the same method share an operation.
+ */
+public enum Operation {
+
+    CONVERT_STRING_TO_DATE("convertStringToDate"),
+    GET_LOCAL_DATE_FROM_DATE_TIME_STRING("getLocalDatefromDateTimeString"),
+    CONVERT_DATE_TO_STRING("convertDateToString"),
+    CONVERT_LOCAL_DATE_TO_DISPLAY_DATE("convertLocalDateToDisplayDate"),
+    GET_DATE_AND_TIME("getDateAndTime"),
+    GET_DISPLAY_DATE_AND_TIME("getDisplayDateAndTime"),
+    GENERATE_BALANCE_SHEET_HEADING("generateBalanceSheetHeading"),
+    GENERATE_BALANCE_SHEET_HEADINGS("generateBalanceSheetHeadings"),
+    CALCULATE_PERIOD_RANGE("calculatePeriodRange"),
+    GET_PERIOD_RANGE("getPeriodRange"),
+    IS_SAME_YEAR("isSameYear"),
+    CONVERT_DATE_TO_LOCAL_DATE("convertDateToLocalDate"),
+    GET_PREVIOUS_DAYS("getPreviousDays"),
+    GET_FUTURE_DAYS("getFutureDays"),
+    GET_PREVIOUS_DAY_RANGE("getPreviousDayRange"),
+    GET_FUTURE_DAY_RANGE("getFutureDayRange");
+
+    private final String metricName;
+
+    Operation(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+}
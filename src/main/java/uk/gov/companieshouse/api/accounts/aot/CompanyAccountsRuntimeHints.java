@@ -0,0 +1,54 @@
+package uk.gov.companieshouse.api.accounts.aot;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.util.ClassUtils;
+
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesHelperImpl;
+import uk.gov.companieshouse.accountsdates.impl.CachingAccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.impl.MetricsAccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.metrics.LatencyTimer;
+import uk.gov.companieshouse.accountsdates.metrics.LatencyTimerMXBean;
+import uk.gov.companieshouse.api.accounts.interceptor.AuthenticationInterceptor;
+
+/**
+ * Spring AOT runtime hints for the library, registered through META-INF/spring/aot.factories so they apply whether
+ * or not the auto-configuration is used. They cover:
+ * <ul>
+ * <li>constructors of the helper and interceptor, which applications often declare as beans themselves</li>
+ * <li>the {@link LatencyTimerMXBean} methods JMX introspects when the metrics are registered as MBeans</li>
+ * <li>the Vector API period classifier, which is loaded by name, when the library was built with it</li>
+ * <li>the WebFlux filter, when WebFlux is on the classpath</li>
+ * </ul>
+ */
+public class CompanyAccountsRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final String VECTOR_PERIOD_CLASSIFIER = "uk.gov.companieshouse.accountsdates.batch.VectorPeriodClassifier";
+    static final String AUTHENTICATION_WEB_FILTER = "uk.gov.companieshouse.api.accounts.filter.AuthenticationWebFilter";
+
+    private static final String WEB_FILTER = "org.springframework.web.server.WebFilter";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection()
+                .registerType(AccountsDatesHelperImpl.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(CachingAccountsDatesHelper.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(MetricsAccountsDatesHelper.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(AuthenticationInterceptor.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS)
+                .registerType(LatencyTimerMXBean.class, MemberCategory.INVOKE_PUBLIC_METHODS)
+                .registerType(LatencyTimer.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        if (ClassUtils.isPresent(VECTOR_PERIOD_CLASSIFIER, classLoader)) {
+            hints.reflection().registerType(TypeReference.of(VECTOR_PERIOD_CLASSIFIER),
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        if (ClassUtils.isPresent(WEB_FILTER, classLoader)) {
+            hints.reflection().registerType(TypeReference.of(AUTHENTICATION_WEB_FILTER),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
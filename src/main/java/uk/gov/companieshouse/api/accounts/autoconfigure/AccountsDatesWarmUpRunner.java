@@ -0,0 +1,39 @@
+package uk.gov.companieshouse.api.accounts.autoconfigure;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesWarmUp;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+
+/**
+ * Runs {@link AccountsDatesWarmUp} at startup. Spring Boot calls application runners before it publishes the
+ * ApplicationReadyEvent that moves the readiness state to accepting traffic, so the first live request finds the
+ * helper already compiled.
+ */
+public class AccountsDatesWarmUpRunner implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("company-accounts-library");
+
+    private final AccountsDatesWarmUp warmUp;
+
+    public AccountsDatesWarmUpRunner(AccountsDatesWarmUp warmUp) {
+        this.warmUp = warmUp;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        final long start = System.nanoTime();
+        final long calls = warmUp.run();
+
+        final Map<String, Object> logMap = new HashMap<>();
+        logMap.put("calls", calls);
+        logMap.put("duration_ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        LOGGER.info("AccountsDatesHelper warm-up complete", logMap);
+    }
+}
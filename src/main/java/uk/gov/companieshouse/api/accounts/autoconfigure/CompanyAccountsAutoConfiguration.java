@@ -0,0 +1,124 @@
+package uk.gov.companieshouse.api.accounts.autoconfigure;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesHelperImpl;
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesWarmUp;
+import uk.gov.companieshouse.accountsdates.impl.CachingAccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.impl.MetricsAccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.metrics.AccountsMetrics;
+import uk.gov.companieshouse.api.accounts.filter.AuthenticationWebFilter;
+import uk.gov.companieshouse.api.accounts.interceptor.AuthenticationInterceptor;
+import uk.gov.companieshouse.api.accounts.interceptor.CompanyAccountsAuthorisation;
+import uk.gov.companieshouse.api.accounts.interceptor.PermissionDecisionCache;
+import uk.gov.companieshouse.api.accounts.interceptor.PermissionRules;
+
+/**
+ * Spring Boot auto-configuration exposing a singleton {@link AccountsDatesHelper} and, in servlet applications, an
+ * {@link AuthenticationInterceptor} or, in reactive applications, an {@link AuthenticationWebFilter}. Each bean backs
+ * off when the application defines its own. An {@link AccountsMetrics} bean is passed to all of them, and wraps the
+ * helper in {@link MetricsAccountsDatesHelper} when enabled.
+ * <p>
+ * The interceptor is only created, not registered; applications still add it to their InterceptorRegistry for
+ * the paths it protects, whereas WebFlux applies every WebFilter bean to every exchange. The
+ * company-accounts.interceptor settings apply to either: rules replace the single company_accounts=update check with
+ * {@link PermissionRules}, and decision-cache-enabled=true gives it a
+ * {@link PermissionDecisionCache} bean sized by the decision-cache-maximum-size and decision-cache-time-to-live
+ * properties. Setting company-accounts.warm-up.enabled=true runs {@link AccountsDatesWarmUp}
+ * before the application is ready, against a separate {@link AccountsDatesHelperImpl} so the warm-up calls neither
+ * fill the helper bean's cache nor appear in its metrics.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(CompanyAccountsProperties.class)
+public class CompanyAccountsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AccountsMetrics accountsMetrics() {
+        return AccountsMetrics.noop();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AccountsDatesHelper accountsDatesHelper(AccountsMetrics accountsMetrics,
+            CompanyAccountsProperties properties) {
+        AccountsDatesHelper helper = new AccountsDatesHelperImpl();
+        if (properties.getHelper().isCacheEnabled()) {
+            helper = new CachingAccountsDatesHelper(helper, properties.getHelper().getCacheMaximumSize());
+        }
+        if (accountsMetrics.isEnabled()) {
+            helper = new MetricsAccountsDatesHelper(helper, accountsMetrics);
+        }
+        return helper;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = CompanyAccountsProperties.PREFIX + ".warm-up", name = "enabled",
+            havingValue = "true")
+    public AccountsDatesWarmUpRunner accountsDatesWarmUpRunner(CompanyAccountsProperties properties) {
+        return new AccountsDatesWarmUpRunner(
+                new AccountsDatesWarmUp(new AccountsDatesHelperImpl(), properties.getWarmUp().getIterations()));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = CompanyAccountsProperties.PREFIX + ".interceptor", name = "decision-cache-enabled",
+            havingValue = "true")
+    public PermissionDecisionCache permissionDecisionCache(CompanyAccountsProperties properties) {
+        final CompanyAccountsProperties.Interceptor interceptor = properties.getInterceptor();
+        return new PermissionDecisionCache(interceptor.getDecisionCacheMaximumSize(),
+                interceptor.getDecisionCacheTimeToLive());
+    }
+
+    /**
+     * Kept separate so non-servlet applications never load the interceptor's servlet types
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AuthenticationInterceptor authenticationInterceptor(AccountsMetrics accountsMetrics,
+                CompanyAccountsProperties properties, ObjectProvider<PermissionDecisionCache> decisionCache) {
+            final CompanyAccountsProperties.Interceptor interceptor = properties.getInterceptor();
+            return new AuthenticationInterceptor(accountsMetrics,
+                    CompanyAccountsAuthorisation.isDebugLoggingEnabled(),
+                    interceptor.getDeniedSampleRate(),
+                    decisionCache.getIfAvailable(),
+                    permissionRules(interceptor));
+        }
+    }
+
+    /**
+     * Kept separate so servlet applications never load the filter's WebFlux types
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactiveConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AuthenticationWebFilter authenticationWebFilter(AccountsMetrics accountsMetrics,
+                CompanyAccountsProperties properties, ObjectProvider<PermissionDecisionCache> decisionCache) {
+            final CompanyAccountsProperties.Interceptor interceptor = properties.getInterceptor();
+            return new AuthenticationWebFilter(accountsMetrics,
+                    CompanyAccountsAuthorisation.isDebugLoggingEnabled(),
+                    interceptor.getDeniedSampleRate(),
+                    decisionCache.getIfAvailable(),
+                    permissionRules(interceptor));
+        }
+    }
+
+    private static PermissionRules permissionRules(CompanyAccountsProperties.Interceptor interceptor) {
+        return interceptor.getRules().isEmpty() ? null : PermissionRules.parse(interceptor.getRules());
+    }
+}
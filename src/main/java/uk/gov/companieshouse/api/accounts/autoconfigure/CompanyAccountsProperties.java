@@ -0,0 +1,157 @@
+package uk.gov.companieshouse.api.accounts.autoconfigure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesWarmUp;
+import uk.gov.companieshouse.accountsdates.impl.CachingAccountsDatesHelper;
+import uk.gov.companieshouse.api.accounts.interceptor.AuthenticationInterceptor;
+import uk.gov.companieshouse.api.accounts.interceptor.PermissionDecisionCache;
+import uk.gov.companieshouse.api.accounts.interceptor.PermissionRule;
+
+/**
+ * Settings for {@link CompanyAccountsAutoConfiguration}, under the company-accounts prefix
+ */
+@ConfigurationProperties(prefix = CompanyAccountsProperties.PREFIX)
+public class CompanyAccountsProperties {
+
+    public static final String PREFIX = "company-accounts";
+
+    private final Helper helper = new Helper();
+    private final Interceptor interceptor = new Interceptor();
+    private final WarmUp warmUp = new WarmUp();
+
+    public Helper getHelper() {
+        return helper;
+    }
+
+    public Interceptor getInterceptor() {
+        return interceptor;
+    }
+
+    public WarmUp getWarmUp() {
+        return warmUp;
+    }
+
+    public static class Helper {
+
+        /**
+         * Whether balance sheet headings are cached by {@link CachingAccountsDatesHelper}
+         */
+        private boolean cacheEnabled;
+
+        private int cacheMaximumSize = CachingAccountsDatesHelper.DEFAULT_MAXIMUM_SIZE;
+
+        public boolean isCacheEnabled() {
+            return cacheEnabled;
+        }
+
+        public void setCacheEnabled(boolean cacheEnabled) {
+            this.cacheEnabled = cacheEnabled;
+        }
+
+        public int getCacheMaximumSize() {
+            return cacheMaximumSize;
+        }
+
+        public void setCacheMaximumSize(int cacheMaximumSize) {
+            this.cacheMaximumSize = cacheMaximumSize;
+        }
+    }
+
+    /**
+     * Settings for the {@link AuthenticationInterceptor} in servlet applications, or the
+     * {@link uk.gov.companieshouse.api.accounts.filter.AuthenticationWebFilter} in reactive ones
+     */
+    public static class Interceptor {
+
+        /**
+         * Log one in this many unauthorised requests at info level, or 0 for none
+         */
+        private int deniedSampleRate = AuthenticationInterceptor.DEFAULT_DENIED_SAMPLE_RATE;
+
+        /**
+         * Permissions required by method and path, in the {@link PermissionRule#parse(String)} format. When empty
+         * every request needs company_accounts=update
+         */
+        private List<String> rules = new ArrayList<>();
+
+        /**
+         * Whether permission decisions are reused through a {@link PermissionDecisionCache}
+         */
+        private boolean decisionCacheEnabled;
+
+        private int decisionCacheMaximumSize = PermissionDecisionCache.DEFAULT_MAXIMUM_SIZE;
+
+        private Duration decisionCacheTimeToLive = PermissionDecisionCache.DEFAULT_TIME_TO_LIVE;
+
+        public int getDeniedSampleRate() {
+            return deniedSampleRate;
+        }
+
+        public void setDeniedSampleRate(int deniedSampleRate) {
+            this.deniedSampleRate = deniedSampleRate;
+        }
+
+        public List<String> getRules() {
+            return rules;
+        }
+
+        public void setRules(List<String> rules) {
+            this.rules = rules;
+        }
+
+        public boolean isDecisionCacheEnabled() {
+            return decisionCacheEnabled;
+        }
+
+        public void setDecisionCacheEnabled(boolean decisionCacheEnabled) {
+            this.decisionCacheEnabled = decisionCacheEnabled;
+        }
+
+        public int getDecisionCacheMaximumSize() {
+            return decisionCacheMaximumSize;
+        }
+
+        public void setDecisionCacheMaximumSize(int decisionCacheMaximumSize) {
+            this.decisionCacheMaximumSize = decisionCacheMaximumSize;
+        }
+
+        public Duration getDecisionCacheTimeToLive() {
+            return decisionCacheTimeToLive;
+        }
+
+        public void setDecisionCacheTimeToLive(Duration decisionCacheTimeToLive) {
+            this.decisionCacheTimeToLive = decisionCacheTimeToLive;
+        }
+    }
+
+    public static class WarmUp {
+
+        /**
+         * Whether representative helper calls are run before the application reports itself ready
+         */
+        private boolean enabled;
+
+        private int iterations = AccountsDatesWarmUp.DEFAULT_ITERATIONS;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public void setIterations(int iterations) {
+            this.iterations = iterations;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package uk.gov.companieshouse.api.accounts.filter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import reactor.core.publisher.Mono;
+import uk.gov.companieshouse.accountsdates.metrics.AccountsMetrics;
+import uk.gov.companieshouse.api.accounts.interceptor.AuthenticationInterceptor;
+import uk.gov.companieshouse.api.accounts.interceptor.CompanyAccountsAuthorisation;
+import uk.gov.companieshouse.api.accounts.interceptor.DeniedRequestSampler;
+import uk.gov.companieshouse.api.accounts.interceptor.PermissionDecisionCache;
+import uk.gov.companieshouse.api.accounts.interceptor.PermissionRule;
+import uk.gov.companieshouse.api.accounts.interceptor.PermissionRules;
+import uk.gov.companieshouse.api.util.security.EricConstants;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+
+/**
+ * Reactive counterpart to {@link AuthenticationInterceptor} for WebFlux applications, applying the same
+ * {@link CompanyAccountsAuthorisation} rules. The decision is made in memory, so nothing blocks the event loop:
+ * allowed exchanges continue down the chain and unauthorised exchanges are completed with a 401.
+ * <p>
+ * There is no reactive TokenPermissionsInterceptor to set up TokenPermissions, so permissions are read directly from
+ * the ERIC-Authorised-Token-Permissions header it would parse. An exchange without the header has no permissions.
+ */
+public class AuthenticationWebFilter extends CompanyAccountsAuthorisation<ServerWebExchange> implements WebFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("company-accounts-library");
+
+    private final Logger logger;
+    private final boolean debugEnabled;
+    private final DeniedRequestSampler deniedSampler;
+
+    public AuthenticationWebFilter() {
+        this(AccountsMetrics.noop());
+    }
+
+    /**
+     * @param metrics receives the outcome and latency of every permission check
+     */
+    public AuthenticationWebFilter(AccountsMetrics metrics) {
+        this(metrics, CompanyAccountsAuthorisation.isDebugLoggingEnabled(),
+                AuthenticationInterceptor.DEFAULT_DENIED_SAMPLE_RATE, null);
+    }
+
+    /**
+     * @param metrics receives the outcome and latency of every permission check
+     * @param debugEnabled whether every decision is logged at debug level
+     * @param deniedSampleRate log one in this many unauthorised requests at info level, or 0 for none
+     * @param decisionCache reuses decisions for repeated ERIC-Authorised-Token-Permissions headers, or null to
+     *                      check the permissions header on every request
+     */
+    public AuthenticationWebFilter(AccountsMetrics metrics, boolean debugEnabled, int deniedSampleRate,
+            PermissionDecisionCache decisionCache) {
+        this(metrics, debugEnabled, deniedSampleRate, decisionCache, null);
+    }
+
+    /**
+     * @param metrics receives the outcome and latency of every permission check
+     * @param debugEnabled whether every decision is logged at debug level
+     * @param deniedSampleRate log one in this many unauthorised requests at info level, or 0 for none
+     * @param decisionCache reuses decisions for repeated ERIC-Authorised-Token-Permissions headers, or null
+     * @param rules permissions required by method and path, denying exchanges none match, or null to require
+     *              company_accounts=update for every exchange
+     */
+    public AuthenticationWebFilter(AccountsMetrics metrics, boolean debugEnabled, int deniedSampleRate,
+            PermissionDecisionCache decisionCache, PermissionRules rules) {
+        this(metrics, LOGGER, debugEnabled, deniedSampleRate, decisionCache, rules);
+    }
+
+    AuthenticationWebFilter(AccountsMetrics metrics, Logger logger, boolean debugEnabled, int deniedSampleRate,
+            PermissionDecisionCache decisionCache, PermissionRules rules) {
+        super(metrics, decisionCache, rules);
+        this.logger = Objects.requireNonNull(logger, "logger");
+        this.debugEnabled = debugEnabled;
+        this.deniedSampler = new DeniedRequestSampler(deniedSampleRate);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        final PermissionRule rule = findRule(exchange);
+        switch (decide(exchange, rule)) {
+            case API_KEY_SKIP:
+                if (debugEnabled) {
+                    logger.debug("AuthenticationWebFilter skipping token permission checks for api key request",
+                            new HashMap<>());
+                }
+                return chain.filter(exchange);
+            case NO_RULE:
+                if (debugEnabled) {
+                    logger.debug("AuthenticationWebFilter unauthorised, no permission rule for exchange", new HashMap<>());
+                }
+                exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                return exchange.getResponse().setComplete();
+            case AUTHORISED:
+                if (debugEnabled) {
+                    logger.debug("AuthenticationWebFilter authorised with " + rule.permission() + " permission",
+                            debugMap(exchange, rule, true));
+                }
+                return chain.filter(exchange);
+            default:
+                if (debugEnabled) {
+                    logger.debug("AuthenticationWebFilter unauthorised", debugMap(exchange, rule, false));
+                }
+                logDeniedSample(exchange, rule);
+                exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                return exchange.getResponse().setComplete();
+        }
+    }
+
+    private static Map<String, Object> debugMap(ServerWebExchange exchange, PermissionRule rule, boolean hasPermission) {
+        final Map<String, Object> debugMap = new HashMap<>();
+        debugMap.put("request_method", exchange.getRequest().getMethod().name());
+        debugMap.put("path", exchange.getRequest().getPath().value());
+        debugMap.put("has_" + rule.permissionKey() + "_" + rule.permissionValue() + "_permission", hasPermission);
+        return debugMap;
+    }
+
+    private void logDeniedSample(ServerWebExchange exchange, PermissionRule rule) {
+        final long denied = deniedSampler.sample();
+        if (denied != DeniedRequestSampler.NOT_SAMPLED) {
+            final Map<String, Object> logMap = debugMap(exchange, rule, false);
+            logMap.put("denied_count", denied);
+            logMap.put("sample_rate", deniedSampler.getSampleRate());
+            logger.info("AuthenticationWebFilter unauthorised (sampled)", logMap);
+        }
+    }
+
+    @Override
+    protected String getMethod(ServerWebExchange exchange) {
+        return exchange.getRequest().getMethod().name();
+    }
+
+    @Override
+    protected PathContainer getPath(ServerWebExchange exchange) {
+        return exchange.getRequest().getPath().pathWithinApplication();
+    }
+
+    @Override
+    protected String getIdentityType(ServerWebExchange exchange) {
+        return exchange.getRequest().getHeaders().getFirst(EricConstants.ERIC_IDENTITY_TYPE);
+    }
+
+    @Override
+    protected String getTokenPermissionsHeader(ServerWebExchange exchange) {
+        return exchange.getRequest().getHeaders().getFirst(EricConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS);
+    }
+
+    /**
+     * Always true, as the permissions come from the ERIC-Authorised-Token-Permissions header rather than being set up
+     * by an earlier filter
+     */
+    @Override
+    protected boolean hasTokenPermissions(ServerWebExchange exchange) {
+        return true;
+    }
+
+    @Override
+    protected boolean hasPermission(ServerWebExchange exchange, String permissionKey, String permissionValue) {
+        return TokenPermissionsHeader.hasPermission(getTokenPermissionsHeader(exchange), permissionKey,
+                permissionValue);
+    }
+}
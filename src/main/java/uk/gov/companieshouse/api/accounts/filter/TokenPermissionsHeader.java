@@ -0,0 +1,57 @@
+package uk.gov.companieshouse.api.accounts.filter;
+
+/**
+ * Reads permissions from an ERIC-Authorised-Token-Permissions header, in the same format TokenPermissionsInterceptor
+ * parses for servlet requests: space separated {@code key=value1,value2} entries, e.g.
+ * {@code company_number=00006400 company_accounts=read,update}. The header is scanned in place, so checking a
+ * permission allocates nothing.
+ */
+final class TokenPermissionsHeader {
+
+    private TokenPermissionsHeader() {
+    }
+
+    /**
+     * @param header ERIC-Authorised-Token-Permissions header value, or null
+     * @param key permission key
+     * @param value permission value
+     * @return true if the header grants value for key, false if it does not or there is no header
+     */
+    static boolean hasPermission(String header, String key, String value) {
+        if (header == null) {
+            return false;
+        }
+        final int length = header.length();
+        int start = 0;
+        while (start < length) {
+            int end = header.indexOf(' ', start);
+            if (end < 0) {
+                end = length;
+            }
+            final int valuesStart = start + key.length() + 1;
+            if (valuesStart <= end && header.startsWith(key, start) && header.charAt(valuesStart - 1) == '=') {
+                return containsValue(header, valuesStart, end, value);
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if value is one of the comma separated values between start and end
+     */
+    private static boolean containsValue(String header, int start, int end, String value) {
+        int valueStart = start;
+        while (valueStart <= end) {
+            int valueEnd = header.indexOf(',', valueStart);
+            if (valueEnd < 0 || valueEnd > end) {
+                valueEnd = end;
+            }
+            if (valueEnd - valueStart == value.length() && header.startsWith(value, valueStart)) {
+                return true;
+            }
+            valueStart = valueEnd + 1;
+        }
+        return false;
+    }
+}
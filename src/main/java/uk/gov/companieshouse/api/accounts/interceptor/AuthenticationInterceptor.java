@@ -2,26 +2,98 @@ package uk.gov.companieshouse.api.accounts.interceptor;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.util.ServletRequestPathUtils;
 
+import uk.gov.companieshouse.accountsdates.metrics.AccountsMetrics;
 import uk.gov.companieshouse.api.util.security.AuthorisationUtil;
-import uk.gov.companieshouse.api.util.security.Permission.Key;
-import uk.gov.companieshouse.api.util.security.Permission.Value;
-import uk.gov.companieshouse.api.util.security.SecurityConstants;
+import uk.gov.companieshouse.api.util.security.EricConstants;
 import uk.gov.companieshouse.api.util.security.TokenPermissions;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
 
-public class AuthenticationInterceptor implements HandlerInterceptor {
+public class AuthenticationInterceptor extends CompanyAccountsAuthorisation<HttpServletRequest>
+        implements HandlerInterceptor {
+
+    /**
+     * Environment variable structured-logging reads its level from
+     */
+    public static final String LOG_LEVEL_ENV = CompanyAccountsAuthorisation.LOG_LEVEL_ENV;
+
+    /**
+     * By default one in this many unauthorised requests is logged at info level
+     */
+    public static final int DEFAULT_DENIED_SAMPLE_RATE = 100;
 
     private static final Logger LOGGER = LoggerFactory.getLogger("company-accounts-library");
 
+    private final Logger logger;
+    private final boolean debugEnabled;
+    private final DeniedRequestSampler deniedSampler;
+
+    public AuthenticationInterceptor() {
+        this(AccountsMetrics.noop());
+    }
+
+    /**
+     * @param metrics receives the outcome and latency of every permission check
+     */
+    public AuthenticationInterceptor(AccountsMetrics metrics) {
+        this(metrics, CompanyAccountsAuthorisation.isDebugLoggingEnabled(), DEFAULT_DENIED_SAMPLE_RATE);
+    }
+
+    /**
+     * @param metrics receives the outcome and latency of every permission check
+     * @param debugEnabled whether every decision is logged at debug level. When false no debug data is built, so
+     *                     allowed requests pass through without allocating
+     * @param deniedSampleRate log one in this many unauthorised requests at info level, or 0 for none
+     */
+    public AuthenticationInterceptor(AccountsMetrics metrics, boolean debugEnabled, int deniedSampleRate) {
+        this(metrics, debugEnabled, deniedSampleRate, null);
+    }
+
+    /**
+     * @param metrics receives the outcome and latency of every permission check
+     * @param debugEnabled whether every decision is logged at debug level
+     * @param deniedSampleRate log one in this many unauthorised requests at info level, or 0 for none
+     * @param decisionCache reuses decisions for repeated ERIC-Authorised-Token-Permissions headers, or null to
+     *                      check the TokenPermissions on every request
+     */
+    public AuthenticationInterceptor(AccountsMetrics metrics, boolean debugEnabled, int deniedSampleRate,
+            PermissionDecisionCache decisionCache) {
+        this(metrics, debugEnabled, deniedSampleRate, decisionCache, null);
+    }
+
+    /**
+     * @param metrics receives the outcome and latency of every permission check
+     * @param debugEnabled whether every decision is logged at debug level
+     * @param deniedSampleRate log one in this many unauthorised requests at info level, or 0 for none
+     * @param decisionCache reuses decisions for repeated ERIC-Authorised-Token-Permissions headers, or null
+     * @param rules permissions required by method and path, denying requests none match, or null to require
+     *              company_accounts=update for every request
+     */
+    public AuthenticationInterceptor(AccountsMetrics metrics, boolean debugEnabled, int deniedSampleRate,
+            PermissionDecisionCache decisionCache, PermissionRules rules) {
+        this(metrics, LOGGER, debugEnabled, deniedSampleRate, decisionCache, rules);
+    }
+
+    AuthenticationInterceptor(AccountsMetrics metrics, Logger logger, boolean debugEnabled, int deniedSampleRate,
+            PermissionDecisionCache decisionCache, PermissionRules rules) {
+        super(metrics, decisionCache, rules);
+        this.logger = Objects.requireNonNull(logger, "logger");
+        this.debugEnabled = debugEnabled;
+        this.deniedSampler = new DeniedRequestSampler(deniedSampleRate);
+    }
+
     /**
      * Pre handle method to authorize the request before it reaches the controller.
      * Retrieves the TokenPermissions stored in the request (which must have been
@@ -31,44 +103,107 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
 
-        // skip token permission checks if an api key is used, api key elevated privileges are checked in other interceptors
-        // inside company accounts and abridged accounts api services
-        if (SecurityConstants.API_KEY_IDENTITY_TYPE.equals(AuthorisationUtil.getAuthorisedIdentityType(request))) {
-            LOGGER.debugRequest(request, "AuthenticationInterceptor skipping token permission checks for api key request", new HashMap<>());
-            return true;
+        final PermissionRule rule = findRule(request);
+        switch (decide(request, rule)) {
+            case API_KEY_SKIP:
+                // skip token permission checks if an api key is used, api key elevated privileges are checked in other
+                // interceptors inside company accounts and abridged accounts api services
+                if (debugEnabled) {
+                    logger.debugRequest(request, "AuthenticationInterceptor skipping token permission checks for api key request", new HashMap<>());
+                }
+                return true;
+            case NO_RULE:
+                if (debugEnabled) {
+                    logger.debugRequest(request, "AuthenticationInterceptor unauthorised, no permission rule for request", new HashMap<>());
+                }
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                return false;
+            case AUTHORISED:
+                if (debugEnabled) {
+                    logger.debugRequest(request, "AuthenticationInterceptor authorised with " + rule.permission() + " permission",
+                            debugMap(request, rule, true));
+                }
+                return true;
+            default:
+                if (debugEnabled) {
+                    logger.debugRequest(request, "AuthenticationInterceptor unauthorised", debugMap(request, rule, false));
+                }
+                logDeniedSample(request, rule);
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                return false;
         }
+    }
 
-        // TokenPermissions should have been set up in the request by TokenPermissionsInterceptor
-        final TokenPermissions tokenPermissions = getTokenPermissions(request)
-                .orElseThrow(() -> new IllegalStateException("TokenPermissions object not present in request"));
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        // Implement the postHandle logic here if needed.
+    }
 
-        boolean hasCompanyAccountsUpdatePermission = tokenPermissions.hasPermission(Key.COMPANY_ACCOUNTS, Value.UPDATE);
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        // Implement the afterCompletion logic here if needed.
+    }
 
+    private static Map<String, Object> debugMap(HttpServletRequest request, PermissionRule rule, boolean hasPermission) {
         final Map<String, Object> debugMap = new HashMap<>();
         debugMap.put("request_method", request.getMethod());
-        debugMap.put("has_company_accounts_update_permission", hasCompanyAccountsUpdatePermission);
+        debugMap.put("has_" + rule.permissionKey() + "_" + rule.permissionValue() + "_permission", hasPermission);
+        return debugMap;
+    }
 
-        if (hasCompanyAccountsUpdatePermission) {
-            LOGGER.debugRequest(request, "AuthenticationInterceptor authorised with company_accounts=update permission",
-                    debugMap);
-            return true;
+    private void logDeniedSample(HttpServletRequest request, PermissionRule rule) {
+        final long denied = deniedSampler.sample();
+        if (denied != DeniedRequestSampler.NOT_SAMPLED) {
+            final Map<String, Object> logMap = debugMap(request, rule, false);
+            logMap.put("denied_count", denied);
+            logMap.put("sample_rate", deniedSampler.getSampleRate());
+            logger.infoRequest(request, "AuthenticationInterceptor unauthorised (sampled)", logMap);
         }
+    }
 
-        LOGGER.debugRequest(request, "AuthenticationInterceptor unauthorised", debugMap);
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        return false;
+    @Override
+    protected String getMethod(HttpServletRequest request) {
+        return request.getMethod();
     }
 
+    /**
+     * Returns the path DispatcherServlet parsed for handler mapping when there is one, otherwise parses the request
+     * URI in the same way
+     */
     @Override
-    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
-        // Implement the postHandle logic here if needed.
+    protected PathContainer getPath(HttpServletRequest request) {
+        final RequestPath path = ServletRequestPathUtils.hasParsedRequestPath(request)
+                ? ServletRequestPathUtils.getParsedRequestPath(request)
+                : RequestPath.parse(request.getRequestURI(), request.getContextPath());
+        return path.pathWithinApplication();
     }
 
     @Override
-    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
-        // Implement the afterCompletion logic here if needed.
+    protected String getIdentityType(HttpServletRequest request) {
+        return AuthorisationUtil.getAuthorisedIdentityType(request);
+    }
+
+    @Override
+    protected String getTokenPermissionsHeader(HttpServletRequest request) {
+        return request.getHeader(EricConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS);
+    }
+
+    @Override
+    protected boolean hasTokenPermissions(HttpServletRequest request) {
+        return getTokenPermissions(request).isPresent();
     }
 
+    @Override
+    protected boolean hasPermission(HttpServletRequest request, String permissionKey, String permissionValue) {
+        return getTokenPermissions(request)
+                .orElseThrow(() -> new IllegalStateException("TokenPermissions object not present in request"))
+                .hasPermission(permissionKey, permissionValue);
+    }
+
+    /**
+     * @param request current request
+     * @return TokenPermissions stored in the request by the TokenPermissionsInterceptor
+     */
     protected Optional<TokenPermissions> getTokenPermissions(HttpServletRequest request) {
         return AuthorisationUtil.getTokenPermissions(request);
     }
@@ -0,0 +1,182 @@
+package uk.gov.companieshouse.api.accounts.interceptor;
+
+import java.util.Objects;
+
+import org.springframework.http.server.PathContainer;
+
+import uk.gov.companieshouse.accountsdates.metrics.AccountsMetrics;
+import uk.gov.companieshouse.accountsdates.metrics.Decision;
+import uk.gov.companieshouse.api.util.security.SecurityConstants;
+
+/**
+ * Company accounts authorisation rules shared by the servlet {@link AuthenticationInterceptor} and the reactive
+ * {@link uk.gov.companieshouse.api.accounts.filter.AuthenticationWebFilter}: api key requests skip token permission
+ * checks, which are made by other interceptors in the accounts api services, and any other request needs the
+ * company_accounts=update permission. Given {@link PermissionRules}, the permission is instead the one required by the
+ * rule matching the request method and path, and requests no rule matches are denied, so a {@code /**} rule is needed
+ * to let through paths without a more specific rule. Decisions are made in
+ * memory without blocking, and are recorded on the {@link AccountsMetrics} and optionally reused through a
+ * {@link PermissionDecisionCache}. Subclasses read the method, path, headers and token permissions from their own
+ * request type.
+ *
+ * @param <R> request type
+ */
+public abstract class CompanyAccountsAuthorisation<R> {
+
+    /**
+     * Environment variable structured-logging reads its level from
+     */
+    public static final String LOG_LEVEL_ENV = "LOGLEVEL";
+
+    private final AccountsMetrics metrics;
+    private final PermissionDecisionCache decisionCache;
+    private final PermissionRules rules;
+
+    /**
+     * @param metrics receives the outcome and latency of every decision
+     * @param decisionCache reuses decisions for repeated ERIC-Authorised-Token-Permissions headers, or null
+     */
+    protected CompanyAccountsAuthorisation(AccountsMetrics metrics, PermissionDecisionCache decisionCache) {
+        this(metrics, decisionCache, null);
+    }
+
+    /**
+     * @param metrics receives the outcome and latency of every decision
+     * @param decisionCache reuses decisions for repeated ERIC-Authorised-Token-Permissions headers, or null
+     * @param rules permissions required by method and path, denying requests none match, or null to require
+     *              company_accounts=update everywhere
+     */
+    protected CompanyAccountsAuthorisation(AccountsMetrics metrics, PermissionDecisionCache decisionCache,
+            PermissionRules rules) {
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+        this.decisionCache = decisionCache;
+        this.rules = rules;
+    }
+
+    /**
+     * Returns true if the LOGLEVEL environment variable enables debug logging. The structured-logging logger does not
+     * expose its level, so callers use this to skip building debug data that would not be written
+     *
+     * @return true if debug messages would be written
+     */
+    public static boolean isDebugLoggingEnabled() {
+        return isDebugLogLevel(System.getenv(LOG_LEVEL_ENV));
+    }
+
+    /**
+     * Returns true for the structured-logging levels that include debug output
+     *
+     * @param logLevel value of the LOGLEVEL environment variable, or null
+     * @return true if debug messages would be written
+     */
+    public static boolean isDebugLogLevel(String logLevel) {
+        return "debug".equalsIgnoreCase(logLevel) || "trace".equalsIgnoreCase(logLevel);
+    }
+
+    /**
+     * Decides whether a request may proceed under the rule found for it, which the caller keeps for logging rather
+     * than looking it up again
+     *
+     * @param request current request
+     * @param rule rule from {@link #findRule(Object)}, or null if none matched
+     * @return api key skip, no rule, authorised or unauthorised, where only api key skip and authorised allow the
+     *         request
+     * @throws IllegalStateException if token permissions are needed but have not been set up for the request
+     */
+    protected Decision decide(R request, PermissionRule rule) {
+        final long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+
+        final Decision decision;
+        if (SecurityConstants.API_KEY_IDENTITY_TYPE.equals(getIdentityType(request))) {
+            decision = Decision.API_KEY_SKIP;
+        } else if (rule == null) {
+            decision = Decision.NO_RULE;
+        } else {
+            decision = isAuthorised(request, rule) ? Decision.AUTHORISED : Decision.UNAUTHORISED;
+        }
+
+        if (metrics.isEnabled()) {
+            metrics.recordDecision(decision, System.nanoTime() - start);
+        }
+        return decision;
+    }
+
+    /**
+     * Returns the rule for the request: {@link PermissionRule#COMPANY_ACCOUNTS_UPDATE} without configured rules,
+     * otherwise the matching rule or null
+     *
+     * @param request current request
+     * @return rule deciding the request, or null if no rule matches and it is denied
+     */
+    protected PermissionRule findRule(R request) {
+        return rules == null ? PermissionRule.COMPANY_ACCOUNTS_UPDATE : rules.find(getMethod(request), getPath(request));
+    }
+
+    /**
+     * Checks that token permissions have been set up for the request, then returns the cached decision for the rule's
+     * permission and the request's permissions header when there is one, otherwise checks the permission and caches
+     * the result. A request that has not been set up is never authorised from the cache, and a cached decision is
+     * reused without reading the request's token permissions
+     */
+    private boolean isAuthorised(R request, PermissionRule rule) {
+        // TokenPermissions should have been set up for the request before the rules run
+        if (!hasTokenPermissions(request)) {
+            throw new IllegalStateException("TokenPermissions object not present in request");
+        }
+
+        final String permissionsHeader = decisionCache == null ? null : getTokenPermissionsHeader(request);
+        if (permissionsHeader == null) {
+            return hasPermission(request, rule.permissionKey(), rule.permissionValue());
+        }
+
+        final String cacheKey = rule.permission() + " " + permissionsHeader;
+        final Boolean cached = decisionCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        final boolean hasPermission = hasPermission(request, rule.permissionKey(), rule.permissionValue());
+        decisionCache.put(cacheKey, hasPermission);
+        return hasPermission;
+    }
+
+    /**
+     * @param request current request
+     * @return HTTP method
+     */
+    protected abstract String getMethod(R request);
+
+    /**
+     * @param request current request
+     * @return request path within the application, parsed the way the web framework routes it
+     */
+    protected abstract PathContainer getPath(R request);
+
+    /**
+     * @param request current request
+     * @return ERIC-Identity-Type header value, or null
+     */
+    protected abstract String getIdentityType(R request);
+
+    /**
+     * @param request current request
+     * @return ERIC-Authorised-Token-Permissions header value, or null
+     */
+    protected abstract String getTokenPermissionsHeader(R request);
+
+    /**
+     * Returns true if token permissions have been set up for the request. Checked before any cached decision is
+     * used, so should not need to parse the permissions
+     *
+     * @param request current request
+     * @return true if {@link #hasPermission(Object, String, String)} can be answered
+     */
+    protected abstract boolean hasTokenPermissions(R request);
+
+    /**
+     * @param request current request, with token permissions set up
+     * @param permissionKey required permission key
+     * @param permissionValue required permission value
+     * @return true if the request's token permissions grant the permission
+     */
+    protected abstract boolean hasPermission(R request, String permissionKey, String permissionValue);
+}
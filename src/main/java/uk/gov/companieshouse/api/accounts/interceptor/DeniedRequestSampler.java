@@ -0,0 +1,44 @@
+package uk.gov.companieshouse.api.accounts.interceptor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Picks the first and then every n-th unauthorised request to log, so denials stay visible when debug logging is off
+ */
+public class DeniedRequestSampler {
+
+    /**
+     * Returned by {@link #sample()} for requests that should not be logged
+     */
+    public static final long NOT_SAMPLED = 0;
+
+    private final int sampleRate;
+    private final AtomicLong deniedCount = new AtomicLong();
+
+    /**
+     * @param sampleRate log one in this many denied requests, or 0 for none
+     */
+    public DeniedRequestSampler(int sampleRate) {
+        if (sampleRate < 0) {
+            throw new IllegalArgumentException("Denied sample rate must not be negative");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Counts a denied request
+     *
+     * @return the number of requests denied so far if this one should be logged, otherwise {@link #NOT_SAMPLED}
+     */
+    public long sample() {
+        if (sampleRate == 0) {
+            return NOT_SAMPLED;
+        }
+        long denied = deniedCount.getAndIncrement();
+        return denied % sampleRate == 0 ? denied + 1 : NOT_SAMPLED;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+}
@@ -0,0 +1,69 @@
+package uk.gov.companieshouse.api.accounts.interceptor;
+
+import java.time.Duration;
+
+import uk.gov.companieshouse.accountsdates.cache.CacheStats;
+import uk.gov.companieshouse.accountsdates.cache.ConcurrentLruCache;
+
+/**
+ * Bounded, expiring cache of permission decisions keyed by the permission required by a {@link PermissionRule} and the
+ * ERIC-Authorised-Token-Permissions header, e.g. {@code "company_accounts=update <header>"}. The TokenPermissions in
+ * a request are parsed from that header, so requests presenting the same header always get the same decision for a
+ * permission, and a cached decision is reused without reading the request's TokenPermissions. The short time to live
+ * limits how long a decision outlives any change to how permissions are evaluated.
+ */
+public class PermissionDecisionCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    private final ConcurrentLruCache<String, Boolean> decisions;
+
+    public PermissionDecisionCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * @param maximumSize maximum number of decisions cached
+     * @param timeToLive how long a decision is reused after it was made
+     */
+    public PermissionDecisionCache(int maximumSize, Duration timeToLive) {
+        this.decisions = new ConcurrentLruCache<>(maximumSize, timeToLive);
+    }
+
+    /**
+     * Returns the cached decision for a permission and header, or null if there is none or it has expired
+     *
+     * @param key required permission as key=value, a space and the ERIC-Authorised-Token-Permissions header value
+     * @return cached decision or null
+     */
+    public Boolean getIfPresent(String key) {
+        return decisions.getIfPresent(key);
+    }
+
+    /**
+     * Caches the decision for a permission and header
+     *
+     * @param key required permission as key=value, a space and the ERIC-Authorised-Token-Permissions header value
+     * @param hasPermission decision to cache
+     */
+    public void put(String key, boolean hasPermission) {
+        decisions.put(key, hasPermission);
+    }
+
+    /**
+     * Removes every cached decision
+     */
+    public void invalidateAll() {
+        decisions.invalidateAll();
+    }
+
+    /**
+     * Returns hit, miss, eviction and expiration counts
+     *
+     * @return cache statistics
+     */
+    public CacheStats stats() {
+        return decisions.stats();
+    }
+}
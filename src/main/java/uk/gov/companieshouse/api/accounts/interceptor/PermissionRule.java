@@ -0,0 +1,81 @@
+package uk.gov.companieshouse.api.accounts.interceptor;
+
+import java.util.Locale;
+import java.util.Objects;
+
+import uk.gov.companieshouse.api.util.security.Permission.Key;
+import uk.gov.companieshouse.api.util.security.Permission.Value;
+
+/**
+ * Token permission required for requests with a HTTP method and path matching a pattern. Patterns are '/' separated
+ * segments, where a segment is a literal, {@code *} or {@code {name}} matching any one non-empty segment, or a final
+ * {@code **} matching any remaining segments including none. See {@link PermissionRules} for how overlapping rules
+ * are resolved.
+ *
+ * @param method HTTP method, or null for any method
+ * @param pathPattern path pattern within the application, starting with '/'
+ * @param permissionKey required permission key e.g. {@link Key#COMPANY_ACCOUNTS}
+ * @param permissionValue required permission value e.g. {@link Value#UPDATE}
+ */
+public record PermissionRule(String method, String pathPattern, String permissionKey, String permissionValue) {
+
+    /**
+     * The single rule applied when no {@link PermissionRules} are configured
+     */
+    public static final PermissionRule COMPANY_ACCOUNTS_UPDATE =
+            new PermissionRule(null, "/**", Key.COMPANY_ACCOUNTS, Value.UPDATE);
+
+    public PermissionRule {
+        Objects.requireNonNull(pathPattern, "pathPattern");
+        Objects.requireNonNull(permissionKey, "permissionKey");
+        Objects.requireNonNull(permissionValue, "permissionValue");
+        if (!pathPattern.startsWith("/")) {
+            throw new IllegalArgumentException("Path pattern must start with '/': " + pathPattern);
+        }
+        if (method != null) {
+            method = "*".equals(method) ? null : method.toUpperCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Parses a rule written as {@code [METHOD] /path/pattern key=value}, e.g.
+     * {@code POST /transactions/{transactionId}/company-accounts/** company_accounts=update}. A method of {@code *}
+     * or no method matches any method
+     *
+     * @param rule rule text
+     * @return parsed rule
+     * @throws IllegalArgumentException if the text is not a rule
+     */
+    public static PermissionRule parse(String rule) {
+        final String[] parts = rule.trim().split("\\s+");
+        if (parts.length < 2 || parts.length > 3) {
+            throw new IllegalArgumentException("Permission rule must be '[METHOD] /path key=value': " + rule);
+        }
+        final String permission = parts[parts.length - 1];
+        final int equals = permission.indexOf('=');
+        if (equals <= 0 || equals == permission.length() - 1) {
+            throw new IllegalArgumentException("Permission must be 'key=value': " + rule);
+        }
+        return new PermissionRule(parts.length == 3 ? parts[0] : null, parts[parts.length - 2],
+                permission.substring(0, equals), permission.substring(equals + 1));
+    }
+
+    /**
+     * @return true if the rule applies to every HTTP method
+     */
+    public boolean isAnyMethod() {
+        return method == null;
+    }
+
+    /**
+     * @return required permission as key=value
+     */
+    public String permission() {
+        return permissionKey + "=" + permissionValue;
+    }
+
+    @Override
+    public String toString() {
+        return (method == null ? "*" : method) + " " + pathPattern + " " + permission();
+    }
+}
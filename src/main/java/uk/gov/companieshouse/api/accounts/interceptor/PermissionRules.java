@@ -0,0 +1,208 @@
+package uk.gov.companieshouse.api.accounts.interceptor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.server.PathContainer;
+
+/**
+ * Immutable set of {@link PermissionRule}s compiled into a trie of path segments, so the rule for a request is found
+ * in one walk of its path rather than by trying each pattern or running one interceptor per route. Each trie node
+ * maps literal segments to children and has at most one child for a variable segment, and holds the rules of patterns
+ * ending there in a map by HTTP method.
+ * <p>
+ * When several rules match, the most specific wins: at each segment a literal beats a variable, which beats
+ * {@code **}, and among rules for the same pattern one naming the request method beats one for any method. A more
+ * specific pattern without a rule for the request method falls back to a less specific one that has. Two rules for
+ * the same pattern and method are rejected when the rules are compiled.
+ * <p>
+ * Paths are matched by their decoded segments with any ';' parameters removed, the form Spring MVC and WebFlux route
+ * on, and empty segments are ignored, so {@code //} or a trailing '/' cannot steer a request past its rule.
+ */
+public final class PermissionRules {
+
+    private static final String ANY_SEGMENT = "*";
+    private static final String ANY_SEGMENTS = "**";
+
+    private final Node root = new Node();
+    private final List<PermissionRule> rules;
+
+    public PermissionRules(List<PermissionRule> rules) {
+        this.rules = List.copyOf(rules);
+        for (PermissionRule rule : this.rules) {
+            add(rule);
+        }
+        root.freeze();
+    }
+
+    /**
+     * Parses and compiles rules in the {@link PermissionRule#parse(String)} format
+     *
+     * @param rules rule text
+     * @return compiled rules
+     * @throws IllegalArgumentException if any rule cannot be parsed or two rules clash
+     */
+    public static PermissionRules parse(List<String> rules) {
+        final List<PermissionRule> parsed = new ArrayList<>(rules.size());
+        for (String rule : rules) {
+            parsed.add(PermissionRule.parse(rule));
+        }
+        return new PermissionRules(parsed);
+    }
+
+    /**
+     * Returns the most specific rule for a request
+     *
+     * @param method HTTP method
+     * @param path request path within the application, e.g. from RequestPath#pathWithinApplication()
+     * @return matching rule, or null if no rule applies
+     */
+    public PermissionRule find(String method, PathContainer path) {
+        final List<String> segments = new ArrayList<>();
+        for (PathContainer.Element element : path.elements()) {
+            if (element instanceof PathContainer.PathSegment segment && !segment.valueToMatch().isEmpty()) {
+                segments.add(segment.valueToMatch());
+            }
+        }
+        return match(root, method, segments, 0);
+    }
+
+    /**
+     * Returns the most specific rule for a request
+     *
+     * @param method HTTP method
+     * @param path decoded request path within the application, without ';' parameters
+     * @return matching rule, or null if no rule applies
+     */
+    public PermissionRule find(String method, String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return null;
+        }
+        return match(root, method, segments(path), 0);
+    }
+
+    public List<PermissionRule> getRules() {
+        return rules;
+    }
+
+    private void add(PermissionRule rule) {
+        final List<String> segments = segments(rule.pathPattern());
+
+        Node node = root;
+        for (int i = 0; i < segments.size(); i++) {
+            final String segment = segments.get(i);
+            if (ANY_SEGMENTS.equals(segment)) {
+                if (i != segments.size() - 1) {
+                    throw new IllegalArgumentException("'**' must be the last segment: " + rule);
+                }
+                node.anySegments = MethodRules.add(node.anySegments, rule);
+                return;
+            }
+            if (ANY_SEGMENT.equals(segment) || isVariable(segment)) {
+                if (node.variable == null) {
+                    node.variable = new Node();
+                }
+                node = node.variable;
+            } else {
+                node = node.literals.computeIfAbsent(segment, key -> new Node());
+            }
+        }
+        node.rules = MethodRules.add(node.rules, rule);
+    }
+
+    private static boolean isVariable(String segment) {
+        return segment.length() > 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}';
+    }
+
+    /**
+     * Splits a '/' separated path into its non-empty segments
+     */
+    private static List<String> segments(String path) {
+        final List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Matches the segments from index against the node's subtree, trying the literal child, then the variable child,
+     * then the node's '**' rules
+     */
+    private static PermissionRule match(Node node, String method, List<String> segments, int index) {
+        if (index == segments.size()) {
+            final PermissionRule rule = MethodRules.find(node.rules, method);
+            return rule != null ? rule : MethodRules.find(node.anySegments, method);
+        }
+
+        PermissionRule rule = null;
+        if (!node.literals.isEmpty()) {
+            final Node literal = node.literals.get(segments.get(index));
+            if (literal != null) {
+                rule = match(literal, method, segments, index + 1);
+            }
+        }
+        if (rule == null && node.variable != null) {
+            rule = match(node.variable, method, segments, index + 1);
+        }
+        if (rule == null) {
+            rule = MethodRules.find(node.anySegments, method);
+        }
+        return rule;
+    }
+
+    private static final class Node {
+
+        private Map<String, Node> literals = new HashMap<>();
+        private Node variable;
+        private MethodRules rules;
+        private MethodRules anySegments;
+
+        void freeze() {
+            for (Node child : literals.values()) {
+                child.freeze();
+            }
+            if (variable != null) {
+                variable.freeze();
+            }
+            literals = Map.copyOf(literals);
+        }
+    }
+
+    /**
+     * Rules for one pattern, by HTTP method
+     */
+    private static final class MethodRules {
+
+        private final Map<String, PermissionRule> byMethod = new HashMap<>();
+        private PermissionRule anyMethod;
+
+        static MethodRules add(MethodRules methodRules, PermissionRule rule) {
+            final MethodRules target = methodRules == null ? new MethodRules() : methodRules;
+            final PermissionRule existing = rule.isAnyMethod()
+                    ? target.anyMethod
+                    : target.byMethod.get(rule.method());
+            if (existing != null) {
+                throw new IllegalArgumentException("Permission rules " + existing + " and " + rule + " clash");
+            }
+            if (rule.isAnyMethod()) {
+                target.anyMethod = rule;
+            } else {
+                target.byMethod.put(rule.method(), rule);
+            }
+            return target;
+        }
+
+        static PermissionRule find(MethodRules methodRules, String method) {
+            if (methodRules == null) {
+                return null;
+            }
+            final PermissionRule rule = method == null ? null : methodRules.byMethod.get(method);
+            return rule != null ? rule : methodRules.anyMethod;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package uk.gov.companieshouse.accountsdates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AccountingPeriodTest {
+
+    @Test
+    @DisplayName("Packs and unpacks start and end dates")
+    void packAndUnpack() {
+        LocalDate start = LocalDate.parse("2015-01-01");
+        LocalDate end = LocalDate.parse("2015-12-31");
+
+        AccountingPeriod period = AccountingPeriod.of(start, end);
+
+        assertEquals(start, period.periodStart());
+        assertEquals(end, period.periodEnd());
+        assertEquals(365, period.lengthInDays());
+        assertEquals(period, AccountingPeriod.fromPacked(period.packed()));
+        assertEquals("2015-01-01/2015-12-31", period.toString());
+    }
+
+    @Test
+    @DisplayName("Packs dates before 1970 and periods ending before they start")
+    void packNegativeEpochDays() {
+        AccountingPeriod period = AccountingPeriod.ofEpochDays(-10, -400);
+
+        assertEquals(-10, AccountingPeriod.startEpochDay(period.packed()));
+        assertEquals(-400, AccountingPeriod.endEpochDay(period.packed()));
+        assertEquals(-389, period.lengthInDays());
+    }
+
+    @Test
+    @DisplayName("Rejects epoch days outside the int range")
+    void packOutOfRange() {
+        assertFalse(AccountingPeriod.canPack(0, Integer.MAX_VALUE + 1L));
+        assertThrows(DateTimeException.class, () -> AccountingPeriod.of(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    @DisplayName("Same year check matches LocalDate years")
+    void isSameYear() {
+        assertTrue(AccountingPeriod.of(LocalDate.parse("2015-01-01"), LocalDate.parse("2015-12-31")).isSameYear());
+        assertFalse(AccountingPeriod.of(LocalDate.parse("2015-12-31"), LocalDate.parse("2016-01-01")).isSameYear());
+        assertTrue(AccountingPeriod.of(LocalDate.parse("-0001-01-01"), LocalDate.parse("-0001-12-31")).isSameYear());
+    }
+
+    @Test
+    @DisplayName("Decodes every epoch day in a 400 year cycle either side of 1970 as LocalDate does")
+    void yearMonthDay() {
+        for (long epochDay = -146_097L * 6; epochDay <= 146_097L; epochDay++) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            long ymd = AccountingPeriod.yearMonthDay(epochDay);
+            assertEquals(date.getYear(), AccountingPeriod.year(ymd), date::toString);
+            assertEquals(date.getMonthValue(), AccountingPeriod.month(ymd), date::toString);
+            assertEquals(date.getDayOfMonth(), AccountingPeriod.day(ymd), date::toString);
+        }
+    }
+
+    @Test
+    @DisplayName("Classifies every period starting 1999 to 2002 of up to 800 days either way as the java.time rules")
+    void classificationMatchesJavaTime() {
+        LocalDate first = LocalDate.parse("1999-01-01");
+        LocalDate last = LocalDate.parse("2002-12-31");
+        for (LocalDate start = first; !start.isAfter(last); start = start.plusDays(1)) {
+            for (int length = -800; length <= 800; length++) {
+                assertMatchesJavaTime(start, start.plusDays(length));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Classifies random periods as the java.time rules")
+    void classificationMatchesJavaTimeRandom() {
+        SplittableRandom random = new SplittableRandom(17);
+        for (int i = 0; i < 200_000; i++) {
+            LocalDate start = LocalDate.ofEpochDay(random.nextLong(-1_000_000, 1_000_000));
+            assertMatchesJavaTime(start, start.plusDays(random.nextLong(-5_000, 5_000)));
+        }
+    }
+
+    @Test
+    @DisplayName("Builds the same period ranges as the balance sheet heading rules")
+    void toPeriodRange() {
+        AccountingPeriod period = AccountingPeriod.of(LocalDate.parse("2015-01-01"), LocalDate.parse("2016-03-31"));
+
+        assertEquals(PeriodRange.fullDate(LocalDate.parse("2016-03-31")), period.toPeriodRange(true));
+        assertEquals(PeriodRange.months(15, LocalDate.parse("2016-03-31")), period.toPeriodRange(false));
+        assertEquals(PeriodRange.year(LocalDate.parse("2015-12-31")),
+                AccountingPeriod.of(LocalDate.parse("2015-01-01"), LocalDate.parse("2015-12-31"))
+                        .toPeriodRange(false));
+    }
+
+    private static void assertMatchesJavaTime(LocalDate start, LocalDate end) {
+        long packed = AccountingPeriod.pack(start.toEpochDay(), end.toEpochDay());
+        assertEquals(javaTimePeriodRange(start, end), AccountingPeriod.toPeriodRange(packed, false),
+                () -> start + " to " + end);
+        assertEquals(start.getYear() == end.getYear(), AccountingPeriod.isSameYear(packed),
+                () -> start + " to " + end);
+    }
+
+    /**
+     * The original java.time calculation, kept as the reference for the integer version
+     */
+    private static PeriodRange javaTimePeriodRange(LocalDate periodStart, LocalDate periodEnd) {
+        long totalDaysDiff = ChronoUnit.DAYS.between(periodStart, periodEnd) + 1;
+        if (totalDaysDiff >= 350 && totalDaysDiff <= 380) {
+            return PeriodRange.year(periodEnd);
+        }
+        long totalMonthsDiff = ChronoUnit.MONTHS.between(periodStart, periodEnd);
+        if (Period.between(periodStart, periodEnd).getDays() >= 15) {
+            totalMonthsDiff++;
+        }
+        return PeriodRange.months(totalMonthsDiff == 0 ? 1 : totalMonthsDiff, periodEnd);
+    }
+}
@@ -0,0 +1,87 @@
+package uk.gov.companieshouse.accountsdates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.companieshouse.accountsdates.format.DateFormatterRegistry;
+
+/**
+ * Default methods, as seen by implementations written before they were added
+ */
+class AccountsDatesHelperTest {
+
+    private final AccountsDatesHelper datesHelper = mock(AccountsDatesHelper.class, CALLS_REAL_METHODS);
+
+    @Test
+    void convertLocalDateToDisplayDateInLocale() {
+
+        assertEquals("5 Mawrth 2017",
+                datesHelper.convertLocalDateToDisplayDate(LocalDate.parse("2017-03-05"), DateFormatterRegistry.WELSH));
+    }
+
+    @Test
+    void generateBalanceSheetHeadingsFromSingleHeadings() {
+
+        LocalDate periodStart = LocalDate.parse("2015-02-01");
+        LocalDate periodEnd = LocalDate.parse("2016-02-16");
+        doReturn("13 months to 16 February 2016").when(datesHelper).generateBalanceSheetHeading(periodStart, periodEnd, false);
+        doReturn("16 February 2016").when(datesHelper).generateBalanceSheetHeading(periodStart, periodEnd, true);
+
+        assertEquals(List.of("13 months to 16 February 2016", "16 February 2016"),
+                datesHelper.generateBalanceSheetHeadings(List.of(new BalanceSheetPeriod(periodStart, periodEnd, false),
+                        new BalanceSheetPeriod(periodStart, periodEnd, true))));
+    }
+
+    @Test
+    void getPeriodRangeFromCalculatedPeriodRange() {
+
+        LocalDate periodStart = LocalDate.parse("2015-02-01");
+        LocalDate periodEnd = LocalDate.parse("2016-02-16");
+        doReturn(Map.of(PeriodRange.PERIOD_START, "13 months", PeriodRange.PERIOD_END, "16 February 2016"))
+                .when(datesHelper).calculatePeriodRange(periodStart, periodEnd, false);
+        doReturn(Map.of(PeriodRange.PERIOD_END, "16 February 2016"))
+                .when(datesHelper).calculatePeriodRange(periodStart, periodEnd, true);
+        doReturn(Map.of(PeriodRange.PERIOD_END, "2016"))
+                .when(datesHelper).calculatePeriodRange(LocalDate.parse("2015-02-17"), periodEnd, false);
+
+        assertEquals(PeriodRange.months(13, periodEnd), datesHelper.getPeriodRange(periodStart, periodEnd, false));
+        assertEquals(PeriodRange.fullDate(periodEnd), datesHelper.getPeriodRange(periodStart, periodEnd, true));
+        assertEquals(PeriodRange.year(periodEnd),
+                datesHelper.getPeriodRange(LocalDate.parse("2015-02-17"), periodEnd, false));
+    }
+
+    @Test
+    void getDayRangesFromDayLists() {
+
+        LocalDate currentDate = LocalDate.parse("2018-03-01");
+        List<LocalDate> previousDays = List.of(LocalDate.parse("2018-02-28"), LocalDate.parse("2018-02-27"));
+        List<LocalDate> futureDays = List.of(LocalDate.parse("2018-03-02"), LocalDate.parse("2018-03-03"));
+        doReturn(previousDays).when(datesHelper).getPreviousDays(currentDate, 2);
+        doReturn(futureDays).when(datesHelper).getFutureDays(currentDate, 2);
+        doReturn(List.of()).when(datesHelper).getFutureDays(currentDate, 0);
+
+        assertEquals(previousDays, datesHelper.getPreviousDayRange(currentDate, 2));
+        assertEquals(futureDays, datesHelper.getFutureDayRange(currentDate, 2));
+        assertTrue(datesHelper.getFutureDayRange(currentDate, 0).isEmpty());
+    }
+
+    @Test
+    void getDisplayDateAndTimeFromDateAndTimeMap() {
+
+        doReturn(Map.of(DateAndTime.DATE, "5 March 2017", DateAndTime.TIME, "9:30 am"))
+                .when(datesHelper).getDateAndTime("2017-03-05T09:30:00.000Z", ZoneOffset.UTC);
+
+        assertEquals(new DateAndTime("5 March 2017", "9:30 am"),
+                datesHelper.getDisplayDateAndTime("2017-03-05T09:30:00.000Z", ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,79 @@
+package uk.gov.companieshouse.accountsdates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class DayRangeTest {
+
+    private static final LocalDate CURRENT_DATE = LocalDate.of(2017, 1, 1);
+
+    @Test
+    void previousDays() {
+
+        DayRange range = DayRange.previousDays(CURRENT_DATE, 3);
+
+        assertEquals(List.of(LocalDate.of(2016, 12, 31), LocalDate.of(2016, 12, 30), LocalDate.of(2016, 12, 29)), range);
+        assertEquals(3, range.size());
+        assertEquals(LocalDate.of(2016, 12, 30), range.get(1));
+        assertTrue(range.contains(LocalDate.of(2016, 12, 29)));
+        assertFalse(range.contains(CURRENT_DATE));
+        assertFalse(range.contains(LocalDate.of(2016, 12, 28)));
+        assertEquals(2, range.indexOf(LocalDate.of(2016, 12, 29)));
+    }
+
+    @Test
+    void futureDaysStopAfterLastDay() {
+
+        DayRange range = DayRange.futureDays(CURRENT_DATE, 7, LocalDate.of(2017, 1, 3));
+
+        assertEquals(List.of(LocalDate.of(2017, 1, 2), LocalDate.of(2017, 1, 3)), range);
+        assertTrue(DayRange.futureDays(CURRENT_DATE, 7, CURRENT_DATE).isEmpty());
+        assertEquals(7, DayRange.futureDays(CURRENT_DATE, 7, LocalDate.of(2018, 1, 1)).size());
+    }
+
+    @Test
+    void emptyRanges() {
+
+        assertTrue(DayRange.previousDays(CURRENT_DATE, 0).isEmpty());
+        assertTrue(DayRange.previousDays(CURRENT_DATE, -1).isEmpty());
+        assertFalse(DayRange.previousDays(CURRENT_DATE, 0).contains(CURRENT_DATE));
+    }
+
+    @Test
+    void streams() {
+
+        DayRange range = DayRange.of(LocalDate.of(2016, 2, 27), LocalDate.of(2016, 3, 1));
+
+        assertEquals(List.of(LocalDate.of(2016, 2, 27), LocalDate.of(2016, 2, 28), LocalDate.of(2016, 2, 29),
+                LocalDate.of(2016, 3, 1)), range.stream().collect(Collectors.toList()));
+        assertEquals(List.of(16858L, 16857L, 16856L),
+                DayRange.of(LocalDate.ofEpochDay(16858), LocalDate.ofEpochDay(16856)).epochDays().boxed().toList());
+        assertEquals(range.get(3).toEpochDay(), range.epochDays().max().getAsLong());
+    }
+
+    @Test
+    void subList() {
+
+        DayRange range = DayRange.previousDays(CURRENT_DATE, 30);
+
+        assertEquals(List.of(LocalDate.of(2016, 12, 29), LocalDate.of(2016, 12, 28)), range.subList(2, 4));
+        assertTrue(range.subList(5, 5).isEmpty());
+    }
+
+    @Test
+    void isImmutable() {
+
+        DayRange range = DayRange.previousDays(CURRENT_DATE, 3);
+
+        assertThrows(UnsupportedOperationException.class, () -> range.add(CURRENT_DATE));
+        assertThrows(IndexOutOfBoundsException.class, () -> range.get(3));
+    }
+}
@@ -0,0 +1,56 @@
+package uk.gov.companieshouse.accountsdates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class PeriodRangeTest {
+
+    private static final LocalDate PERIOD_END = LocalDate.parse("2016-12-31");
+
+    @Test
+    void fullDate() {
+
+        PeriodRange range = PeriodRange.fullDate(PERIOD_END);
+
+        assertEquals("31 December 2016", range.heading());
+        assertNull(range.periodStartText());
+        assertEquals(Map.of(PeriodRange.PERIOD_END, "31 December 2016"), range.toMap());
+    }
+
+    @Test
+    void year() {
+
+        PeriodRange range = PeriodRange.year(PERIOD_END);
+
+        assertEquals("2016", range.heading());
+        assertNull(range.periodStartText());
+        assertEquals(Map.of(PeriodRange.PERIOD_END, "2016"), range.toMap());
+    }
+
+    @Test
+    void months() {
+
+        PeriodRange range = PeriodRange.months(15, PERIOD_END);
+
+        assertEquals("15 months to 31 December 2016", range.heading());
+        assertEquals("15 months", range.periodStartText());
+        assertEquals(Map.of(PeriodRange.PERIOD_START, "15 months", PeriodRange.PERIOD_END, "31 December 2016"),
+                range.toMap());
+        assertEquals("1 month to 31 December 2016", PeriodRange.months(1, PERIOD_END).heading());
+    }
+
+    @Test
+    void appendHeading() {
+
+        StringBuilder builder = new StringBuilder("Heading: ");
+
+        PeriodRange.months(6, PERIOD_END).appendHeading(builder);
+
+        assertEquals("Heading: 6 months to 31 December 2016", builder.toString());
+    }
+}
@@ -0,0 +1,91 @@
+package uk.gov.companieshouse.accountsdates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesHelperImpl;
+
+class RollingDayWindowTest {
+
+    private static final LocalDate CURRENT_DATE = LocalDate.of(2017, 1, 1);
+
+    private final AccountsDatesHelper helper = new AccountsDatesHelperImpl();
+
+    @Test
+    void daysMatchPreviousDaysAsWindowMoves() {
+        RollingDayWindow window = new RollingDayWindow(CURRENT_DATE, 7);
+        List<LocalDate> days = window.days();
+
+        for (int i = 0; i < 40; i++) {
+            LocalDate currentDate = CURRENT_DATE.plusDays(i);
+            assertEquals(i > 0, window.advanceTo(currentDate));
+            assertEquals(helper.getPreviousDays(currentDate, 7), days);
+            assertEquals(window.toDayRange(), days);
+        }
+    }
+
+    @Test
+    void valuesDropOutOfWindow() {
+        RollingDayWindow window = new RollingDayWindow(CURRENT_DATE, 3);
+
+        assertTrue(window.add(LocalDate.of(2016, 12, 31), 5));
+        assertTrue(window.add(LocalDate.of(2016, 12, 29), 2));
+        assertFalse(window.add(CURRENT_DATE, 1));
+        assertFalse(window.add(LocalDate.of(2016, 12, 28), 1));
+        assertEquals(7, window.getTotal());
+        assertEquals(5, window.getValue(0));
+        assertEquals(2, window.getValue(LocalDate.of(2016, 12, 29)));
+
+        window.advanceTo(CURRENT_DATE.plusDays(1));
+        assertEquals(5, window.getTotal());
+        assertEquals(0, window.getValue(0));
+        assertEquals(5, window.getValue(1));
+        assertEquals(0, window.getValue(LocalDate.of(2016, 12, 29)));
+
+        window.add(CURRENT_DATE, 4);
+        window.advanceTo(CURRENT_DATE.plusDays(3));
+        assertEquals(4, window.getTotal());
+        assertEquals(4, window.getValue(2));
+    }
+
+    @Test
+    void jumpPastWholeWindow() {
+        RollingDayWindow window = new RollingDayWindow(CURRENT_DATE, 3);
+        window.add(LocalDate.of(2016, 12, 31), 5);
+
+        assertTrue(window.advanceTo(CURRENT_DATE.plusDays(30)));
+
+        assertEquals(0, window.getTotal());
+        assertEquals(List.of(0L, 0L, 0L), List.of(window.getValue(0), window.getValue(1), window.getValue(2)));
+        assertEquals(CURRENT_DATE.plusDays(29), window.days().get(0));
+    }
+
+    @Test
+    void daysView() {
+        RollingDayWindow window = new RollingDayWindow(CURRENT_DATE, 3);
+        List<LocalDate> days = window.days();
+
+        assertEquals(3, days.size());
+        assertEquals(2, days.indexOf(LocalDate.of(2016, 12, 29)));
+        assertEquals(-1, days.indexOf(CURRENT_DATE));
+        assertFalse(days.contains(LocalDate.of(2016, 12, 28)));
+        assertThrows(IndexOutOfBoundsException.class, () -> days.get(3));
+        assertThrows(UnsupportedOperationException.class, () -> days.add(CURRENT_DATE));
+    }
+
+    @Test
+    void invalidWindow() {
+        RollingDayWindow window = new RollingDayWindow(CURRENT_DATE, 3);
+
+        assertThrows(IllegalArgumentException.class, () -> new RollingDayWindow(CURRENT_DATE, 0));
+        assertThrows(IllegalArgumentException.class, () -> window.advanceTo(CURRENT_DATE.minusDays(1)));
+        assertFalse(window.advanceTo(CURRENT_DATE));
+    }
+}
@@ -0,0 +1,64 @@
+package uk.gov.companieshouse.accountsdates.batch;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesHelperImpl;
+import uk.gov.companieshouse.accountsdates.impl.CachingAccountsDatesHelper;
+
+/**
+ * Command line entry point for {@link BalanceSheetHeadingFileProcessor}, kept out of the library jar and run from a
+ * checkout with:
+ * <pre>
+ * make backfill input=&lt;input&gt; output=&lt;output|-&gt; [format=csv|ndjson]
+ * </pre>
+ * An output of '-' writes to standard out. When no format is given it is picked from the input file name.
+ */
+public final class BalanceSheetHeadingBackfill {
+
+    private static final String STANDARD_OUT = "-";
+
+    private BalanceSheetHeadingBackfill() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            usage(System.err);
+            System.exit(2);
+            return;
+        }
+
+        Path input = Path.of(args[0]);
+        BalanceSheetHeadingFileProcessor.Format format = args.length == 3
+                ? BalanceSheetHeadingFileProcessor.Format.valueOf(args[2].toUpperCase(Locale.ROOT))
+                : BalanceSheetHeadingFileProcessor.Format.fromFileName(input);
+
+        // backfill exports repeat a small set of periods, so cached headings save most of the formatting
+        BalanceSheetHeadingFileProcessor processor =
+                new BalanceSheetHeadingFileProcessor(new CachingAccountsDatesHelper(new AccountsDatesHelperImpl()));
+
+        long count;
+        if (STANDARD_OUT.equals(args[1])) {
+            WritableByteChannel output = Channels.newChannel(new FileOutputStream(FileDescriptor.out));
+            count = processor.process(input, format, output);
+        } else {
+            try (FileChannel output = FileChannel.open(Path.of(args[1]), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                count = processor.process(input, format, output);
+            }
+        }
+        System.err.println("Wrote " + count + " balance sheet headings");
+    }
+
+    private static void usage(PrintStream out) {
+        out.println("Usage: BalanceSheetHeadingBackfill <input> <output|-> [csv|ndjson]");
+    }
+}
@@ -0,0 +1,125 @@
+package uk.gov.companieshouse.accountsdates.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesHelperImpl;
+
+class BalanceSheetHeadingFileProcessorTest {
+
+    private final AccountsDatesHelper helper = new AccountsDatesHelperImpl();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void csvWithHeader() throws IOException {
+
+        Path input = write("periods.csv",
+                "periodStart,periodEnd,isSameYear\n"
+                        + "2016-01-01,2016-12-31,false\r\n"
+                        + "2015-02-01,2016-02-16\n"
+                        + "\n"
+                        + "2014-06-01,2015-06-30,true");
+
+        assertEquals(List.of("2016", "13 months to 16 February 2016", "30 June 2015"),
+                process(new BalanceSheetHeadingFileProcessor(helper), input,
+                        BalanceSheetHeadingFileProcessor.Format.CSV));
+    }
+
+    @Test
+    void ndjson() throws IOException {
+
+        Path input = write("periods.ndjson",
+                "{\"periodStart\":\"2016-01-01\",\"periodEnd\":\"2016-12-31\",\"isSameYear\":false}\n"
+                        + "{ \"isSameYear\" : true, \"periodEnd\" : \"2015-06-30\", \"periodStart\" : \"2014-06-01\" }\n"
+                        + "{\"periodStart\":\"2015-02-01\",\"periodEnd\":\"2016-02-16\"}\n");
+
+        assertEquals(BalanceSheetHeadingFileProcessor.Format.NDJSON,
+                BalanceSheetHeadingFileProcessor.Format.fromFileName(input));
+        assertEquals(List.of("2016", "30 June 2015", "13 months to 16 February 2016"),
+                process(new BalanceSheetHeadingFileProcessor(helper), input,
+                        BalanceSheetHeadingFileProcessor.Format.NDJSON));
+    }
+
+    @Test
+    void matchesHelperAcrossWindowsAndBufferFlushes() throws IOException {
+
+        StringBuilder csv = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        LocalDate periodStart = LocalDate.of(2010, 1, 1);
+        for (int i = 0; i < 2_000; i++) {
+            LocalDate periodEnd = periodStart.plusMonths(6 + i % 13).minusDays(i % 5);
+            boolean isSameYear = i % 7 == 0;
+            csv.append(periodStart).append(',').append(periodEnd).append(',').append(isSameYear).append('\n');
+            expected.add(helper.generateBalanceSheetHeading(periodStart, periodEnd, isSameYear));
+            periodStart = periodStart.plusDays(11);
+        }
+        Path input = write("periods.csv", csv.toString());
+
+        // windows and buffers far smaller than the file, and not a multiple of the line length
+        BalanceSheetHeadingFileProcessor processor = new BalanceSheetHeadingFileProcessor(helper, 97, 61);
+
+        assertEquals(expected, process(processor, input, BalanceSheetHeadingFileProcessor.Format.CSV));
+    }
+
+    @Test
+    void invalidLineIsReported() throws IOException {
+
+        Path input = write("periods.csv", "2016-01-01,2016-12-31\n2016-02-30,2016-12-31\n");
+        BalanceSheetHeadingFileProcessor processor = new BalanceSheetHeadingFileProcessor(helper);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> process(processor, input, BalanceSheetHeadingFileProcessor.Format.CSV));
+        assertTrue(exception.getMessage().contains("Line 2"));
+    }
+
+    @Test
+    void invalidFirstLineIsReported() throws IOException {
+
+        Path input = write("periods.csv", "2016-13-01,2016-12-31\n2016-01-01,2016-12-31\n");
+        BalanceSheetHeadingFileProcessor processor = new BalanceSheetHeadingFileProcessor(helper);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> process(processor, input, BalanceSheetHeadingFileProcessor.Format.CSV));
+        assertTrue(exception.getMessage().contains("Line 1"));
+    }
+
+    @Test
+    void lineLongerThanWindowIsRejected() throws IOException {
+
+        Path input = write("periods.csv", "2016-01-01,2016-12-31\n2016-01-01,2016-12-31\n");
+        BalanceSheetHeadingFileProcessor processor = new BalanceSheetHeadingFileProcessor(helper, 16, 64);
+
+        assertThrows(IOException.class, () -> process(processor, input, BalanceSheetHeadingFileProcessor.Format.CSV));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content, StandardCharsets.US_ASCII);
+    }
+
+    private static List<String> process(BalanceSheetHeadingFileProcessor processor, Path input,
+            BalanceSheetHeadingFileProcessor.Format format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count = processor.process(input, format, Channels.newChannel(output));
+
+        List<String> headings = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(count, headings.size());
+        return headings;
+    }
+}
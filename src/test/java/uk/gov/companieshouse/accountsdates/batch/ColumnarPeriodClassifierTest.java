@@ -0,0 +1,137 @@
+package uk.gov.companieshouse.accountsdates.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.companieshouse.accountsdates.PeriodRange;
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesHelperImpl;
+
+class ColumnarPeriodClassifierTest {
+
+    private final AccountsDatesHelperImpl helper = new AccountsDatesHelperImpl();
+
+    @Test
+    void scalarMatchesHelper() {
+        assertMatchesHelper(ColumnarPeriodClassifier.scalar(), densePeriods());
+        assertMatchesHelper(ColumnarPeriodClassifier.scalar(), randomPeriods());
+    }
+
+    @Test
+    void vectorMatchesHelper() {
+        assumeTrue(ColumnarPeriodClassifier.vector().isPresent(), "jdk.incubator.vector not added");
+
+        assertMatchesHelper(ColumnarPeriodClassifier.vector().get(), densePeriods());
+        assertMatchesHelper(ColumnarPeriodClassifier.vector().get(), randomPeriods());
+    }
+
+    @Test
+    void vectorAvailableWhenModuleAdded() {
+        assertEquals(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(),
+                ColumnarPeriodClassifier.vector().isPresent());
+        assertEquals(ColumnarPeriodClassifier.vector().orElse(ColumnarPeriodClassifier.scalar()),
+                ColumnarPeriodClassifier.fastest());
+    }
+
+    @Test
+    void classifyRowRange() {
+        int[][] periods = periods(LocalDate.parse("2015-01-01"), LocalDate.parse("2015-12-31"),
+                LocalDate.parse("2015-02-01"), LocalDate.parse("2016-02-16"),
+                LocalDate.parse("2015-01-01"), LocalDate.parse("2015-01-10"));
+        byte[] kinds = new byte[3];
+        int[] months = {-1, -1, -1};
+        boolean[] sameYear = new boolean[3];
+
+        ColumnarPeriodClassifier.scalar().classify(periods[0], periods[1], 1, 3, kinds, months, sameYear);
+
+        assertEquals(-1, months[0]);
+        assertEquals(PeriodRange.Kind.MONTHS, ColumnarPeriodClassifier.kind(kinds[1]));
+        assertEquals(13, months[1]);
+        assertFalse(sameYear[1]);
+        assertEquals(1, months[2]);
+        assertTrue(sameYear[2]);
+    }
+
+    @Test
+    void mismatchedColumns() {
+        ColumnarPeriodClassifier classifier = ColumnarPeriodClassifier.scalar();
+
+        assertThrows(IllegalArgumentException.class, () -> classifier.classify(new int[2], new int[1],
+                new byte[2], new int[2], new boolean[2]));
+        assertThrows(IndexOutOfBoundsException.class, () -> classifier.classify(new int[2], new int[2],
+                new byte[2], new int[1], new boolean[2]));
+    }
+
+    private void assertMatchesHelper(ColumnarPeriodClassifier classifier, int[][] periods) {
+        int[] startEpochDays = periods[0];
+        int[] endEpochDays = periods[1];
+        byte[] kinds = new byte[startEpochDays.length];
+        int[] months = new int[startEpochDays.length];
+        boolean[] sameYear = new boolean[startEpochDays.length];
+
+        classifier.classify(startEpochDays, endEpochDays, kinds, months, sameYear);
+
+        for (int i = 0; i < startEpochDays.length; i++) {
+            LocalDate start = LocalDate.ofEpochDay(startEpochDays[i]);
+            LocalDate end = LocalDate.ofEpochDay(endEpochDays[i]);
+            PeriodRange expected = helper.getPeriodRange(start, end, false);
+            String row = start + " to " + end;
+            assertEquals(expected.kind(), ColumnarPeriodClassifier.kind(kinds[i]), row);
+            assertEquals(expected.months(), months[i], row);
+            assertEquals(helper.isSameYear(start, end), sameYear[i], row);
+        }
+    }
+
+    /**
+     * Every start day from 1999 to 2002 with every length up to 800 days either way, an odd row count so the last
+     * rows are left over after the final whole vector
+     */
+    private static int[][] densePeriods() {
+        int first = (int) LocalDate.parse("1999-01-01").toEpochDay();
+        int last = (int) LocalDate.parse("2002-12-31").toEpochDay();
+        int lengths = 1601;
+        int rows = (last - first + 1) * lengths;
+        int[][] periods = new int[2][rows];
+        int row = 0;
+        for (int start = first; start <= last; start++) {
+            for (int length = -800; length <= 800; length++) {
+                periods[0][row] = start;
+                periods[1][row++] = start + length;
+            }
+        }
+        return periods;
+    }
+
+    /**
+     * Random periods, some with dates outside the vector implementation's calendar table
+     */
+    private static int[][] randomPeriods() {
+        SplittableRandom random = new SplittableRandom(18);
+        int rows = 100_003;
+        int[][] periods = new int[2][rows];
+        for (int row = 0; row < rows; row++) {
+            int start = row % 50 == 0
+                    ? random.nextInt(-1_000_000, 1_000_000)
+                    : random.nextInt(-50_000, 70_000);
+            periods[0][row] = start;
+            periods[1][row] = start + random.nextInt(-5_000, 5_000);
+        }
+        return periods;
+    }
+
+    private static int[][] periods(LocalDate... dates) {
+        int[][] periods = new int[2][dates.length / 2];
+        for (int row = 0; row < dates.length / 2; row++) {
+            periods[0][row] = (int) dates[row * 2].toEpochDay();
+            periods[1][row] = (int) dates[row * 2 + 1].toEpochDay();
+        }
+        return periods;
+    }
+}
@@ -0,0 +1,123 @@
+package uk.gov.companieshouse.accountsdates.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentLruCacheTest {
+
+    @Test
+    void computesOnMissAndCountsHits() {
+
+        ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(10);
+        AtomicInteger computed = new AtomicInteger();
+
+        assertEquals("A", cache.get("a", key -> { computed.incrementAndGet(); return key.toUpperCase(); }));
+        assertEquals("A", cache.get("a", key -> { computed.incrementAndGet(); return key.toUpperCase(); }));
+
+        assertEquals(1, computed.get());
+        assertEquals(new CacheStats(1, 1, 0, 1), cache.stats());
+        assertEquals(0.5, cache.stats().hitRate());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+
+        ConcurrentLruCache<Integer, Integer> cache = new ConcurrentLruCache<>(1);
+
+        cache.put(1, 1);
+        cache.put(2, 2);
+
+        assertNull(cache.getIfPresent(1));
+        assertEquals(2, cache.getIfPresent(2));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    void staysWithinMaximumSize() {
+
+        ConcurrentLruCache<Integer, Integer> cache = new ConcurrentLruCache<>(100);
+
+        for (int i = 0; i < 10_000; i++) {
+            cache.get(i, key -> key);
+        }
+
+        assertTrue(cache.size() <= 100);
+        assertEquals(10_000 - cache.size(), cache.stats().evictions());
+    }
+
+    @Test
+    void concurrentAccess() throws InterruptedException {
+
+        ConcurrentLruCache<Integer, Integer> cache = new ConcurrentLruCache<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    int key = i % 200;
+                    assertEquals(key * 2, cache.get(key, k -> k * 2));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        CacheStats stats = cache.stats();
+        assertEquals(400_000, stats.hits() + stats.misses());
+        assertTrue(stats.size() <= 64);
+    }
+
+    @Test
+    void invalidate() {
+
+        ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(10);
+        cache.put("a", "A");
+        cache.put("b", "B");
+
+        cache.invalidate("a");
+        assertNull(cache.getIfPresent("a"));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void rejectsInvalidMaximumSize() {
+
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLruCache<>(0));
+    }
+
+    @Test
+    void expiresEntriesAfterWrite() {
+
+        long[] now = {0};
+        ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(10, 100, () -> now[0]);
+
+        cache.put("a", "A");
+        now[0] = 99;
+        assertEquals("A", cache.getIfPresent("a"));
+
+        now[0] = 100;
+        assertNull(cache.getIfPresent("a"));
+        assertEquals("B", cache.get("a", key -> "B"));
+
+        now[0] = 150;
+        assertEquals("B", cache.getIfPresent("a"));
+        assertEquals(new CacheStats(2, 2, 0, 1, 1), cache.stats());
+    }
+
+    @Test
+    void rejectsNonPositiveExpiry() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLruCache<>(10, Duration.ZERO));
+    }
+}
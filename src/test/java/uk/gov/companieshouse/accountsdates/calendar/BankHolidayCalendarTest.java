@@ -0,0 +1,124 @@
+package uk.gov.companieshouse.accountsdates.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BankHolidayCalendarTest {
+
+    static final String ENGLAND_AND_WALES_2024_2025 = """
+            # England and Wales
+            2024-01-01 New Year's Day
+            2024-03-29 Good Friday
+            2024-04-01 Easter Monday
+            2024-05-06 Early May bank holiday
+            2024-05-27 Spring bank holiday
+            2024-08-26 Summer bank holiday
+            2024-12-25 Christmas Day
+            2024-12-26 Boxing Day
+
+            2025-01-01
+            2025-04-18
+            2025-04-21
+            2025-05-05
+            2025-05-26
+            2025-08-25
+            2025-12-25  # Christmas Day
+            2025-12-26
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void loadFile() throws IOException {
+        BankHolidayCalendar calendar = load(ENGLAND_AND_WALES_2024_2025);
+
+        assertEquals(LocalDate.of(2024, 1, 1), calendar.getFirstDay());
+        assertEquals(LocalDate.of(2025, 12, 31), calendar.getLastDay());
+        assertEquals(16, calendar.getBankHolidayCount());
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2024, 12, 25)));
+        assertTrue(calendar.isWorkingDay(LocalDate.of(2024, 12, 27)));
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2024, 12, 28)));
+    }
+
+    @Test
+    void everyDayMatchesWeekendsAndBankHolidays() throws IOException {
+        BankHolidayCalendar calendar = load(ENGLAND_AND_WALES_2024_2025);
+        Set<LocalDate> bankHolidays = ENGLAND_AND_WALES_2024_2025.lines()
+                .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                .map(line -> LocalDate.parse(line.substring(0, 10)))
+                .collect(Collectors.toSet());
+
+        for (LocalDate date = calendar.getFirstDay(); !date.isAfter(calendar.getLastDay()); date = date.plusDays(1)) {
+            boolean weekend = date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+            assertEquals(!weekend && !bankHolidays.contains(date), calendar.isWorkingDay(date), date.toString());
+        }
+    }
+
+    @Test
+    void nearestWorkingDays() throws IOException {
+        BankHolidayCalendar calendar = load(ENGLAND_AND_WALES_2024_2025);
+
+        assertEquals(LocalDate.of(2025, 4, 17), calendar.workingDayOnOrBefore(LocalDate.of(2025, 4, 21)));
+        assertEquals(LocalDate.of(2025, 4, 22), calendar.workingDayOnOrAfter(LocalDate.of(2025, 4, 18)));
+        assertEquals(LocalDate.of(2024, 12, 24), calendar.workingDayOnOrBefore(LocalDate.of(2024, 12, 26)));
+        assertEquals(LocalDate.of(2024, 12, 27), calendar.workingDayOnOrAfter(LocalDate.of(2024, 12, 27)));
+    }
+
+    @Test
+    void calendarStartingOnSunday() {
+        BankHolidayCalendar calendar = BankHolidayCalendar.of(LocalDate.of(2024, 12, 29), LocalDate.of(2025, 1, 5),
+                List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 4), LocalDate.of(2026, 1, 1)));
+
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2024, 12, 29)));
+        assertTrue(calendar.isWorkingDay(LocalDate.of(2024, 12, 30)));
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2025, 1, 1)));
+        assertTrue(calendar.isWorkingDay(LocalDate.of(2025, 1, 3)));
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2025, 1, 5)));
+        // a Saturday bank holiday and one outside the calendar are not counted
+        assertEquals(1, calendar.getBankHolidayCount());
+    }
+
+    @Test
+    void datesOutsideCalendar() throws IOException {
+        BankHolidayCalendar calendar = load(ENGLAND_AND_WALES_2024_2025);
+
+        assertFalse(calendar.covers(LocalDate.of(2026, 1, 1)));
+        assertThrows(DateTimeException.class, () -> calendar.isWorkingDay(LocalDate.of(2023, 12, 31)));
+        assertThrows(DateTimeException.class, () -> calendar.workingDayOnOrBefore(LocalDate.of(2026, 1, 2)));
+
+        BankHolidayCalendar weekend = BankHolidayCalendar.of(LocalDate.of(2024, 12, 28), LocalDate.of(2024, 12, 29),
+                List.of());
+        assertThrows(DateTimeException.class, () -> weekend.workingDayOnOrBefore(LocalDate.of(2024, 12, 29)));
+        assertThrows(DateTimeException.class, () -> weekend.workingDayOnOrAfter(LocalDate.of(2024, 12, 28)));
+    }
+
+    @Test
+    void invalidFiles() {
+        assertThrows(IllegalArgumentException.class, () -> load("2024-12-25\n2024-13-01\n"));
+        assertThrows(IllegalArgumentException.class, () -> load("2024-12-25x\n"));
+        assertThrows(IllegalArgumentException.class, () -> load("# nothing\n\n"));
+    }
+
+    private BankHolidayCalendar load(String content) throws IOException {
+        Path file = tempDir.resolve("bank-holidays.txt");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return BankHolidayCalendar.load(file);
+    }
+}
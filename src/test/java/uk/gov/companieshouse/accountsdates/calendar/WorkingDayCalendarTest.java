@@ -0,0 +1,113 @@
+package uk.gov.companieshouse.accountsdates.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class WorkingDayCalendarTest {
+
+    private final BankHolidayCalendar bankHolidays = BankHolidayCalendar.of(
+            BankHolidayCalendarTest.ENGLAND_AND_WALES_2024_2025.lines()
+                    .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                    .map(line -> LocalDate.parse(line.substring(0, 10)))
+                    .toList());
+
+    private final WorkingDayCalendar calendar = WorkingDayCalendar.of(bankHolidays);
+
+    @Test
+    void workingDaysBetween() {
+        // Christmas week 2024: Monday 23rd, Tuesday 24th and Friday 27th
+        assertEquals(3, calendar.workingDaysBetween(LocalDate.of(2024, 12, 23), LocalDate.of(2024, 12, 30)));
+        assertEquals(-3, calendar.workingDaysBetween(LocalDate.of(2024, 12, 30), LocalDate.of(2024, 12, 23)));
+        assertEquals(0, calendar.workingDaysBetween(LocalDate.of(2024, 12, 25), LocalDate.of(2024, 12, 25)));
+        assertEquals(254, calendar.workingDaysBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1)));
+        assertEquals(calendar.getWorkingDayCount(),
+                calendar.workingDaysBetween(calendar.getFirstDay(), calendar.getLastDay().plusDays(1)));
+    }
+
+    @Test
+    void addWorkingDays() {
+        LocalDate christmasEve = LocalDate.of(2024, 12, 24);
+
+        assertEquals(LocalDate.of(2024, 12, 27), calendar.addWorkingDays(christmasEve, 1));
+        assertEquals(LocalDate.of(2024, 12, 30), calendar.addWorkingDays(christmasEve, 2));
+        assertEquals(LocalDate.of(2024, 12, 23), calendar.addWorkingDays(christmasEve, -1));
+        assertEquals(christmasEve, calendar.addWorkingDays(christmasEve, 0));
+        // from a bank holiday
+        assertEquals(LocalDate.of(2024, 12, 27), calendar.addWorkingDays(LocalDate.of(2024, 12, 25), 1));
+        assertEquals(christmasEve, calendar.addWorkingDays(LocalDate.of(2024, 12, 25), -1));
+    }
+
+    @Test
+    void matchesWalkingTheDays() {
+        SplittableRandom random = new SplittableRandom(23);
+        int days = (int) (calendar.getLastDay().toEpochDay() - calendar.getFirstDay().toEpochDay());
+        for (int i = 0; i < 2_000; i++) {
+            LocalDate start = calendar.getFirstDay().plusDays(random.nextInt(days + 1));
+            LocalDate end = calendar.getFirstDay().plusDays(random.nextInt(days + 1));
+            assertEquals(walkBetween(start, end), calendar.workingDaysBetween(start, end), start + " to " + end);
+
+            int workingDays = random.nextInt(-20, 21);
+            LocalDate expected = walkAdd(start, workingDays);
+            if (calendar.getFirstDay().isAfter(expected) || calendar.getLastDay().isBefore(expected)) {
+                continue;
+            }
+            assertEquals(expected, calendar.addWorkingDays(start, workingDays), start + " + " + workingDays);
+        }
+    }
+
+    @Test
+    void window() {
+        WorkingDayCalendar window = WorkingDayCalendar.of(bankHolidays, LocalDate.of(2024, 12, 23),
+                LocalDate.of(2024, 12, 29));
+
+        assertEquals(3, window.getWorkingDayCount());
+        assertEquals(LocalDate.of(2024, 12, 27), window.addWorkingDays(LocalDate.of(2024, 12, 23), 2));
+        assertThrows(DateTimeException.class, () -> window.addWorkingDays(LocalDate.of(2024, 12, 27), 1));
+        assertThrows(DateTimeException.class, () -> window.addWorkingDays(LocalDate.of(2024, 12, 23), -1));
+        assertThrows(DateTimeException.class, () -> window.isWorkingDay(LocalDate.of(2024, 12, 30)));
+        assertThrows(DateTimeException.class, () -> window.workingDaysBetween(LocalDate.of(2024, 12, 23),
+                LocalDate.of(2024, 12, 31)));
+        assertThrows(DateTimeException.class, () -> WorkingDayCalendar.of(bankHolidays, LocalDate.of(2025, 12, 1),
+                LocalDate.of(2026, 1, 31)));
+        assertThrows(IllegalArgumentException.class, () -> WorkingDayCalendar.of(bankHolidays,
+                LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 1)));
+    }
+
+    @Test
+    void isWorkingDayMatchesBankHolidayCalendar() {
+        for (LocalDate date : List.of(LocalDate.of(2025, 4, 18), LocalDate.of(2025, 4, 22), LocalDate.of(2025, 5, 3))) {
+            assertEquals(bankHolidays.isWorkingDay(date), calendar.isWorkingDay(date), date.toString());
+        }
+    }
+
+    private int walkBetween(LocalDate start, LocalDate end) {
+        int sign = end.isBefore(start) ? -1 : 1;
+        LocalDate from = sign > 0 ? start : end;
+        LocalDate to = sign > 0 ? end : start;
+        int count = 0;
+        for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+            count += bankHolidays.isWorkingDay(date) ? 1 : 0;
+        }
+        return sign * count;
+    }
+
+    private LocalDate walkAdd(LocalDate date, int workingDays) {
+        int step = workingDays < 0 ? -1 : 1;
+        LocalDate result = date;
+        for (int remaining = Math.abs(workingDays); remaining > 0; ) {
+            result = result.plusDays(step);
+            if (!bankHolidays.covers(result)) {
+                return result;
+            }
+            remaining -= bankHolidays.isWorkingDay(result) ? 1 : 0;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,98 @@
+package uk.gov.companieshouse.accountsdates.deadline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.companieshouse.accountsdates.calendar.BankHolidayCalendar;
+
+class FilingDeadlineCalculatorTest {
+
+    private final FilingDeadlineCalculator calculator = new FilingDeadlineCalculator(BankHolidayCalendar.of(List.of(
+            LocalDate.of(2024, 8, 26), LocalDate.of(2024, 12, 25), LocalDate.of(2024, 12, 26),
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 25), LocalDate.of(2025, 12, 26))));
+
+    @Test
+    void privateCompany() {
+        FilingDeadline deadline = calculator.calculate(LocalDate.of(2024, 3, 31), CompanyType.PRIVATE);
+
+        assertEquals(LocalDate.of(2024, 12, 31), deadline.dueDate());
+        assertEquals(LocalDate.of(2024, 12, 31), deadline.lastWorkingDay());
+    }
+
+    @Test
+    void publicCompany() {
+        assertEquals(LocalDate.of(2024, 12, 31),
+                calculator.calculate(LocalDate.of(2024, 6, 30), CompanyType.PUBLIC).dueDate());
+    }
+
+    @Test
+    void monthEndPeriodsAreDueAtMonthEnd() {
+        assertEquals(LocalDate.of(2023, 11, 30), FilingDeadlineCalculator.dueDate(LocalDate.of(2023, 2, 28),
+                CompanyType.PRIVATE));
+        assertEquals(LocalDate.of(2024, 11, 30), FilingDeadlineCalculator.dueDate(LocalDate.of(2024, 2, 29),
+                CompanyType.PRIVATE));
+        assertEquals(LocalDate.of(2025, 3, 31), FilingDeadlineCalculator.dueDate(LocalDate.of(2024, 6, 30),
+                CompanyType.PRIVATE));
+        // not a month end, so the day is kept where the month has it
+        assertEquals(LocalDate.of(2025, 2, 28), FilingDeadlineCalculator.dueDate(LocalDate.of(2024, 5, 30),
+                CompanyType.PRIVATE));
+        assertEquals(LocalDate.of(2025, 3, 29), FilingDeadlineCalculator.dueDate(LocalDate.of(2024, 6, 29),
+                CompanyType.PRIVATE));
+    }
+
+    @Test
+    void lastWorkingDayBeforeWeekendOrBankHoliday() {
+        assertEquals(LocalDate.of(2024, 11, 29),
+                calculator.calculate(LocalDate.of(2024, 2, 29), CompanyType.PRIVATE).lastWorkingDay());
+        FilingDeadline christmas = calculator.calculate(LocalDate.of(2024, 3, 26), CompanyType.PRIVATE);
+        assertEquals(LocalDate.of(2024, 12, 26), christmas.dueDate());
+        assertEquals(LocalDate.of(2024, 12, 24), christmas.lastWorkingDay());
+    }
+
+    @Test
+    void firstAccounts() {
+        LocalDate incorporated = LocalDate.of(2023, 1, 15);
+
+        // more than 12 months, so due 21 or 18 months after incorporation
+        assertEquals(LocalDate.of(2024, 10, 15), calculator.calculateFirstAccounts(incorporated,
+                LocalDate.of(2024, 1, 31), CompanyType.PRIVATE).dueDate());
+        assertEquals(LocalDate.of(2024, 7, 15), calculator.calculateFirstAccounts(incorporated,
+                LocalDate.of(2024, 1, 31), CompanyType.PUBLIC).dueDate());
+        // unless 3 months after the period end is later
+        assertEquals(LocalDate.of(2024, 10, 14), FilingDeadlineCalculator.firstAccountsDueDate(incorporated,
+                LocalDate.of(2024, 7, 14), CompanyType.PUBLIC));
+        // 12 months or less, so the usual period applies
+        assertEquals(LocalDate.of(2024, 10, 14), FilingDeadlineCalculator.firstAccountsDueDate(incorporated,
+                LocalDate.of(2024, 1, 14), CompanyType.PRIVATE));
+        assertThrows(DateTimeException.class, () -> FilingDeadlineCalculator.firstAccountsDueDate(incorporated,
+                LocalDate.of(2023, 1, 14), CompanyType.PRIVATE));
+    }
+
+    @Test
+    void overdueDays() {
+        FilingDeadline deadline = calculator.calculate(LocalDate.of(2024, 3, 31), CompanyType.PRIVATE);
+
+        assertFalse(deadline.isOverdue(LocalDate.of(2024, 12, 31)));
+        assertEquals(0, deadline.daysOverdue(LocalDate.of(2024, 12, 31)));
+        assertEquals(30, deadline.daysRemaining(LocalDate.of(2024, 12, 1)));
+        assertTrue(deadline.isOverdue(LocalDate.of(2025, 1, 1)));
+        assertEquals(1, deadline.daysOverdue(LocalDate.of(2025, 1, 1)));
+        assertEquals(0, deadline.daysRemaining(LocalDate.of(2025, 1, 1)));
+        assertEquals(396, FilingDeadlineCalculator.daysOverdue(LocalDate.of(2024, 3, 31), CompanyType.PRIVATE,
+                LocalDate.of(2026, 1, 31)));
+    }
+
+    @Test
+    void dueDateOutsideCalendar() {
+        assertThrows(DateTimeException.class,
+                () -> calculator.calculate(LocalDate.of(2025, 6, 30), CompanyType.PRIVATE));
+    }
+}
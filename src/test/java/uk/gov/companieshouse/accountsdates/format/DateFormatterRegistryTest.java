@@ -0,0 +1,44 @@
+package uk.gov.companieshouse.accountsdates.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+class DateFormatterRegistryTest {
+
+    @Test
+    void formatterIsCompiledOncePerLocale() {
+
+        DateTimeFormatter english = DateFormatterRegistry.getFormatter(DateFormatterRegistry.DATE_FORMAT_D_MMMM_YYYY, Locale.UK);
+
+        assertSame(english, DateFormatterRegistry.getFormatter(DateFormatterRegistry.DATE_FORMAT_D_MMMM_YYYY, Locale.UK));
+        assertSame(english, DateFormatterRegistry.getDisplayDateFormatter(Locale.UK));
+        assertNotSame(english, DateFormatterRegistry.getDisplayDateFormatter(DateFormatterRegistry.WELSH));
+    }
+
+    @Test
+    void defaultLocaleFormatterMatchesOfPattern() {
+
+        LocalDate date = LocalDate.parse("2017-03-05");
+
+        assertEquals(date.format(DateTimeFormatter.ofPattern(DateFormatterRegistry.DATE_FORMAT_D_MMMM_YYYY)),
+                date.format(DateFormatterRegistry.getFormatter(DateFormatterRegistry.DATE_FORMAT_D_MMMM_YYYY)));
+        assertEquals("2017-03-05", date.format(DateFormatterRegistry.getFormatter(DateFormatterRegistry.DATE_FORMAT_YYYYMMDD)));
+    }
+
+    @Test
+    void welshDisplayDate() {
+
+        DateTimeFormatter welsh = DateFormatterRegistry.getDisplayDateFormatter(DateFormatterRegistry.WELSH);
+
+        assertEquals("5 Mawrth 2017", LocalDate.parse("2017-03-05").format(welsh));
+        assertEquals("31 Rhagfyr 2016", LocalDate.parse("2016-12-31").format(welsh));
+        assertEquals("1 Gorffennaf 2015", LocalDate.parse("2015-07-01").format(welsh));
+    }
+}
@@ -0,0 +1,81 @@
+package uk.gov.companieshouse.accountsdates.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+class DisplayDateTableTest {
+
+    private final DisplayDateTable table = new DisplayDateTable(Locale.UK);
+
+    @Test
+    void matchesFormatterInsideWindow() {
+
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d MMMM yyyy", Locale.UK);
+
+        for (LocalDate date = DisplayDateTable.DEFAULT_FIRST_DATE; !date.isAfter(DisplayDateTable.DEFAULT_LAST_DATE);
+                date = date.plusDays(1)) {
+            assertEquals(date.format(formatter), table.displayDate(date));
+        }
+        assertEquals("5 March 2017", table.displayDate(LocalDate.of(2017, 3, 5)));
+        assertEquals("31 December 2100", table.displayDate(DisplayDateTable.DEFAULT_LAST_DATE));
+    }
+
+    @Test
+    void fallsBackOutsideWindow() {
+
+        LocalDate before = DisplayDateTable.DEFAULT_FIRST_DATE.minusDays(1);
+        LocalDate after = DisplayDateTable.DEFAULT_LAST_DATE.plusDays(1);
+
+        assertFalse(table.contains(before));
+        assertFalse(table.contains(after));
+        assertEquals("31 December 1989", table.displayDate(before));
+        assertEquals("1 January 2101", table.displayDate(after));
+        assertEquals("1989", table.year(before));
+        assertEquals("2101", table.year(after));
+    }
+
+    @Test
+    void yearsAreShared() {
+
+        assertTrue(table.contains(LocalDate.of(2016, 6, 30)));
+        assertEquals("2016", table.year(LocalDate.of(2016, 6, 30)));
+        assertSame(table.year(LocalDate.of(2016, 1, 1)), table.year(LocalDate.of(2016, 12, 31)));
+    }
+
+    @Test
+    void appendDisplayDate() {
+
+        StringBuilder builder = new StringBuilder("to ");
+
+        table.appendDisplayDate(LocalDate.of(2015, 6, 30), builder);
+        table.appendDisplayDate(LocalDate.of(1900, 1, 1), builder.append(", "));
+
+        assertEquals("to 30 June 2015, 1 January 1900", builder.toString());
+    }
+
+    @Test
+    void welshTable() {
+
+        DisplayDateTable welsh = new DisplayDateTable(LocalDate.of(2017, 1, 1), LocalDate.of(2017, 12, 31),
+                DateFormatterRegistry.WELSH);
+
+        assertEquals("5 Mawrth 2017", welsh.displayDate(LocalDate.of(2017, 3, 5)));
+        assertEquals("5 Mawrth 2018", welsh.displayDate(LocalDate.of(2018, 3, 5)));
+    }
+
+    @Test
+    void rejectsInvertedWindow() {
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new DisplayDateTable(LocalDate.of(2017, 1, 2), LocalDate.of(2017, 1, 1), Locale.UK));
+    }
+}
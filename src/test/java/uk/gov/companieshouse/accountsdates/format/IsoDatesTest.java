@@ -0,0 +1,91 @@
+package uk.gov.companieshouse.accountsdates.format;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+
+class IsoDatesTest {
+
+    @Test
+    void parseAndFormatMatchJavaTime() {
+
+        for (LocalDate date = LocalDate.of(1896, 1, 1); date.getYear() < 2104; date = date.plusDays(1)) {
+            String text = date.toString();
+
+            assertEquals(date, IsoDates.parse(text));
+            assertEquals(date, IsoDates.parse(new StringBuilder(text)));
+            assertEquals(date, IsoDates.parse(text.getBytes(StandardCharsets.US_ASCII), 0));
+            assertEquals(text, IsoDates.format(date));
+            assertEquals(date.toEpochDay(), IsoDates.parseEpochDay(text, 0));
+        }
+        assertEquals(LocalDate.of(1, 1, 1).toEpochDay(), IsoDates.parseEpochDay("0001-01-01", 0));
+        assertEquals(LocalDate.of(9999, 12, 31).toEpochDay(), IsoDates.parseEpochDay("9999-12-31", 0));
+    }
+
+    @Test
+    void parseFromOffset() {
+
+        byte[] bytes = "id,2017-03-05,2018-03-04".getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(LocalDate.of(2017, 3, 5), IsoDates.parse(bytes, 3));
+        assertEquals(LocalDate.of(2018, 3, 4), IsoDates.parse(bytes, 14));
+        assertEquals(LocalDate.of(2018, 3, 4).toEpochDay(), IsoDates.parseEpochDay(bytes, 14));
+        assertEquals(IsoDates.INVALID_EPOCH_DAY, IsoDates.parseEpochDay(bytes, 0));
+        assertEquals(LocalDate.of(2017, 3, 5).toEpochDay(), IsoDates.parseEpochDay(ByteBuffer.wrap(bytes), 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> IsoDates.parse(bytes, 15));
+    }
+
+    @Test
+    void parseRejectsInvalidText() {
+
+        String[] invalid = {"2017-3-05", "2017-03-5", "2017/03/05", "2017-03-05 ", "12017-03-05", "+2017-03-05",
+                "2017-13-01", "2017-00-01", "2017-01-00", "2017-01-32", "2017-02-29", "2017-04-31", "0000-01-01",
+                "2O17-03-05", "2017-03-0٥", ""};
+
+        for (String text : invalid) {
+            assertNull(IsoDates.tryParse(text), text);
+            if (text.length() == IsoDates.LENGTH) {
+                assertEquals(IsoDates.INVALID_EPOCH_DAY, IsoDates.parseEpochDay(text, 0), text);
+            }
+            assertThrows(DateTimeParseException.class, () -> IsoDates.parse(text), text);
+        }
+        assertEquals(LocalDate.of(2016, 2, 29), IsoDates.parse("2016-02-29"));
+        assertEquals(LocalDate.of(2000, 2, 29), IsoDates.parse("2000-02-29"));
+        assertNull(IsoDates.tryParse("1900-02-29"));
+    }
+
+    @Test
+    void appendToCallerBuilder() {
+
+        StringBuilder builder = new StringBuilder("period: ");
+
+        assertSame(builder, IsoDates.appendTo(LocalDate.of(7, 11, 9), builder));
+        assertEquals("period: 0007-11-09", builder.toString());
+    }
+
+    @Test
+    void formatToBytes() {
+
+        byte[] bytes = new byte[12];
+
+        assertEquals(11, IsoDates.formatTo(LocalDate.of(2015, 12, 17), bytes, 1));
+        assertArrayEquals("\0002015-12-17\000".getBytes(StandardCharsets.US_ASCII), bytes);
+    }
+
+    @Test
+    void formatRejectsUnsupportedYears() {
+
+        assertThrows(DateTimeException.class, () -> IsoDates.format(LocalDate.of(10000, 1, 1)));
+        assertThrows(DateTimeException.class, () -> IsoDates.format(LocalDate.of(0, 1, 1)));
+    }
+}
@@ -0,0 +1,65 @@
+package uk.gov.companieshouse.accountsdates.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class IsoInstantsTest {
+
+    @Test
+    void parseMatchesInstantParse() {
+
+        Random random = new Random(42);
+        long min = Instant.parse("1900-01-01T00:00:00Z").getEpochSecond();
+        long max = Instant.parse("2100-01-01T00:00:00Z").getEpochSecond();
+
+        for (int i = 0; i < 100_000; i++) {
+            Instant instant = Instant.ofEpochSecond(min + (long) (random.nextDouble() * (max - min)),
+                    random.nextInt(4) == 0 ? 0 : random.nextInt(1_000_000_000));
+            String text = instant.toString();
+
+            assertEquals(instant, IsoInstants.parse(text), text);
+            assertEquals(instant.getEpochSecond(), IsoInstants.parseEpochSecond(text), text);
+        }
+    }
+
+    @Test
+    void fixedLayouts() {
+
+        assertEquals(Instant.parse("2017-12-31T18:15:00.000Z").getEpochSecond(),
+                IsoInstants.parseEpochSecond("2017-12-31T18:15:00.000Z"));
+        assertEquals(Instant.parse("2016-12-02T03:15:22Z").getEpochSecond(),
+                IsoInstants.parseEpochSecond("2016-12-02T03:15:22Z"));
+        assertEquals(Instant.parse("2016-12-02T03:15:22.5Z"), IsoInstants.parse("2016-12-02T03:15:22.5Z"));
+        assertEquals(Instant.parse("2016-12-02T03:15:22.123456789Z"), IsoInstants.parse("2016-12-02T03:15:22.123456789Z"));
+    }
+
+    @Test
+    void otherLayoutsFallBackToInstantParse() {
+
+        String[] fallback = {"2017-12-31T18:15:00+01:00", "2017-12-31T24:00:00Z", "2016-12-31T23:59:60Z",
+                "2017-12-31T18:15:00.Z"};
+
+        for (String text : fallback) {
+            assertEquals(IsoInstants.INVALID, IsoInstants.parseEpochSecond(text), text);
+            assertEquals(Instant.parse(text), IsoInstants.parse(text), text);
+        }
+    }
+
+    @Test
+    void invalidText() {
+
+        String[] invalid = {"2017-02-30T18:15:00Z", "2017-12-31T18:15Z", "2017-12-31T18:60:00Z", "2017-12-31 18:15:00Z",
+                "2017-12-31T18:15:00.1234567890Z", "2017-12-31T18:15:0aZ", "not a date"};
+
+        for (String text : invalid) {
+            assertEquals(IsoInstants.INVALID, IsoInstants.parseEpochSecond(text), text);
+            assertThrows(DateTimeParseException.class, () -> IsoInstants.parse(text), text);
+        }
+    }
+}
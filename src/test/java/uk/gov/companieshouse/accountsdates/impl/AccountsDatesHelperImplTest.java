@@ -3,18 +3,32 @@ package uk.gov.companieshouse.accountsdates.impl;
 import java.text.ParseException;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.text.SimpleDateFormat;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.accountsdates.BalanceSheetPeriod;
+import uk.gov.companieshouse.accountsdates.DateAndTime;
+import uk.gov.companieshouse.accountsdates.PeriodRange;
+import uk.gov.companieshouse.accountsdates.format.DateFormatterRegistry;
+import uk.gov.companieshouse.accountsdates.format.DisplayDateTable;
 
 class AccountsDatesHelperImplTest {
 
@@ -53,6 +67,16 @@ class AccountsDatesHelperImplTest {
 
     }
     
+    @Test
+    void convertLocalDatetoDisplayDateWithLocale() {
+
+        String date = datesHelper.convertLocalDateToDisplayDate(LocalDate.parse("2017-03-05"), DateFormatterRegistry.WELSH);
+        assertEquals("5 Mawrth 2017", date);
+
+        date = datesHelper.convertLocalDateToDisplayDate(LocalDate.parse("2010-11-12"), Locale.UK);
+        assertEquals("12 November 2010", date);
+    }
+
     @Test
     void getLocalDateFromDateAndTime() {
         String dateString = "2017-12-31T18:15:00.000Z";
@@ -79,6 +103,40 @@ class AccountsDatesHelperImplTest {
 
     }
 
+    @Test
+    void getDisplayDateAndTime() {
+
+        ZoneId london = ZoneId.of("Europe/London");
+
+        assertEquals(new DateAndTime("31 December 2017", "6:15 pm"), datesHelper.getDisplayDateAndTime("2017-12-31T18:15:00.000Z", london));
+        assertEquals(new DateAndTime("1 July 2017", "12:05 am"), datesHelper.getDisplayDateAndTime("2017-06-30T23:05:59Z", london));
+        assertEquals(new DateAndTime("30 June 2017", "12:05 pm"), datesHelper.getDisplayDateAndTime("2017-06-30T11:05:00+00:00", london));
+        assertEquals(LocalDate.parse("2017-07-01"), datesHelper.getLocalDatefromDateTimeString("2017-06-30T23:05:59Z", london));
+    }
+
+    @Test
+    void getDateAndTimeMatchesFormatters() {
+
+        Random random = new Random(7);
+        ZoneId[] zones = {ZoneId.of("Z"), ZoneId.of("Europe/London"), ZoneId.of("America/New_York"),
+                ZoneId.of("Asia/Kathmandu"), ZoneId.of("-09:30")};
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("d MMMM yyyy");
+        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("h:mm a");
+        long min = Instant.parse("1980-01-01T00:00:00Z").getEpochSecond();
+        long max = Instant.parse("2100-01-01T00:00:00Z").getEpochSecond();
+
+        for (int i = 0; i < 50_000; i++) {
+            Instant instant = Instant.ofEpochSecond(min + (long) (random.nextDouble() * (max - min)), random.nextInt(1000) * 1_000_000L);
+            ZoneId zone = zones[i % zones.length];
+            LocalDateTime localDateTime = LocalDateTime.ofInstant(instant, zone);
+
+            Map<String, String> dateMap = datesHelper.getDateAndTime(instant.toString(), zone);
+            assertEquals(localDateTime.format(dateFormatter), dateMap.get("date"));
+            assertEquals(localDateTime.format(timeFormatter).toLowerCase(), dateMap.get("time"));
+            assertEquals(localDateTime.toLocalDate(), datesHelper.getLocalDatefromDateTimeString(instant.toString(), zone));
+        }
+    }
+
     @Test
     void convertDatetoString() {
 
@@ -175,6 +233,19 @@ class AccountsDatesHelperImplTest {
 
     }
 
+    @Test
+    void getPeriodRange() {
+
+        assertEquals(PeriodRange.months(57, LocalDate.parse("2017-12-17")),
+                datesHelper.getPeriodRange(LocalDate.parse("2013-03-07"), LocalDate.parse("2017-12-17"), false));
+        assertEquals(PeriodRange.months(1, LocalDate.parse("2015-04-01")),
+                datesHelper.getPeriodRange(LocalDate.parse("2015-03-07"), LocalDate.parse("2015-04-01"), false));
+        assertEquals(PeriodRange.year(LocalDate.parse("2017-08-23")),
+                datesHelper.getPeriodRange(LocalDate.parse("2016-08-12"), LocalDate.parse("2017-08-23"), false));
+        assertEquals(PeriodRange.fullDate(LocalDate.parse("2017-11-23")),
+                datesHelper.getPeriodRange(LocalDate.parse("2017-08-12"), LocalDate.parse("2017-11-23"), true));
+    }
+
     @Test
     void convertDateToLocalDate() throws ParseException {
 
@@ -185,6 +256,33 @@ class AccountsDatesHelperImplTest {
         assertEquals("2017-03-05", localDate.toString());
     }
 
+    @Test
+    void convertDateToLocalDateInGivenZone() {
+
+        Clock clock = Clock.systemUTC();
+        Date date = Date.from(Instant.parse("2017-03-05T23:30:00Z"));
+
+        assertEquals(LocalDate.of(2017, 3, 5), new AccountsDatesHelperImpl(clock, ZoneId.of("Z")).convertDateToLocalDate(date));
+        assertEquals(LocalDate.of(2017, 3, 6), new AccountsDatesHelperImpl(clock, ZoneId.of("Europe/Paris")).convertDateToLocalDate(date));
+        assertNull(datesHelper.convertDateToLocalDate(null));
+    }
+
+    @Test
+    void convertDateToLocalDateFollowsDefaultZone() {
+
+        Date date = Date.from(Instant.parse("2017-03-05T23:30:00Z"));
+        TimeZone defaultZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            assertEquals(LocalDate.of(2017, 3, 5), datesHelper.convertDateToLocalDate(date));
+
+            TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+            assertEquals(LocalDate.of(2017, 3, 6), datesHelper.convertDateToLocalDate(date));
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+    }
+
     @Test
     void convertStringToLocalDate() {
 
@@ -234,6 +332,36 @@ class AccountsDatesHelperImplTest {
         assertEquals(testFutureDays, futureDays);
     }
 
+    @Test
+    void getPreviousDayRange() {
+
+        LocalDate localDate = LocalDate.of(2017, 1, 1);
+
+        assertEquals(datesHelper.getPreviousDays(localDate, 45), datesHelper.getPreviousDayRange(localDate, 45));
+    }
+
+    @Test
+    void getFutureDayRange() {
+
+        for (int i = 0; i < 9; i++) {
+            LocalDate localDate = LocalDate.now().minusDays(i);
+            assertEquals(datesHelper.getFutureDays(localDate, 7), datesHelper.getFutureDayRange(localDate, 7));
+        }
+    }
+
+    @Test
+    void getFutureDaysWithClock() {
+
+        ZoneId zone = ZoneId.of("Europe/London");
+        Clock clock = Clock.fixed(Instant.parse("2017-06-03T12:00:00Z"), zone);
+        AccountsDatesHelperImpl clockHelper = new AccountsDatesHelperImpl(clock, zone);
+        LocalDate currentDate = LocalDate.of(2017, 6, 1);
+
+        List<LocalDate> expected = List.of(LocalDate.of(2017, 6, 2), LocalDate.of(2017, 6, 3));
+        assertEquals(expected, clockHelper.getFutureDays(currentDate, 7));
+        assertEquals(expected, clockHelper.getFutureDayRange(currentDate, 7));
+    }
+
     @Test
     void getFutureDatesLeapYear() {
 
@@ -323,4 +451,77 @@ class AccountsDatesHelperImplTest {
         assertEquals("30 June 2015",
                 datesHelper.generateBalanceSheetHeading(LocalDate.parse("2014-06-01"), LocalDate.parse("2015-06-30"), true));
     }
+
+    @Test
+    void generateBalanceSheetHeadingsSmallBatch() {
+
+        List<BalanceSheetPeriod> periods = List.of(
+                new BalanceSheetPeriod(LocalDate.parse("2016-01-01"), LocalDate.parse("2017-01-14"), false),
+                new BalanceSheetPeriod(LocalDate.parse("2015-02-01"), LocalDate.parse("2016-02-16"), false),
+                new BalanceSheetPeriod(LocalDate.parse("2014-06-01"), LocalDate.parse("2015-06-30"), true));
+
+        assertEquals(List.of("2017", "13 months to 16 February 2016", "30 June 2015"),
+                datesHelper.generateBalanceSheetHeadings(periods));
+    }
+
+    @Test
+    void generateBalanceSheetHeadingsLargeBatch() {
+
+        List<BalanceSheetPeriod> periods = largeBatch();
+        List<String> expected = new ArrayList<>();
+        for (BalanceSheetPeriod period : periods) {
+            expected.add(datesHelper.generateBalanceSheetHeading(period.periodStart(), period.periodEnd(), period.isSameYear()));
+        }
+
+        assertEquals(expected, datesHelper.generateBalanceSheetHeadings(periods));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertEquals(expected, datesHelper.generateBalanceSheetHeadings(periods, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void generateBalanceSheetHeadingsPropagatesFailure() {
+
+        List<BalanceSheetPeriod> periods = new ArrayList<>(largeBatch());
+        periods.set(periods.size() - 1, null);
+
+        assertThrows(NullPointerException.class, () -> datesHelper.generateBalanceSheetHeadings(periods));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertThrows(NullPointerException.class, () -> datesHelper.generateBalanceSheetHeadings(periods, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private List<BalanceSheetPeriod> largeBatch() {
+        List<BalanceSheetPeriod> periods = new ArrayList<>();
+        LocalDate start = LocalDate.parse("2010-01-01");
+        for (int i = 0; i < 10_000; i++) {
+            LocalDate periodStart = start.plusDays(i);
+            periods.add(new BalanceSheetPeriod(periodStart, periodStart.plusDays(200 + i % 400), i % 7 == 0));
+        }
+        return periods;
+    }
+
+    @Test
+    void displayDateTableGivesSameResults() {
+
+        AccountsDatesHelperImpl tableHelper = new AccountsDatesHelperImpl(new DisplayDateTable(Locale.getDefault(Locale.Category.FORMAT)));
+
+        for (BalanceSheetPeriod period : largeBatch()) {
+            assertEquals(datesHelper.generateBalanceSheetHeading(period.periodStart(), period.periodEnd(), period.isSameYear()),
+                    tableHelper.generateBalanceSheetHeading(period.periodStart(), period.periodEnd(), period.isSameYear()));
+            assertEquals(datesHelper.calculatePeriodRange(period.periodStart(), period.periodEnd(), period.isSameYear()),
+                    tableHelper.calculatePeriodRange(period.periodStart(), period.periodEnd(), period.isSameYear()));
+            assertEquals(datesHelper.convertLocalDateToDisplayDate(period.periodEnd()),
+                    tableHelper.convertLocalDateToDisplayDate(period.periodEnd()));
+        }
+        assertEquals("13 months to 16 February 2016", tableHelper.generateBalanceSheetHeading("2015-02-01", "2016-02-16", false));
+    }
 }
@@ -0,0 +1,35 @@
+package uk.gov.companieshouse.accountsdates.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.companieshouse.accountsdates.metrics.InMemoryAccountsMetrics;
+import uk.gov.companieshouse.accountsdates.metrics.Operation;
+
+class AccountsDatesWarmUpTest {
+
+    @Test
+    void runCallsHelper() {
+        InMemoryAccountsMetrics metrics = new InMemoryAccountsMetrics();
+        AccountsDatesWarmUp warmUp = new AccountsDatesWarmUp(
+                new MetricsAccountsDatesHelper(new CachingAccountsDatesHelper(new AccountsDatesHelperImpl()), metrics),
+                150);
+
+        long calls = warmUp.run();
+
+        long recorded = 0;
+        for (Operation operation : Operation.values()) {
+            recorded += metrics.getTimer(operation).getCount();
+        }
+        assertEquals(150 * 20 + 2, calls);
+        assertEquals(calls, recorded);
+    }
+
+    @Test
+    void negativeIterations() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AccountsDatesWarmUp(new AccountsDatesHelperImpl(), -1));
+    }
+}
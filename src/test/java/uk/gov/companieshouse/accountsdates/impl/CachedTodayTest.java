@@ -0,0 +1,102 @@
+package uk.gov.companieshouse.accountsdates.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+class CachedTodayTest {
+
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+    @Test
+    void refreshesWhenDayBoundaryPasses() {
+
+        MutableClock clock = new MutableClock(Instant.parse("2017-06-30T22:59:59.999Z"));
+        CachedToday today = new CachedToday(clock, LONDON);
+
+        assertEquals(LocalDate.of(2017, 6, 30), today.get());
+
+        clock.advance(Duration.ofMillis(1));
+        assertEquals(LocalDate.of(2017, 7, 1), today.get());
+
+        clock.advance(Duration.ofHours(23).plusMinutes(59));
+        assertEquals(LocalDate.of(2017, 7, 1), today.get());
+
+        clock.advance(Duration.ofMinutes(1));
+        assertEquals(LocalDate.of(2017, 7, 2), today.get());
+    }
+
+    @Test
+    void handlesClockGoingBackwards() {
+
+        MutableClock clock = new MutableClock(Instant.parse("2017-01-02T00:00:00Z"));
+        CachedToday today = new CachedToday(clock, ZoneOffset.UTC);
+
+        assertEquals(LocalDate.of(2017, 1, 2), today.get());
+
+        clock.advance(Duration.ofMillis(-1));
+        assertEquals(LocalDate.of(2017, 1, 1), today.get());
+    }
+
+    @Test
+    void usesGivenZone() {
+
+        Clock clock = Clock.fixed(Instant.parse("2017-03-26T23:30:00Z"), ZoneOffset.UTC);
+
+        assertEquals(LocalDate.of(2017, 3, 26), new CachedToday(clock, ZoneOffset.UTC).get());
+        assertEquals(LocalDate.of(2017, 3, 27), new CachedToday(clock, LONDON).get());
+    }
+
+    @Test
+    void followsDefaultZoneWithoutGivenZone() {
+
+        Clock clock = Clock.fixed(Instant.parse("2017-03-26T23:30:00Z"), ZoneOffset.UTC);
+        TimeZone defaultZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            CachedToday today = new CachedToday(clock);
+            assertEquals(LocalDate.of(2017, 3, 26), today.get());
+
+            TimeZone.setDefault(TimeZone.getTimeZone("Europe/London"));
+            assertEquals(LocalDate.of(2017, 3, 27), today.get());
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package uk.gov.companieshouse.accountsdates.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import uk.gov.companieshouse.accountsdates.BalanceSheetPeriod;
+import uk.gov.companieshouse.accountsdates.cache.CacheStats;
+import uk.gov.companieshouse.accountsdates.format.DateFormatterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CachingAccountsDatesHelperTest {
+
+    private static final LocalDate PERIOD_START = LocalDate.parse("2015-02-01");
+    private static final LocalDate PERIOD_END = LocalDate.parse("2016-02-16");
+
+    @Spy
+    private AccountsDatesHelperImpl delegate;
+
+    @Test
+    void headingIsCalculatedOnce() {
+
+        CachingAccountsDatesHelper datesHelper = new CachingAccountsDatesHelper(delegate);
+
+        assertEquals("13 months to 16 February 2016", datesHelper.generateBalanceSheetHeading(PERIOD_START, PERIOD_END, false));
+        assertEquals("13 months to 16 February 2016", datesHelper.generateBalanceSheetHeading(PERIOD_START, PERIOD_END, false));
+        assertEquals("13 months to 16 February 2016", datesHelper.generateBalanceSheetHeading("2015-02-01", "2016-02-16", false));
+
+        verify(delegate, times(1)).generateBalanceSheetHeading(PERIOD_START, PERIOD_END, false);
+        assertEquals(new CacheStats(2, 1, 0, 1), datesHelper.getHeadingCacheStats());
+    }
+
+    @Test
+    void sameYearFlagIsPartOfKey() {
+
+        CachingAccountsDatesHelper datesHelper = new CachingAccountsDatesHelper(delegate);
+
+        assertEquals("13 months to 16 February 2016", datesHelper.generateBalanceSheetHeading(PERIOD_START, PERIOD_END, false));
+        assertEquals("16 February 2016", datesHelper.generateBalanceSheetHeading(PERIOD_START, PERIOD_END, true));
+    }
+
+    @Test
+    void batchUsesCache() {
+
+        CachingAccountsDatesHelper datesHelper = new CachingAccountsDatesHelper(delegate, 1);
+        BalanceSheetPeriod period = new BalanceSheetPeriod(PERIOD_START, PERIOD_END, false);
+
+        assertEquals(List.of("13 months to 16 February 2016", "13 months to 16 February 2016"),
+                datesHelper.generateBalanceSheetHeadings(List.of(period, period)));
+
+        verify(delegate, times(1)).generateBalanceSheetHeading(PERIOD_START, PERIOD_END, false);
+    }
+
+    @Test
+    void evictsWhenFull() {
+
+        CachingAccountsDatesHelper datesHelper = new CachingAccountsDatesHelper(delegate, 1);
+
+        datesHelper.generateBalanceSheetHeading(PERIOD_START, PERIOD_END, false);
+        datesHelper.generateBalanceSheetHeading(PERIOD_START, PERIOD_END, true);
+        datesHelper.generateBalanceSheetHeading(PERIOD_START, PERIOD_END, false);
+
+        assertEquals(new CacheStats(0, 3, 2, 1), datesHelper.getHeadingCacheStats());
+
+        datesHelper.clearHeadingCache();
+        assertEquals(0, datesHelper.getHeadingCacheStats().size());
+    }
+
+    @Test
+    void defaultLocaleIsPartOfKey() {
+
+        CachingAccountsDatesHelper datesHelper = new CachingAccountsDatesHelper(delegate);
+        Locale defaultLocale = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            Locale.setDefault(Locale.Category.FORMAT, Locale.UK);
+            assertEquals("13 months to 16 February 2016", datesHelper.generateBalanceSheetHeading(PERIOD_START, PERIOD_END, false));
+
+            Locale.setDefault(Locale.Category.FORMAT, DateFormatterRegistry.WELSH);
+            assertEquals("13 months to 16 Chwefror 2016", datesHelper.generateBalanceSheetHeading(PERIOD_START, PERIOD_END, false));
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, defaultLocale);
+        }
+
+        verify(delegate, times(2)).generateBalanceSheetHeading(PERIOD_START, PERIOD_END, false);
+    }
+
+    @Test
+    void delegateIsRequired() {
+
+        assertThrows(NullPointerException.class, () -> new CachingAccountsDatesHelper(null));
+    }
+}
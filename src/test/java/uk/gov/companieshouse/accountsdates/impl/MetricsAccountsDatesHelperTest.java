@@ -0,0 +1,64 @@
+package uk.gov.companieshouse.accountsdates.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.BalanceSheetPeriod;
+import uk.gov.companieshouse.accountsdates.metrics.AccountsMetrics;
+import uk.gov.companieshouse.accountsdates.metrics.InMemoryAccountsMetrics;
+import uk.gov.companieshouse.accountsdates.metrics.Operation;
+
+class MetricsAccountsDatesHelperTest {
+
+    private final InMemoryAccountsMetrics metrics = new InMemoryAccountsMetrics();
+    private final AccountsDatesHelper helper = new MetricsAccountsDatesHelper(new AccountsDatesHelperImpl(), metrics);
+
+    @Test
+    void recordsEachCallAgainstItsOperation() {
+
+        LocalDate periodStart = LocalDate.of(2016, 1, 1);
+        LocalDate periodEnd = LocalDate.of(2016, 12, 31);
+
+        assertEquals("2016", helper.generateBalanceSheetHeading(periodStart, periodEnd, false));
+        assertEquals("2016", helper.generateBalanceSheetHeading("2016-01-01", "2016-12-31", false));
+        assertEquals(List.of("2016"),
+                helper.generateBalanceSheetHeadings(List.of(new BalanceSheetPeriod(periodStart, periodEnd, false))));
+
+        assertEquals(2, metrics.getTimer(Operation.GENERATE_BALANCE_SHEET_HEADING).getCount());
+        assertEquals(1, metrics.getTimer(Operation.GENERATE_BALANCE_SHEET_HEADINGS).getCount());
+        assertEquals(0, metrics.getTimer(Operation.CONVERT_STRING_TO_DATE).getCount());
+    }
+
+    @Test
+    void recordsCallsThatThrow() {
+
+        assertThrows(DateTimeParseException.class, () -> helper.convertStringToDate("not a date"));
+
+        assertEquals(1, metrics.getTimer(Operation.CONVERT_STRING_TO_DATE).getCount());
+    }
+
+    @Test
+    void skipsRecordingWhenMetricsDisabled() {
+
+        AccountsMetrics disabled = mock(AccountsMetrics.class);
+        when(disabled.isEnabled()).thenReturn(false);
+
+        assertEquals("2016", new MetricsAccountsDatesHelper(new AccountsDatesHelperImpl(), disabled)
+                .generateBalanceSheetHeading("2016-01-01", "2016-12-31", false));
+
+        verify(disabled, never()).recordOperation(any(), anyLong());
+    }
+}
@@ -0,0 +1,118 @@
+package uk.gov.companieshouse.accountsdates.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.companieshouse.accountsdates.DateAndTime;
+import uk.gov.companieshouse.accountsdates.PeriodRange;
+import uk.gov.companieshouse.accountsdates.format.DisplayDateTable;
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesHelperImpl;
+
+class AccountsDatesJsonWriterTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/London");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AccountsDatesHelperImpl helper = new AccountsDatesHelperImpl();
+    private final AccountsDatesJsonWriter writer = new AccountsDatesJsonWriter();
+
+    private final List<PeriodRange> ranges = List.of(
+            helper.getPeriodRange(LocalDate.parse("2016-01-01"), LocalDate.parse("2016-12-31"), false),
+            helper.getPeriodRange(LocalDate.parse("2015-01-01"), LocalDate.parse("2016-12-31"), false),
+            helper.getPeriodRange(LocalDate.parse("2016-01-01"), LocalDate.parse("2016-12-31"), true),
+            helper.getPeriodRange(LocalDate.parse("2016-12-01"), LocalDate.parse("2016-12-31"), false));
+
+    @Test
+    void periodRangesMatchDatabindMaps() throws IOException {
+        List<Map<String, String>> maps = new ArrayList<>();
+        for (PeriodRange range : ranges) {
+            maps.add(range.toMap());
+            assertJsonEquals(objectMapper.writeValueAsString(range.toMap()),
+                    write(generator -> writer.writePeriodRange(generator, range)));
+        }
+
+        assertJsonEquals(objectMapper.writeValueAsString(maps),
+                write(generator -> writer.writePeriodRanges(generator, ranges)));
+    }
+
+    @Test
+    void periodRangeFieldOrder() throws IOException {
+        assertEquals("{\"periodStart\":\"24 months\",\"periodEnd\":\"31 December 2016\"}",
+                write(generator -> writer.writePeriodRange(generator, ranges.get(1))));
+    }
+
+    @Test
+    void headings() throws IOException {
+        assertEquals("\"24 months to 31 December 2016\"",
+                write(generator -> writer.writeHeading(generator, ranges.get(1))));
+        assertEquals("[\"2016\",\"24 months to 31 December 2016\",\"31 December 2016\","
+                + "\"1 month to 31 December 2016\"]",
+                write(generator -> writer.writeHeadings(generator, ranges)));
+    }
+
+    @Test
+    void datesAndTimesMatchDatabindMaps() throws IOException {
+        String dateTime = "2017-12-31T18:15:00.000Z";
+        DateAndTime dateAndTime = helper.getDisplayDateAndTime(dateTime, ZONE);
+
+        assertJsonEquals(objectMapper.writeValueAsString(helper.getDateAndTime(dateTime, ZONE)),
+                write(generator -> writer.writeDateAndTime(generator, dateAndTime)));
+        assertJsonEquals(objectMapper.writeValueAsString(List.of(dateAndTime.toMap(), dateAndTime.toMap())),
+                write(generator -> writer.writeDateAndTimes(generator, List.of(dateAndTime, dateAndTime))));
+    }
+
+    @Test
+    void displayDateTable() throws IOException {
+        AccountsDatesJsonWriter welshWriter =
+                new AccountsDatesJsonWriter(new DisplayDateTable(Locale.forLanguageTag("cy")));
+
+        assertEquals("{\"periodEnd\":\"31 Rhagfyr 2016\"}",
+                write(generator -> welshWriter.writePeriodRange(generator, ranges.get(2))));
+    }
+
+    @Test
+    void outputStreamLeftOpen() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.writeHeadings(out, ranges.subList(0, 1));
+        out.write(',');
+        writer.writePeriodRange(out, ranges.get(2));
+        out.write(',');
+        writer.writeDateAndTimes(out, List.of());
+
+        assertEquals("[\"2016\"],{\"periodEnd\":\"31 December 2016\"},[]", out.toString(StandardCharsets.UTF_8));
+    }
+
+    private static String write(JsonWrite write) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = new ObjectMapper().getFactory().createGenerator(out)) {
+            write.to(generator);
+        }
+        return out.toString();
+    }
+
+    private void assertJsonEquals(String expected, String actual) throws IOException {
+        assertEquals(objectMapper.readTree(expected), objectMapper.readTree(actual));
+    }
+
+    @FunctionalInterface
+    private interface JsonWrite {
+
+        void to(JsonGenerator generator) throws IOException;
+    }
+}
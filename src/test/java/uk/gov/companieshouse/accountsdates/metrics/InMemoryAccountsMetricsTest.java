@@ -0,0 +1,108 @@
+package uk.gov.companieshouse.accountsdates.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+class InMemoryAccountsMetricsTest {
+
+    private final InMemoryAccountsMetrics metrics = new InMemoryAccountsMetrics();
+
+    @Test
+    void recordsPerOperationAndDecision() {
+
+        metrics.recordOperation(Operation.GENERATE_BALANCE_SHEET_HEADING, 2_000);
+        metrics.recordOperation(Operation.GENERATE_BALANCE_SHEET_HEADING, 4_000);
+        metrics.recordDecision(Decision.UNAUTHORISED, 1_000);
+
+        LatencyTimer headings = metrics.getTimer(Operation.GENERATE_BALANCE_SHEET_HEADING);
+        assertEquals(2, headings.getCount());
+        assertEquals(3.0, headings.getMeanMicros());
+        assertEquals(4.0, headings.getMaxMicros());
+        assertEquals(1, metrics.getTimer(Decision.UNAUTHORISED).getCount());
+        assertEquals(0, metrics.getTimer(Decision.AUTHORISED).getCount());
+        assertEquals(0, metrics.getTimer(Operation.IS_SAME_YEAR).getCount());
+
+        metrics.reset();
+
+        assertEquals(0, headings.getCount());
+        assertEquals(LatencySnapshot.EMPTY, headings.snapshot());
+    }
+
+    @Test
+    void rateUsesElapsedTimeSinceReset() {
+
+        long[] now = {0};
+        LatencyTimer timer = new LatencyTimer("test", () -> now[0]);
+        for (int i = 0; i < 50; i++) {
+            timer.record(10);
+        }
+        now[0] = 2_000_000_000L;
+
+        assertEquals(25.0, timer.getRatePerSecond());
+
+        timer.reset();
+        assertEquals(0.0, timer.getRatePerSecond());
+    }
+
+    @Test
+    void latencyGettersShareSnapshotUntilItAges() {
+
+        long[] now = {0};
+        LatencyTimer timer = new LatencyTimer("test", () -> now[0]);
+        timer.record(2_000);
+
+        assertEquals(2.0, timer.getMaxMicros());
+
+        timer.record(4_000);
+        now[0] = LatencyTimer.MBEAN_SNAPSHOT_MAX_AGE_NANOS - 1;
+        assertEquals(2.0, timer.getMaxMicros());
+        assertEquals(2.0, timer.getMeanMicros());
+        assertEquals(4_000, timer.snapshot().max());
+
+        now[0] = LatencyTimer.MBEAN_SNAPSHOT_MAX_AGE_NANOS;
+        assertEquals(4.0, timer.getMaxMicros());
+        assertEquals(3.0, timer.getMeanMicros());
+
+        timer.reset();
+        assertEquals(0.0, timer.getMaxMicros());
+    }
+
+    @Test
+    void readableThroughJmx() throws JMException {
+
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        List<ObjectName> names = metrics.registerMBeans(server);
+
+        assertEquals(Operation.values().length + Decision.values().length, names.size());
+
+        metrics.recordDecision(Decision.AUTHORISED, 1_500);
+        ObjectName authorised = new ObjectName(
+                InMemoryAccountsMetrics.JMX_DOMAIN + ":type=AuthenticationInterceptor,name=authorised");
+        assertTrue(server.isRegistered(authorised));
+        assertEquals(1L, server.getAttribute(authorised, "Count"));
+        assertEquals(1.5, server.getAttribute(authorised, "MaxMicros"));
+
+        server.invoke(authorised, "reset", new Object[0], new String[0]);
+        assertEquals(0L, server.getAttribute(authorised, "Count"));
+
+        metrics.unregisterMBeans(server);
+        metrics.unregisterMBeans(server);
+        assertFalse(server.isRegistered(authorised));
+    }
+
+    @Test
+    void noopIsDisabled() {
+        assertFalse(AccountsMetrics.noop().isEnabled());
+        assertTrue(metrics.isEnabled());
+    }
+}
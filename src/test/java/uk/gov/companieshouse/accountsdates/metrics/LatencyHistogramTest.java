@@ -0,0 +1,78 @@
+package uk.gov.companieshouse.accountsdates.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucketsCoverEveryValueContiguously() {
+
+        assertEquals(0, LatencyHistogram.lowestEquivalentValue(0));
+        for (int index = 1; index < LatencyHistogram.BUCKET_COUNT; index++) {
+            long lowest = LatencyHistogram.lowestEquivalentValue(index);
+            assertEquals(LatencyHistogram.highestEquivalentValue(index - 1) + 1, lowest);
+            assertEquals(index, LatencyHistogram.index(lowest));
+            assertEquals(index, LatencyHistogram.index(LatencyHistogram.highestEquivalentValue(index)));
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.index(Long.MAX_VALUE));
+    }
+
+    @Test
+    void bucketWidthIsWithinPrecision() {
+
+        for (int index = LatencyHistogram.SUB_BUCKET_COUNT; index < LatencyHistogram.BUCKET_COUNT; index++) {
+            long lowest = LatencyHistogram.lowestEquivalentValue(index);
+            long width = LatencyHistogram.highestEquivalentValue(index) - lowest + 1;
+            assertTrue(width * LatencyHistogram.HALF_SUB_BUCKET_COUNT <= lowest);
+        }
+    }
+
+    @Test
+    void percentiles() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertEquals(10_000, snapshot.count());
+        assertEquals(5_000_500.0, snapshot.mean());
+        assertWithinPrecision(5_000_000, snapshot.p50());
+        assertWithinPrecision(9_000_000, snapshot.p90());
+        assertWithinPrecision(9_900_000, snapshot.p99());
+        assertWithinPrecision(9_990_000, snapshot.p999());
+        assertEquals(10_000_000, snapshot.max());
+    }
+
+    @Test
+    void negativeValuesAreRecordedAsZero() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(1, snapshot.count());
+        assertEquals(0, snapshot.max());
+    }
+
+    @Test
+    void reset() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.reset();
+
+        assertSame(LatencySnapshot.EMPTY, histogram.snapshot());
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual >= expected && actual - expected <= expected / LatencyHistogram.HALF_SUB_BUCKET_COUNT,
+                () -> "expected about " + expected + " but was " + actual);
+    }
+}
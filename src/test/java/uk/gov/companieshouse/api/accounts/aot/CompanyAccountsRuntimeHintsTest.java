@@ -0,0 +1,59 @@
+package uk.gov.companieshouse.api.accounts.aot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.ClassUtils;
+
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesHelperImpl;
+import uk.gov.companieshouse.accountsdates.metrics.LatencyTimerMXBean;
+import uk.gov.companieshouse.api.accounts.interceptor.AuthenticationInterceptor;
+
+class CompanyAccountsRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void registersHints() {
+        new CompanyAccountsRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(AccountsDatesHelperImpl.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(AuthenticationInterceptor.class)
+                .withMemberCategories(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(LatencyTimerMXBean.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS).test(hints));
+        // the vector classifier is only compiled under the vector profile
+        boolean vectorClassifierPresent =
+                ClassUtils.isPresent(CompanyAccountsRuntimeHints.VECTOR_PERIOD_CLASSIFIER, getClass().getClassLoader());
+        assertEquals(vectorClassifierPresent, RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of(CompanyAccountsRuntimeHints.VECTOR_PERIOD_CLASSIFIER)).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of(CompanyAccountsRuntimeHints.AUTHENTICATION_WEB_FILTER)).test(hints));
+    }
+
+    @Test
+    void hintedTypesExist() throws ClassNotFoundException {
+        Class.forName(CompanyAccountsRuntimeHints.AUTHENTICATION_WEB_FILTER, false, getClass().getClassLoader());
+    }
+
+    @Test
+    void registeredInAotFactories() throws IOException {
+        Properties factories = PropertiesLoaderUtils.loadProperties(
+                new ClassPathResource("META-INF/spring/aot.factories"));
+
+        assertTrue(factories.getProperty("org.springframework.aot.hint.RuntimeHintsRegistrar")
+                .contains(CompanyAccountsRuntimeHints.class.getName()));
+    }
+}
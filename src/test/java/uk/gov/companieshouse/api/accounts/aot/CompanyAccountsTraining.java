@@ -0,0 +1,204 @@
+package uk.gov.companieshouse.api.accounts.aot;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.batch.BalanceSheetHeadingFileProcessor;
+import uk.gov.companieshouse.accountsdates.batch.ColumnarPeriodClassifier;
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesHelperImpl;
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesWarmUp;
+import uk.gov.companieshouse.accountsdates.impl.CachingAccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.impl.MetricsAccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.metrics.AccountsMetrics;
+import uk.gov.companieshouse.accountsdates.metrics.InMemoryAccountsMetrics;
+import uk.gov.companieshouse.api.accounts.interceptor.AuthenticationInterceptor;
+import uk.gov.companieshouse.api.accounts.interceptor.PermissionDecisionCache;
+import uk.gov.companieshouse.api.util.security.EricConstants;
+import uk.gov.companieshouse.api.util.security.SecurityConstants;
+import uk.gov.companieshouse.api.util.security.TokenPermissions;
+
+/**
+ * AppCDS training run: loads and runs every helper implementation, the columnar and file batch paths, the metrics
+ * MBeans and each {@link AuthenticationInterceptor} decision, so an archive dumped at exit holds the library's
+ * classes. It is kept out of the library jar; {@code make cds-archive} packages it into its own jar, as CDS only
+ * archives classes loaded from jars, then builds and compares an archive:
+ * <pre>
+ * java -XX:ArchiveClassesAtExit=accounts.jsa -cp &lt;jars&gt; uk.gov.companieshouse.api.accounts.aot.CompanyAccountsTraining
+ * java -XX:SharedArchiveFile=accounts.jsa -cp &lt;jars&gt; ...
+ * </pre>
+ * The optional argument is the number of iterations, by default {@value #DEFAULT_ITERATIONS}. The servlet API must
+ * be on the class path.
+ */
+public final class CompanyAccountsTraining {
+
+    public static final int DEFAULT_ITERATIONS = 200;
+
+    private static final String PERMISSIONS = "company_accounts=update";
+    private static final String CSV_PERIODS = "periodStart,periodEnd,isSameYear\n"
+            + "2016-01-01,2016-12-31,false\n"
+            + "2015-02-01,2016-02-16,false\n"
+            + "2014-06-01,2015-06-30,true\n";
+    private static final String NDJSON_PERIODS =
+            "{\"periodStart\":\"2016-01-01\",\"periodEnd\":\"2016-12-31\",\"isSameYear\":false}\n";
+    private static final int COLUMN_ROWS = 1_024;
+
+    private final int iterations;
+
+    public CompanyAccountsTraining(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Iterations must be at least 1: " + iterations);
+        }
+        this.iterations = iterations;
+    }
+
+    public static void main(String[] args) throws IOException, JMException {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+
+        long calls = new CompanyAccountsTraining(iterations).run();
+
+        Duration sinceStart = ProcessHandle.current().info().startInstant()
+                .map(start -> Duration.between(start, Instant.now()))
+                .orElse(Duration.ZERO);
+        System.err.println("Made " + calls + " library calls; " + sinceStart.toMillis() + " ms since JVM start");
+    }
+
+    /**
+     * Runs every path once per iteration
+     *
+     * @return number of library calls made
+     */
+    public long run() throws IOException, JMException {
+        InMemoryAccountsMetrics metrics = new InMemoryAccountsMetrics();
+        AccountsDatesHelper helper = new AccountsDatesHelperImpl();
+
+        long calls = new AccountsDatesWarmUp(helper, iterations).run();
+        calls += new AccountsDatesWarmUp(new CachingAccountsDatesHelper(helper), iterations).run();
+        calls += new AccountsDatesWarmUp(new MetricsAccountsDatesHelper(helper, metrics), iterations).run();
+        calls += classifyColumns();
+        calls += processFiles(helper);
+        calls += authenticate(metrics);
+        calls += registerMBeans(metrics);
+        return calls;
+    }
+
+    private long classifyColumns() {
+        SplittableRandom random = new SplittableRandom(20);
+        int[] startEpochDays = new int[COLUMN_ROWS];
+        int[] endEpochDays = new int[COLUMN_ROWS];
+        for (int i = 0; i < COLUMN_ROWS; i++) {
+            startEpochDays[i] = 16_000 + random.nextInt(4_000);
+            endEpochDays[i] = startEpochDays[i] + random.nextInt(20, 700);
+        }
+        byte[] kinds = new byte[COLUMN_ROWS];
+        int[] months = new int[COLUMN_ROWS];
+        boolean[] sameYear = new boolean[COLUMN_ROWS];
+
+        ColumnarPeriodClassifier.scalar().classify(startEpochDays, endEpochDays, kinds, months, sameYear);
+        ColumnarPeriodClassifier.fastest().classify(startEpochDays, endEpochDays, kinds, months, sameYear);
+        return 2;
+    }
+
+    private long processFiles(AccountsDatesHelper helper) throws IOException {
+        BalanceSheetHeadingFileProcessor processor = new BalanceSheetHeadingFileProcessor(helper);
+        Path csv = Files.createTempFile("company-accounts-training", ".csv");
+        Path ndjson = Files.createTempFile("company-accounts-training", ".ndjson");
+        try (WritableByteChannel discard = Channels.newChannel(OutputStream.nullOutputStream())) {
+            Files.writeString(csv, CSV_PERIODS, StandardCharsets.UTF_8);
+            Files.writeString(ndjson, NDJSON_PERIODS, StandardCharsets.UTF_8);
+            processor.process(csv, BalanceSheetHeadingFileProcessor.Format.CSV, discard);
+            processor.process(ndjson, BalanceSheetHeadingFileProcessor.Format.NDJSON, discard);
+            return 2;
+        } finally {
+            Files.deleteIfExists(csv);
+            Files.deleteIfExists(ndjson);
+        }
+    }
+
+    /**
+     * Sends api key, authorised and unauthorised requests through interceptors with and without debug logging and
+     * the decision cache. Each interceptor samples denied requests no more than once per run, keeping the output
+     * quiet
+     */
+    private long authenticate(AccountsMetrics metrics) {
+        AuthenticationInterceptor[] interceptors = {
+                new AuthenticationInterceptor(metrics, false, iterations, null),
+                new AuthenticationInterceptor(metrics, true, iterations, new PermissionDecisionCache())
+        };
+        HttpServletRequest apiKeyRequest = request(SecurityConstants.API_KEY_IDENTITY_TYPE, true);
+        HttpServletRequest authorisedRequest = request("oauth2", true);
+        HttpServletRequest unauthorisedRequest = request("oauth2", false);
+        HttpServletResponse response = proxy(HttpServletResponse.class, Map.of());
+        Object handler = new Object();
+
+        long calls = 0;
+        for (int i = 0; i < iterations; i++) {
+            for (AuthenticationInterceptor interceptor : interceptors) {
+                interceptor.preHandle(apiKeyRequest, response, handler);
+                interceptor.preHandle(authorisedRequest, response, handler);
+                interceptor.preHandle(unauthorisedRequest, response, handler);
+                calls += 3;
+            }
+        }
+        return calls;
+    }
+
+    private static long registerMBeans(InMemoryAccountsMetrics metrics) throws JMException {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        metrics.registerMBeans(server);
+        metrics.unregisterMBeans(server);
+        return 2;
+    }
+
+    private static HttpServletRequest request(String identityType, boolean authorised) {
+        TokenPermissions tokenPermissions = proxy(TokenPermissions.class, Map.of("hasPermission", authorised));
+        // the unauthorised request has its own header so cached decisions stay correct
+        String permissions = authorised ? PERMISSIONS : "company_accounts=read";
+        return proxy(HttpServletRequest.class, Map.of(
+                "getMethod", "POST",
+                "getRequestURI", "/transactions/1/company-accounts",
+                "getAttribute", tokenPermissions,
+                "getHeader", Map.of(
+                        EricConstants.ERIC_IDENTITY_TYPE, identityType,
+                        EricConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS, permissions)));
+    }
+
+    /**
+     * Returns a proxy answering the named methods with the given values, where a map value is looked up by the
+     * first argument, and every other method with null, false or zero
+     */
+    private static <T> T proxy(Class<T> type, Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> answer(method, args, answers)));
+    }
+
+    private static Object answer(Method method, Object[] args, Map<String, Object> answers) {
+        Object answer = answers.get(method.getName());
+        if (answer instanceof Map<?, ?> byArgument) {
+            answer = args == null ? null : byArgument.get(args[0]);
+        }
+        if (answer == null && method.getReturnType().isPrimitive() && method.getReturnType() != void.class) {
+            return Array.get(Array.newInstance(method.getReturnType(), 1), 0);
+        }
+        return answer;
+    }
+}
@@ -0,0 +1,26 @@
+package uk.gov.companieshouse.api.accounts.aot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+
+import javax.management.JMException;
+
+import org.junit.jupiter.api.Test;
+
+class CompanyAccountsTrainingTest {
+
+    @Test
+    void run() throws IOException, JMException {
+        // three helpers through the warm-up, two classifiers, two files, six requests per iteration and the MBeans
+        long helperCalls = 3 * (2 * 20 + 1);
+
+        assertEquals(helperCalls + 2 + 2 + 2 * 6 + 2, new CompanyAccountsTraining(2).run());
+    }
+
+    @Test
+    void invalidIterations() {
+        assertThrows(IllegalArgumentException.class, () -> new CompanyAccountsTraining(0));
+    }
+}
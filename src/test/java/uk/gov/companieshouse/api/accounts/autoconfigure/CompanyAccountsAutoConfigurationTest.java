@@ -0,0 +1,156 @@
+package uk.gov.companieshouse.api.accounts.autoconfigure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+
+import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.impl.AccountsDatesHelperImpl;
+import uk.gov.companieshouse.accountsdates.impl.CachingAccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.impl.MetricsAccountsDatesHelper;
+import uk.gov.companieshouse.accountsdates.metrics.AccountsMetrics;
+import uk.gov.companieshouse.accountsdates.metrics.InMemoryAccountsMetrics;
+import uk.gov.companieshouse.accountsdates.metrics.Operation;
+import uk.gov.companieshouse.api.accounts.filter.AuthenticationWebFilter;
+import uk.gov.companieshouse.api.accounts.interceptor.AuthenticationInterceptor;
+import uk.gov.companieshouse.api.accounts.interceptor.PermissionDecisionCache;
+
+class CompanyAccountsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(CompanyAccountsAutoConfiguration.class));
+
+    private final WebApplicationContextRunner webContextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(CompanyAccountsAutoConfiguration.class));
+
+    private final ReactiveWebApplicationContextRunner reactiveContextRunner = new ReactiveWebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(CompanyAccountsAutoConfiguration.class));
+
+    @Test
+    void helperBean() {
+        contextRunner.run(context -> {
+            assertInstanceOf(AccountsDatesHelperImpl.class, context.getBean(AccountsDatesHelper.class));
+            assertSame(AccountsMetrics.noop(), context.getBean(AccountsMetrics.class));
+            assertFalse(context.containsBean("authenticationInterceptor"));
+            assertFalse(context.containsBean("accountsDatesWarmUpRunner"));
+        });
+    }
+
+    @Test
+    void interceptorBeanInServletApplication() {
+        webContextRunner.run(context ->
+                assertEquals(1, context.getBeansOfType(AuthenticationInterceptor.class).size()));
+    }
+
+    @Test
+    void webFilterBeanInReactiveApplication() {
+        reactiveContextRunner.run(context -> {
+            assertEquals(1, context.getBeansOfType(AuthenticationWebFilter.class).size());
+            assertFalse(context.containsBean("authenticationInterceptor"));
+        });
+        webContextRunner.run(context -> assertFalse(context.containsBean("authenticationWebFilter")));
+    }
+
+    @Test
+    void webFilterRulesAndDecisionCache() {
+        reactiveContextRunner
+                .withPropertyValues("company-accounts.interceptor.rules[0]=GET /transactions/** company_accounts=read",
+                        "company-accounts.interceptor.decision-cache-enabled=true")
+                .run(context -> {
+                    assertEquals(1, context.getBeansOfType(AuthenticationWebFilter.class).size());
+                    assertTrue(context.containsBean("permissionDecisionCache"));
+                });
+        reactiveContextRunner
+                .withPropertyValues("company-accounts.interceptor.rules[0]=GET transactions company_accounts=read")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    void interceptorRules() {
+        webContextRunner
+                .withPropertyValues("company-accounts.interceptor.rules[0]=GET /transactions/** company_accounts=read")
+                .run(context -> assertEquals(1, context.getBeansOfType(AuthenticationInterceptor.class).size()));
+        webContextRunner
+                .withPropertyValues("company-accounts.interceptor.rules[0]=GET transactions company_accounts=read")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    void decisionCache() {
+        webContextRunner
+                .run(context -> assertFalse(context.containsBean("permissionDecisionCache")));
+        webContextRunner
+                .withPropertyValues("company-accounts.interceptor.decision-cache-enabled=true",
+                        "company-accounts.interceptor.decision-cache-maximum-size=1",
+                        "company-accounts.interceptor.decision-cache-time-to-live=5s")
+                .run(context -> {
+                    PermissionDecisionCache decisionCache = context.getBean(PermissionDecisionCache.class);
+                    decisionCache.put("company_accounts=update a", true);
+                    decisionCache.put("company_accounts=update b", true);
+                    assertEquals(1, decisionCache.stats().size());
+                    assertEquals(Duration.ofSeconds(5), context.getBean(CompanyAccountsProperties.class)
+                            .getInterceptor().getDecisionCacheTimeToLive());
+                });
+    }
+
+    @Test
+    void helperWrappedForCacheAndMetrics() {
+        contextRunner
+                .withPropertyValues("company-accounts.helper.cache-enabled=true")
+                .withBean(InMemoryAccountsMetrics.class, InMemoryAccountsMetrics::new)
+                .run(context -> {
+                    AccountsDatesHelper helper = context.getBean(AccountsDatesHelper.class);
+                    assertInstanceOf(MetricsAccountsDatesHelper.class, helper);
+                    helper.generateBalanceSheetHeading("2016-01-01", "2016-12-31", false);
+                    assertEquals(1, context.getBean(InMemoryAccountsMetrics.class)
+                            .getTimer(Operation.GENERATE_BALANCE_SHEET_HEADING).getCount());
+                });
+        contextRunner
+                .withPropertyValues("company-accounts.helper.cache-enabled=true")
+                .run(context -> assertInstanceOf(CachingAccountsDatesHelper.class,
+                        context.getBean(AccountsDatesHelper.class)));
+    }
+
+    @Test
+    void backsOffToApplicationBeans() {
+        AccountsDatesHelper helper = new AccountsDatesHelperImpl();
+        AuthenticationInterceptor interceptor = new AuthenticationInterceptor();
+        webContextRunner
+                .withBean(AccountsDatesHelper.class, () -> helper)
+                .withBean(AuthenticationInterceptor.class, () -> interceptor)
+                .run(context -> {
+                    assertSame(helper, context.getBean(AccountsDatesHelper.class));
+                    assertSame(interceptor, context.getBean(AuthenticationInterceptor.class));
+                });
+    }
+
+    @Test
+    void warmUpRunner() {
+        contextRunner
+                .withPropertyValues("company-accounts.warm-up.enabled=true", "company-accounts.warm-up.iterations=2")
+                .withBean(InMemoryAccountsMetrics.class, InMemoryAccountsMetrics::new)
+                .run(context -> {
+                    InMemoryAccountsMetrics metrics = context.getBean(InMemoryAccountsMetrics.class);
+                    assertTrue(context.containsBean("accountsDatesWarmUpRunner"));
+
+                    context.getBean(AccountsDatesWarmUpRunner.class).run(new DefaultApplicationArguments());
+
+                    // the warm-up runs on its own helper, so nothing reaches the helper bean's metrics
+                    for (Operation operation : Operation.values()) {
+                        assertEquals(0, metrics.getTimer(operation).getCount());
+                    }
+                });
+    }
+}
@@ -0,0 +1,173 @@
+package uk.gov.companieshouse.api.accounts.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+
+import reactor.core.publisher.Mono;
+import uk.gov.companieshouse.accountsdates.metrics.AccountsMetrics;
+import uk.gov.companieshouse.accountsdates.metrics.Decision;
+import uk.gov.companieshouse.accountsdates.metrics.InMemoryAccountsMetrics;
+import uk.gov.companieshouse.api.accounts.interceptor.PermissionDecisionCache;
+import uk.gov.companieshouse.api.accounts.interceptor.PermissionRules;
+import uk.gov.companieshouse.api.util.security.EricConstants;
+import uk.gov.companieshouse.api.util.security.Permission.Key;
+import uk.gov.companieshouse.api.util.security.Permission.Value;
+import uk.gov.companieshouse.api.util.security.SecurityConstants;
+import uk.gov.companieshouse.logging.Logger;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticationWebFilterTest {
+
+    @Mock
+    private Logger logger;
+
+    private final AtomicBoolean chainCalled = new AtomicBoolean();
+    private final WebFilterChain chain = exchange -> {
+        chainCalled.set(true);
+        return Mono.empty();
+    };
+
+    @Test
+    @DisplayName("Test filter when request is authorized")
+    void filterAuthorized() {
+        MockServerWebExchange exchange = oauthExchange("company_number=00006400 company_accounts=read,update");
+
+        new AuthenticationWebFilter().filter(exchange, chain).block();
+
+        assertTrue(chainCalled.get());
+        assertNull(exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Test filter when request is unauthorized")
+    void filterUnauthorized() {
+        MockServerWebExchange exchange = oauthExchange("company_accounts=read company_transactions=update");
+
+        new AuthenticationWebFilter().filter(exchange, chain).block();
+
+        assertFalse(chainCalled.get());
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Test filter when there is no permissions header")
+    void filterMissingTokenPermissions() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/transactions/1"));
+
+        new AuthenticationWebFilter().filter(exchange, chain).block();
+
+        assertFalse(chainCalled.get());
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Test filter when request is authorized with an api key")
+    void filterAuthorizedAPIKey() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/transactions/1")
+                .header(EricConstants.ERIC_IDENTITY_TYPE, SecurityConstants.API_KEY_IDENTITY_TYPE));
+        InMemoryAccountsMetrics metrics = new InMemoryAccountsMetrics();
+
+        new AuthenticationWebFilter(metrics).filter(exchange, chain).block();
+
+        assertTrue(chainCalled.get());
+        assertEquals(1, metrics.getTimer(Decision.API_KEY_SKIP).getCount());
+    }
+
+    @Test
+    @DisplayName("Test filter logs api key requests with an empty map like the interceptor")
+    void filterLogsAPIKeyWithoutPermission() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/transactions/1")
+                .header(EricConstants.ERIC_IDENTITY_TYPE, SecurityConstants.API_KEY_IDENTITY_TYPE));
+
+        new AuthenticationWebFilter(AccountsMetrics.noop(), logger, true, 0, null, null).filter(exchange, chain).block();
+
+        verify(logger).debug(anyString(), argThat(Map::isEmpty));
+    }
+
+    @Test
+    @DisplayName("Test filter reuses cached decisions for the same permissions header")
+    void filterUsesDecisionCache() {
+        PermissionDecisionCache decisionCache = new PermissionDecisionCache();
+        AuthenticationWebFilter filter =
+                spy(new AuthenticationWebFilter(AccountsMetrics.noop(), false, 0, decisionCache));
+
+        filter.filter(oauthExchange("company_accounts=update"), chain).block();
+        filter.filter(oauthExchange("company_accounts=update"), chain).block();
+
+        verify(filter, times(1)).hasPermission(any(), eq(Key.COMPANY_ACCOUNTS), eq(Value.UPDATE));
+        assertEquals(1, decisionCache.stats().hits());
+    }
+
+    @Test
+    @DisplayName("Test filter checks the permission of the matching rule and denies exchanges no rule matches")
+    void filterAppliesPermissionRules() {
+        InMemoryAccountsMetrics metrics = new InMemoryAccountsMetrics();
+        AuthenticationWebFilter filter = new AuthenticationWebFilter(metrics, false, 0, null,
+                PermissionRules.parse(List.of("POST /transactions/{transactionId} company_transactions=read")));
+
+        MockServerWebExchange exchange = oauthExchange("company_accounts=update");
+        filter.filter(exchange, chain).block();
+
+        assertFalse(chainCalled.get());
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+
+        MockServerWebExchange unmatched = MockServerWebExchange.from(MockServerHttpRequest.get("/transactions/1"));
+        filter.filter(unmatched, chain).block();
+
+        assertFalse(chainCalled.get());
+        assertEquals(HttpStatus.UNAUTHORIZED, unmatched.getResponse().getStatusCode());
+        assertEquals(1, metrics.getTimer(Decision.NO_RULE).getCount());
+    }
+
+    @Test
+    @DisplayName("Test filter matches rules on the decoded path without matrix parameters or empty segments")
+    void filterMatchesRulesOnNormalisedPath() {
+        AuthenticationWebFilter filter = new AuthenticationWebFilter(AccountsMetrics.noop(), false, 0, null,
+                PermissionRules.parse(List.of(
+                        "/transactions/{transactionId}/company-accounts/** company_accounts=update",
+                        "/** company_transactions=read")));
+
+        for (String path : List.of("/transactions/1/company-accounts;x=y", "/transactions/1/company%2Daccounts",
+                "/transactions//1/company-accounts", "/transactions;a=b/1//company-accounts/2")) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(
+                    MockServerHttpRequest.method(HttpMethod.POST, URI.create(path))
+                            .header(EricConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS, "company_transactions=read"));
+
+            filter.filter(exchange, chain).block();
+
+            assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode(), path);
+        }
+        assertFalse(chainCalled.get());
+    }
+
+    private static MockServerWebExchange oauthExchange(String permissions) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/transactions/1")
+                .header(EricConstants.ERIC_IDENTITY_TYPE, "oauth2")
+                .header(EricConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS, permissions));
+    }
+}
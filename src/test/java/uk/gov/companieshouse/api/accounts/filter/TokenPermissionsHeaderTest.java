@@ -0,0 +1,30 @@
+package uk.gov.companieshouse.api.accounts.filter;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TokenPermissionsHeaderTest {
+
+    private static final String HEADER = "company_number=00006400 company_accounts=read,update company_transactions=read";
+
+    @Test
+    void grantsListedValues() {
+        assertTrue(TokenPermissionsHeader.hasPermission(HEADER, "company_accounts", "read"));
+        assertTrue(TokenPermissionsHeader.hasPermission(HEADER, "company_accounts", "update"));
+        assertTrue(TokenPermissionsHeader.hasPermission(HEADER, "company_transactions", "read"));
+        assertTrue(TokenPermissionsHeader.hasPermission(HEADER, "company_number", "00006400"));
+    }
+
+    @Test
+    void doesNotGrantOtherValuesOrPrefixes() {
+        assertFalse(TokenPermissionsHeader.hasPermission(HEADER, "company_accounts", "delete"));
+        assertFalse(TokenPermissionsHeader.hasPermission(HEADER, "company_accounts", "upd"));
+        assertFalse(TokenPermissionsHeader.hasPermission(HEADER, "company_transactions", "update"));
+        assertFalse(TokenPermissionsHeader.hasPermission(HEADER, "company", "read"));
+        assertFalse(TokenPermissionsHeader.hasPermission(HEADER, "accounts", "read"));
+        assertFalse(TokenPermissionsHeader.hasPermission("", "company_accounts", "read"));
+        assertFalse(TokenPermissionsHeader.hasPermission(null, "company_accounts", "read"));
+    }
+}
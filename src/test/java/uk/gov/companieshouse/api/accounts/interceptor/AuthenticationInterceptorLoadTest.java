@@ -0,0 +1,250 @@
+package uk.gov.companieshouse.api.accounts.interceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import uk.gov.companieshouse.accountsdates.metrics.Decision;
+import uk.gov.companieshouse.accountsdates.metrics.InMemoryAccountsMetrics;
+import uk.gov.companieshouse.accountsdates.metrics.LatencyHistogram;
+import uk.gov.companieshouse.accountsdates.metrics.LatencySnapshot;
+import uk.gov.companieshouse.api.util.security.EricConstants;
+import uk.gov.companieshouse.api.util.security.Permission.Key;
+import uk.gov.companieshouse.api.util.security.Permission.Value;
+import uk.gov.companieshouse.api.util.security.SecurityConstants;
+import uk.gov.companieshouse.api.util.security.TokenPermissions;
+
+/**
+ * Drives {@link AuthenticationInterceptor#preHandle} through MockMvc at high concurrency on platform and virtual
+ * thread executors, with debug logging off and on, and prints throughput, request and decision tail latency and any
+ * virtual thread pinning recorded by JFR. Excluded from the normal build; run with {@code make load-test}. The
+ * request count and concurrency can be changed with -Dloadtest.requests and -Dloadtest.concurrency.
+ */
+@Tag("load")
+class AuthenticationInterceptorLoadTest {
+
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 100_000);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 256);
+    private static final int WARM_UP_REQUESTS = Math.max(1, REQUESTS / 10);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String UPDATE_PERMISSIONS = "company_accounts=update";
+    private static final int TOP_PINNED_FRAMES = 5;
+
+    private static final TokenPermissions AUTHORISED = tokenPermissions(true);
+    private static final TokenPermissions UNAUTHORISED = tokenPermissions(false);
+
+    @Test
+    @DisplayName("Load test preHandle on platform threads")
+    void platformThreads() throws Exception {
+        run("platform", false);
+    }
+
+    @Test
+    @DisplayName("Load test preHandle on virtual threads")
+    void virtualThreads() throws Exception {
+        run("virtual", false);
+    }
+
+    @Test
+    @DisplayName("Load test preHandle on platform threads with debug logging")
+    void platformThreadsWithDebugLogging() throws Exception {
+        run("platform", true);
+    }
+
+    @Test
+    @DisplayName("Load test preHandle on virtual threads with debug logging")
+    void virtualThreadsWithDebugLogging() throws Exception {
+        run("virtual", true);
+    }
+
+    private static void run(String threads, boolean debugEnabled) throws Exception {
+        InMemoryAccountsMetrics metrics = new InMemoryAccountsMetrics();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new AccountsController())
+                .addInterceptors(new LoadTestInterceptor(metrics, debugEnabled))
+                .build();
+
+        try (ExecutorService executor = "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(CONCURRENCY)) {
+
+            drive(mockMvc, executor, WARM_UP_REQUESTS, new LatencyHistogram());
+            metrics.reset();
+
+            LongAdder pinned = new LongAdder();
+            Map<String, LongAdder> pinnedFrames = new ConcurrentHashMap<>();
+            LatencyHistogram latencies = new LatencyHistogram();
+            long elapsed;
+
+            try (RecordingStream recording = new RecordingStream()) {
+                recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+                recording.onEvent(PINNED_EVENT, event -> {
+                    pinned.increment();
+                    pinnedFrames.computeIfAbsent(topFrame(event), frame -> new LongAdder()).increment();
+                });
+                recording.startAsync();
+
+                long start = System.nanoTime();
+                drive(mockMvc, executor, REQUESTS, latencies);
+                elapsed = System.nanoTime() - start;
+
+                // flushes outstanding events to the handlers before the counts are read
+                recording.stop();
+            }
+
+            report(threads + (debugEnabled ? " + debug logging" : ""), elapsed, latencies.snapshot(), metrics,
+                    pinned.sum(), pinnedFrames);
+
+            assertEquals(REQUESTS, latencies.snapshot().count());
+            long decisions = 0;
+            for (Decision decision : Decision.values()) {
+                decisions += metrics.getTimer(decision).getCount();
+            }
+            assertEquals(REQUESTS, decisions);
+        }
+    }
+
+    /**
+     * Sends requests with at most {@link #CONCURRENCY} in flight, recording each request's latency. One in ten uses
+     * an api key, one in ten is unauthorised and the rest are authorised
+     */
+    private static void drive(MockMvc mockMvc, ExecutorService executor, int requests, LatencyHistogram latencies)
+            throws InterruptedException {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        CountDownLatch done = new CountDownLatch(requests);
+        LongAdder failures = new LongAdder();
+
+        for (int i = 0; i < requests; i++) {
+            int request = i;
+            inFlight.acquire();
+            executor.execute(() -> {
+                try {
+                    long start = System.nanoTime();
+                    int status = perform(mockMvc, request);
+                    latencies.record(System.nanoTime() - start);
+                    if (status != expectedStatus(request)) {
+                        failures.increment();
+                    }
+                } catch (Exception e) {
+                    failures.increment();
+                } finally {
+                    inFlight.release();
+                    done.countDown();
+                }
+            });
+        }
+
+        if (!done.await(10, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Load test did not finish");
+        }
+        assertEquals(0, failures.sum(), "requests with an unexpected status or error");
+    }
+
+    private static int perform(MockMvc mockMvc, int request) throws Exception {
+        String identityType = request % 10 == 0 ? SecurityConstants.API_KEY_IDENTITY_TYPE : "oauth2";
+        String permissions = request % 10 == 1 ? "company_accounts=read" : UPDATE_PERMISSIONS;
+
+        return mockMvc.perform(post("/transactions/{transactionId}/company-accounts", request)
+                        .header(EricConstants.ERIC_IDENTITY_TYPE, identityType)
+                        .header(EricConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS, permissions))
+                .andReturn().getResponse().getStatus();
+    }
+
+    private static int expectedStatus(int request) {
+        return request % 10 == 1 ? 401 : 200;
+    }
+
+    private static void report(String name, long elapsedNanos, LatencySnapshot requests,
+            InMemoryAccountsMetrics metrics, long pinned, Map<String, LongAdder> pinnedFrames) {
+        double seconds = elapsedNanos / 1e9;
+        StringBuilder report = new StringBuilder(512)
+                .append(String.format("%n=== preHandle load test: %s, %d requests, %d in flight ===%n",
+                        name, REQUESTS, CONCURRENCY))
+                .append(String.format("throughput           %,.0f requests/s%n", REQUESTS / seconds))
+                .append(String.format("request latency us   p50 %.1f  p99 %.1f  p99.9 %.1f  max %.1f%n",
+                        requests.p50() / 1e3, requests.p99() / 1e3, requests.p999() / 1e3, requests.max() / 1e3));
+
+        for (Decision decision : Decision.values()) {
+            LatencySnapshot snapshot = metrics.getTimer(decision).snapshot();
+            report.append(String.format("%-20s count %d  p50 %.2f  p99 %.2f  p99.9 %.2f us%n",
+                    decision.getMetricName(), snapshot.count(), snapshot.p50() / 1e3, snapshot.p99() / 1e3,
+                    snapshot.p999() / 1e3));
+        }
+
+        report.append(String.format("virtual thread pinned events %d%n", pinned));
+        pinnedFrames.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum())
+                        .reversed())
+                .limit(TOP_PINNED_FRAMES)
+                .forEach(entry -> report.append(String.format("  %6d  %s%n", entry.getValue().sum(), entry.getKey())));
+
+        System.out.print(report);
+    }
+
+    private static String topFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return "<no stack trace>";
+        }
+        RecordedFrame frame = event.getStackTrace().getFrames().get(0);
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static TokenPermissions tokenPermissions(boolean hasPermission) {
+        return (TokenPermissions) Proxy.newProxyInstance(TokenPermissions.class.getClassLoader(),
+                new Class<?>[] {TokenPermissions.class},
+                (proxy, method, args) -> "hasPermission".equals(method.getName())
+                        && Key.COMPANY_ACCOUNTS.equals(args[0]) && Value.UPDATE.equals(args[1]) && hasPermission);
+    }
+
+    /**
+     * Supplies token permissions from the permissions header, standing in for TokenPermissionsInterceptor
+     */
+    private static final class LoadTestInterceptor extends AuthenticationInterceptor {
+
+        LoadTestInterceptor(InMemoryAccountsMetrics metrics, boolean debugEnabled) {
+            super(metrics, debugEnabled, DEFAULT_DENIED_SAMPLE_RATE);
+        }
+
+        @Override
+        protected Optional<TokenPermissions> getTokenPermissions(HttpServletRequest request) {
+            String permissions = request.getHeader(EricConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS);
+            return Optional.of(UPDATE_PERMISSIONS.equals(permissions) ? AUTHORISED : UNAUTHORISED);
+        }
+    }
+
+    @RestController
+    static class AccountsController {
+
+        @PostMapping("/transactions/{transactionId}/company-accounts")
+        String createCompanyAccounts(@PathVariable("transactionId") String transactionId) {
+            return transactionId;
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package uk.gov.companieshouse.api.accounts.interceptor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Optional;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,11 +29,15 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.web.servlet.ModelAndView;
+import uk.gov.companieshouse.accountsdates.metrics.AccountsMetrics;
+import uk.gov.companieshouse.accountsdates.metrics.Decision;
+import uk.gov.companieshouse.accountsdates.metrics.InMemoryAccountsMetrics;
 import uk.gov.companieshouse.api.util.security.EricConstants;
 import uk.gov.companieshouse.api.util.security.Permission.Key;
 import uk.gov.companieshouse.api.util.security.Permission.Value;
 import uk.gov.companieshouse.api.util.security.SecurityConstants;
 import uk.gov.companieshouse.api.util.security.TokenPermissions;
+import uk.gov.companieshouse.logging.Logger;
 
 @ExtendWith(MockitoExtension.class)
 class AuthenticationInterceptorTest {
@@ -44,6 +57,9 @@ class AuthenticationInterceptorTest {
     @Mock
     private TokenPermissions tokenPermissions;
 
+    @Mock
+    private Logger logger;
+
     private final Object handler = null;
 
     @Test
@@ -81,6 +97,180 @@ class AuthenticationInterceptorTest {
         assertTrue(interceptor.preHandle(request, response, handler));
     }
 
+    @Test
+    @DisplayName("Test preHandle records each decision")
+    void preHandleRecordsDecisions() throws Exception {
+        InMemoryAccountsMetrics metrics = new InMemoryAccountsMetrics();
+        AuthenticationInterceptor metricsInterceptor = Mockito.spy(new AuthenticationInterceptor(metrics));
+        doReturn(Optional.of(tokenPermissions)).when(metricsInterceptor).getTokenPermissions(request);
+        when(tokenPermissions.hasPermission(Key.COMPANY_ACCOUNTS, Value.UPDATE)).thenReturn(true, false, false);
+
+        metricsInterceptor.preHandle(request, response, handler);
+        metricsInterceptor.preHandle(request, response, handler);
+        metricsInterceptor.preHandle(request, response, handler);
+        doReturn(SecurityConstants.API_KEY_IDENTITY_TYPE).when(request).getHeader(EricConstants.ERIC_IDENTITY_TYPE);
+        metricsInterceptor.preHandle(request, response, handler);
+
+        assertEquals(1, metrics.getTimer(Decision.AUTHORISED).getCount());
+        assertEquals(2, metrics.getTimer(Decision.UNAUTHORISED).getCount());
+        assertEquals(1, metrics.getTimer(Decision.API_KEY_SKIP).getCount());
+    }
+
+    @Test
+    @DisplayName("Test preHandle skips debug logging and samples denied requests when debug is off")
+    void preHandleSamplesDeniedRequests() throws Exception {
+        AuthenticationInterceptor sampledInterceptor =
+                Mockito.spy(new AuthenticationInterceptor(AccountsMetrics.noop(), logger, false, 3, null, null));
+        doReturn(Optional.of(tokenPermissions)).when(sampledInterceptor).getTokenPermissions(request);
+        when(tokenPermissions.hasPermission(Key.COMPANY_ACCOUNTS, Value.UPDATE)).thenReturn(false);
+
+        for (int i = 0; i < 7; i++) {
+            assertFalse(sampledInterceptor.preHandle(request, response, handler));
+        }
+
+        verify(logger, never()).debugRequest(any(), anyString(), anyMap());
+        verify(logger, times(3)).infoRequest(eq(request), anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("Test preHandle logs every decision when debug is on")
+    void preHandleLogsDecisionsWhenDebugEnabled() throws Exception {
+        AuthenticationInterceptor debugInterceptor =
+                Mockito.spy(new AuthenticationInterceptor(AccountsMetrics.noop(), logger, true, 0, null, null));
+        doReturn(Optional.of(tokenPermissions)).when(debugInterceptor).getTokenPermissions(request);
+        when(tokenPermissions.hasPermission(Key.COMPANY_ACCOUNTS, Value.UPDATE)).thenReturn(true, false);
+
+        assertTrue(debugInterceptor.preHandle(request, response, handler));
+        assertFalse(debugInterceptor.preHandle(request, response, handler));
+
+        verify(logger, times(2)).debugRequest(eq(request), anyString(), anyMap());
+        verify(logger, never()).infoRequest(any(), anyString(), anyMap());
+        // the rule is looked up once per request and reused for logging
+        verify(debugInterceptor, times(2)).findRule(request);
+    }
+
+    @Test
+    @DisplayName("Test preHandle reuses cached decisions for the same permissions header")
+    void preHandleUsesDecisionCache() throws Exception {
+        PermissionDecisionCache decisionCache = new PermissionDecisionCache();
+        AuthenticationInterceptor cachingInterceptor =
+                Mockito.spy(new AuthenticationInterceptor(AccountsMetrics.noop(), false, 0, decisionCache));
+        doReturn(Optional.of(tokenPermissions)).when(cachingInterceptor).getTokenPermissions(request);
+        // lenient as the identity type header is also read from the same request
+        Mockito.lenient().when(request.getHeader(EricConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS))
+                .thenReturn("company_accounts=update");
+        when(tokenPermissions.hasPermission(Key.COMPANY_ACCOUNTS, Value.UPDATE)).thenReturn(true);
+
+        assertTrue(cachingInterceptor.preHandle(request, response, handler));
+        assertTrue(cachingInterceptor.preHandle(request, response, handler));
+        assertTrue(cachingInterceptor.preHandle(request, response, handler));
+
+        verify(tokenPermissions, times(1)).hasPermission(Key.COMPANY_ACCOUNTS, Value.UPDATE);
+        // cache hits only check the TokenPermissions are present
+        verify(cachingInterceptor, times(4)).getTokenPermissions(request);
+        assertEquals(2, decisionCache.stats().hits());
+        assertEquals(1, decisionCache.stats().misses());
+    }
+
+    @Test
+    @DisplayName("Test preHandle does not use a cached decision when TokenPermissions is not present in request")
+    void preHandleMissingTokenPermissionsWithCachedDecision() throws Exception {
+        PermissionDecisionCache decisionCache = new PermissionDecisionCache();
+        AuthenticationInterceptor cachingInterceptor =
+                Mockito.spy(new AuthenticationInterceptor(AccountsMetrics.noop(), false, 0, decisionCache));
+        doReturn(Optional.of(tokenPermissions), Optional.of(tokenPermissions), Optional.empty())
+                .when(cachingInterceptor).getTokenPermissions(request);
+        Mockito.lenient().when(request.getHeader(EricConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS))
+                .thenReturn("company_accounts=update");
+        when(tokenPermissions.hasPermission(Key.COMPANY_ACCOUNTS, Value.UPDATE)).thenReturn(true);
+
+        assertTrue(cachingInterceptor.preHandle(request, response, handler));
+        assertThrows(IllegalStateException.class, () -> cachingInterceptor.preHandle(request, response, handler));
+
+        assertEquals(0, decisionCache.stats().hits());
+    }
+
+    @Test
+    @DisplayName("Test preHandle checks permissions every time when there is no permissions header")
+    void preHandleSkipsDecisionCacheWithoutHeader() throws Exception {
+        PermissionDecisionCache decisionCache = new PermissionDecisionCache();
+        AuthenticationInterceptor cachingInterceptor =
+                Mockito.spy(new AuthenticationInterceptor(AccountsMetrics.noop(), false, 0, decisionCache));
+        doReturn(Optional.of(tokenPermissions)).when(cachingInterceptor).getTokenPermissions(request);
+        when(tokenPermissions.hasPermission(Key.COMPANY_ACCOUNTS, Value.UPDATE)).thenReturn(false);
+
+        assertFalse(cachingInterceptor.preHandle(request, response, handler));
+        assertFalse(cachingInterceptor.preHandle(request, response, handler));
+
+        verify(tokenPermissions, times(2)).hasPermission(Key.COMPANY_ACCOUNTS, Value.UPDATE);
+        assertEquals(0, decisionCache.stats().size());
+    }
+
+    @Test
+    @DisplayName("Test preHandle checks the permission of the matching rule and denies requests no rule matches")
+    void preHandleAppliesPermissionRules() throws Exception {
+        InMemoryAccountsMetrics metrics = new InMemoryAccountsMetrics();
+        PermissionDecisionCache decisionCache = new PermissionDecisionCache();
+        PermissionRules rules = PermissionRules.parse(List.of(
+                "GET /transactions/{transactionId}/company-accounts/** company_accounts=read",
+                "/transactions/{transactionId}/company-accounts/** company_accounts=update"));
+        AuthenticationInterceptor rulesInterceptor = Mockito.spy(
+                new AuthenticationInterceptor(metrics, logger, false, 0, decisionCache, rules));
+        doReturn(Optional.of(tokenPermissions)).when(rulesInterceptor).getTokenPermissions(request);
+        Mockito.lenient().when(request.getHeader(EricConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS))
+                .thenReturn("company_accounts=read");
+        when(request.getContextPath()).thenReturn("/api");
+        when(request.getRequestURI()).thenReturn("/api/transactions/1/company-accounts/2");
+        when(request.getMethod()).thenReturn("GET", "PUT");
+        when(tokenPermissions.hasPermission(Key.COMPANY_ACCOUNTS, Value.READ)).thenReturn(true);
+        when(tokenPermissions.hasPermission(Key.COMPANY_ACCOUNTS, Value.UPDATE)).thenReturn(false);
+
+        assertTrue(rulesInterceptor.preHandle(request, response, handler));
+        assertFalse(rulesInterceptor.preHandle(request, response, handler));
+
+        when(request.getRequestURI()).thenReturn("/api/company/12345678");
+        assertFalse(rulesInterceptor.preHandle(request, response, handler));
+
+        verify(tokenPermissions).hasPermission(Key.COMPANY_ACCOUNTS, Value.READ);
+        verify(tokenPermissions).hasPermission(Key.COMPANY_ACCOUNTS, Value.UPDATE);
+        // the same header is cached separately for each permission
+        assertEquals(2, decisionCache.stats().size());
+        assertEquals(1, metrics.getTimer(Decision.AUTHORISED).getCount());
+        assertEquals(1, metrics.getTimer(Decision.UNAUTHORISED).getCount());
+        assertEquals(1, metrics.getTimer(Decision.NO_RULE).getCount());
+    }
+
+    @Test
+    @DisplayName("Test preHandle matches rules on the decoded path without matrix parameters or empty segments")
+    void preHandleMatchesRulesOnNormalisedPath() throws Exception {
+        PermissionRules rules = PermissionRules.parse(List.of(
+                "/transactions/{transactionId}/company-accounts/** company_accounts=update",
+                "/** company_transactions=read"));
+        AuthenticationInterceptor rulesInterceptor = Mockito.spy(
+                new AuthenticationInterceptor(AccountsMetrics.noop(), logger, false, 0, null, rules));
+        doReturn(Optional.of(tokenPermissions)).when(rulesInterceptor).getTokenPermissions(request);
+        when(request.getContextPath()).thenReturn("");
+        when(tokenPermissions.hasPermission(Key.COMPANY_ACCOUNTS, Value.UPDATE)).thenReturn(false);
+
+        for (String uri : List.of("/transactions/1/company-accounts;x=y", "/transactions/1/company%2Daccounts",
+                "/transactions//1/company-accounts", "/transactions;a=b/1//company-accounts/2")) {
+            when(request.getRequestURI()).thenReturn(uri);
+            assertFalse(rulesInterceptor.preHandle(request, response, handler), uri);
+        }
+
+        verify(tokenPermissions, times(4)).hasPermission(Key.COMPANY_ACCOUNTS, Value.UPDATE);
+        verify(tokenPermissions, never()).hasPermission(Key.COMPANY_TRANSACTIONS, Value.READ);
+    }
+
+    @Test
+    @DisplayName("Test debug log levels")
+    void debugLogLevels() {
+        assertTrue(CompanyAccountsAuthorisation.isDebugLogLevel("DEBUG"));
+        assertTrue(CompanyAccountsAuthorisation.isDebugLogLevel("trace"));
+        assertFalse(CompanyAccountsAuthorisation.isDebugLogLevel("info"));
+        assertFalse(CompanyAccountsAuthorisation.isDebugLogLevel(null));
+    }
+
     private void setupTokenPermissions() {
         doReturn(Optional.of(tokenPermissions)).when(interceptor).getTokenPermissions(request);
     }
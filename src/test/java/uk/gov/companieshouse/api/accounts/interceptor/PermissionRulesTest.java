@@ -0,0 +1,126 @@
+package uk.gov.companieshouse.api.accounts.interceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.PathContainer;
+
+class PermissionRulesTest {
+
+    private final PermissionRules rules = PermissionRules.parse(List.of(
+            "/transactions/** company_transactions=read",
+            "POST /transactions/{transactionId}/company-accounts company_accounts=create",
+            "/transactions/{transactionId}/company-accounts/** company_accounts=update",
+            "GET /transactions/{transactionId}/company-accounts/** company_accounts=read",
+            "DELETE /transactions/*/company-accounts/{companyAccountsId} company_accounts=delete",
+            "/transactions/{transactionId}/company-accounts/{companyAccountsId}/file company_accounts=file",
+            "/ company_accounts=read"));
+
+    @Test
+    void mostSpecificPatternWins() {
+        assertPermission("company_accounts=create", "POST", "/transactions/1/company-accounts");
+        assertPermission("company_accounts=update", "PUT", "/transactions/1/company-accounts/2/small-full");
+        assertPermission("company_accounts=file", "PUT", "/transactions/1/company-accounts/2/file");
+        assertPermission("company_transactions=read", "GET", "/transactions/1");
+    }
+
+    @Test
+    void specificMethodBeatsAnyMethod() {
+        assertPermission("company_accounts=read", "GET", "/transactions/1/company-accounts/2/small-full");
+        assertPermission("company_accounts=delete", "DELETE", "/transactions/1/company-accounts/2");
+        assertPermission("company_accounts=update", "PATCH", "/transactions/1/company-accounts/2");
+        // the literal file pattern has a rule for any method, so beats the GET rule for '**'
+        assertPermission("company_accounts=file", "GET", "/transactions/1/company-accounts/2/file");
+    }
+
+    @Test
+    void fallsBackWhenMethodHasNoRule() {
+        // no GET rule for the exact pattern, so the less specific '**' rules apply
+        assertPermission("company_accounts=read", "GET", "/transactions/1/company-accounts");
+    }
+
+    @Test
+    void anySegmentsMatchesNoSegments() {
+        assertPermission("company_transactions=read", "GET", "/transactions");
+        assertPermission("company_accounts=update", "PUT", "/transactions/1/company-accounts/");
+    }
+
+    @Test
+    void rootPath() {
+        assertPermission("company_accounts=read", "GET", "/");
+    }
+
+    @Test
+    void noMatchingRule() {
+        assertNull(rules.find("GET", "/company/12345678"));
+        assertNull(rules.find("GET", ""));
+        assertNull(rules.find("GET", (String) null));
+        assertNull(rules.find("GET", "transactions/1"));
+    }
+
+    @Test
+    void emptySegmentsAreIgnored() {
+        assertPermission("company_accounts=create", "POST", "/transactions//1/company-accounts/");
+        assertPermission("company_accounts=update", "PUT", "/transactions//1//company-accounts//2");
+    }
+
+    @Test
+    void pathContainerIsMatchedOnDecodedSegmentsWithoutParameters() {
+        assertEquals("company_accounts=create", rules.find("POST",
+                PathContainer.parsePath("/transactions;a=b/1/company%2Daccounts;x=y")).permission());
+        assertEquals("company_accounts=file", rules.find("PUT",
+                PathContainer.parsePath("//transactions/1//company-accounts/2/fil%65")).permission());
+        assertEquals("company_accounts=read", rules.find("GET", PathContainer.parsePath("/")).permission());
+        assertNull(rules.find("GET", PathContainer.parsePath("/company%2F12345678")));
+    }
+
+    @Test
+    void defaultRuleMatchesEverything() {
+        PermissionRules defaults = new PermissionRules(List.of(PermissionRule.COMPANY_ACCOUNTS_UPDATE));
+
+        assertEquals(PermissionRule.COMPANY_ACCOUNTS_UPDATE, defaults.find("GET", "/"));
+        assertEquals(PermissionRule.COMPANY_ACCOUNTS_UPDATE, defaults.find(null, "/a/b/c"));
+    }
+
+    @Test
+    void clashingRules() {
+        assertThrows(IllegalArgumentException.class, () -> PermissionRules.parse(List.of(
+                "GET /transactions/{transactionId} company_transactions=read",
+                "get /transactions/{id} company_transactions=update")));
+        assertThrows(IllegalArgumentException.class, () -> PermissionRules.parse(List.of(
+                "/transactions/** company_transactions=read",
+                "* /transactions/** company_transactions=update")));
+    }
+
+    @Test
+    void invalidRules() {
+        assertThrows(IllegalArgumentException.class, () -> PermissionRule.parse("/transactions"));
+        assertThrows(IllegalArgumentException.class, () -> PermissionRule.parse("GET /transactions read"));
+        assertThrows(IllegalArgumentException.class, () -> PermissionRule.parse("GET transactions a=b"));
+        assertThrows(IllegalArgumentException.class, () -> PermissionRule.parse("GET /a a= b c"));
+        assertThrows(IllegalArgumentException.class, () -> PermissionRules.parse(List.of("/a/**/b a=b")));
+    }
+
+    @Test
+    void parseRule() {
+        PermissionRule rule = PermissionRule.parse("  post /transactions/{id}   company_accounts=create ");
+
+        assertEquals("POST", rule.method());
+        assertEquals("/transactions/{id}", rule.pathPattern());
+        assertEquals("company_accounts", rule.permissionKey());
+        assertEquals("create", rule.permissionValue());
+        assertEquals("POST /transactions/{id} company_accounts=create", rule.toString());
+        assertTrue(PermissionRule.parse("* /a a=b").isAnyMethod());
+        assertEquals(7, rules.getRules().size());
+    }
+
+    private void assertPermission(String permission, String method, String path) {
+        PermissionRule rule = rules.find(method, path);
+        assertEquals(permission, rule == null ? null : rule.permission(), method + " " + path);
+    }
+}
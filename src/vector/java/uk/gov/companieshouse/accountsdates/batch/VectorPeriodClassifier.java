@@ -0,0 +1,142 @@
+package uk.gov.companieshouse.accountsdates.batch;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import uk.gov.companieshouse.accountsdates.AccountingPeriod;
+
+/**
+ * {@link ColumnarPeriodClassifier} using the incubating Vector API. Only loaded through
+ * {@link ColumnarPeriodClassifier#vector()} once the jdk.incubator.vector module is known to be present.
+ * <p>
+ * The Vector API has no fast lane-wise integer division, so rather than vectorizing the epoch day to date
+ * calculation the calendar fields of every day from {@link #TABLE_FIRST_DATE} to {@link #TABLE_LAST_DATE} are
+ * precomputed into an int table and gathered a vector at a time. From those fields the month count, the days part
+ * of {@link java.time.Period#between} and the rounding are all adds, compares and blends. Vectors with any date
+ * outside the table, and the rows left over after the last whole vector, are classified by the scalar
+ * implementation.
+ */
+enum VectorPeriodClassifier implements ColumnarPeriodClassifier {
+
+    INSTANCE;
+
+    static final LocalDate TABLE_FIRST_DATE = LocalDate.of(1800, 1, 1);
+    static final LocalDate TABLE_LAST_DATE = LocalDate.of(2199, 12, 31);
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private static final int TABLE_FIRST = (int) TABLE_FIRST_DATE.toEpochDay();
+    private static final int TABLE_LAST = (int) TABLE_LAST_DATE.toEpochDay();
+
+    // table entry layout, low bits first: day of month (5), length of month - 28 (2),
+    // length of previous month - 28 (2), month - 1 (4), year - first table year (9)
+    private static final int DAY_MASK = 0x1F;
+    private static final int LENGTH_OF_MONTH_SHIFT = 5;
+    private static final int LENGTH_OF_PREVIOUS_MONTH_SHIFT = 7;
+    private static final int LENGTH_OF_MONTH_MASK = 0x3;
+    private static final int MONTH_SHIFT = 9;
+    private static final int MONTH_MASK = 0xF;
+    private static final int YEAR_SHIFT = 13;
+    private static final int SHORTEST_MONTH = 28;
+
+    private static final int[] CALENDAR_FIELDS = calendarFields();
+
+    @Override
+    public void classify(int[] startEpochDays, int[] endEpochDays, int from, int to, byte[] kinds, int[] months,
+            boolean[] sameYear) {
+        ColumnarPeriodClassifiers.checkRows(startEpochDays, endEpochDays, from, to, kinds, months, sameYear);
+
+        for (int i = from; i < to; i++) {
+            long length = (long) endEpochDays[i] - startEpochDays[i] + 1;
+            kinds[i] = length >= AccountingPeriod.YEAR_MIN_DAYS && length <= AccountingPeriod.YEAR_MAX_DAYS
+                    ? KIND_YEAR : KIND_MONTHS;
+        }
+
+        int lanes = SPECIES.length();
+        int upperBound = from + SPECIES.loopBound(to - from);
+        int i = from;
+        for (; i < upperBound; i += lanes) {
+            IntVector start = IntVector.fromArray(SPECIES, startEpochDays, i);
+            IntVector end = IntVector.fromArray(SPECIES, endEpochDays, i);
+            if (outsideTable(start).or(outsideTable(end)).anyTrue()) {
+                ScalarPeriodClassifier.INSTANCE.classify(startEpochDays, endEpochDays, i, i + lanes, kinds, months,
+                        sameYear);
+                continue;
+            }
+            classifyVector(start, end, startEpochDays, endEpochDays, i, months, sameYear);
+        }
+        if (i < to) {
+            ScalarPeriodClassifier.INSTANCE.classify(startEpochDays, endEpochDays, i, to, kinds, months, sameYear);
+        }
+    }
+
+    private static void classifyVector(IntVector start, IntVector end, int[] startEpochDays, int[] endEpochDays,
+            int i, int[] months, boolean[] sameYear) {
+        IntVector startFields = IntVector.fromArray(SPECIES, CALENDAR_FIELDS, -TABLE_FIRST, startEpochDays, i);
+        IntVector endFields = IntVector.fromArray(SPECIES, CALENDAR_FIELDS, -TABLE_FIRST, endEpochDays, i);
+
+        IntVector startDay = startFields.and(DAY_MASK);
+        IntVector endDay = endFields.and(DAY_MASK);
+        IntVector startYear = startFields.lanewise(VectorOperators.LSHR, YEAR_SHIFT);
+        IntVector endYear = endFields.lanewise(VectorOperators.LSHR, YEAR_SHIFT);
+        IntVector startProlepticMonth = startYear.mul(12)
+                .add(startFields.lanewise(VectorOperators.LSHR, MONTH_SHIFT).and(MONTH_MASK));
+        IntVector endProlepticMonth = endYear.mul(12)
+                .add(endFields.lanewise(VectorOperators.LSHR, MONTH_SHIFT).and(MONTH_MASK));
+
+        IntVector totalMonths = endProlepticMonth.sub(startProlepticMonth);
+        IntVector dayDifference = endDay.sub(startDay);
+        VectorMask<Integer> backOneMonth = totalMonths.compare(VectorOperators.GT, 0)
+                .and(dayDifference.compare(VectorOperators.LT, 0));
+        VectorMask<Integer> forwardOneMonth = totalMonths.compare(VectorOperators.LT, 0)
+                .and(dayDifference.compare(VectorOperators.GT, 0));
+
+        // ChronoUnit.MONTHS.between
+        IntVector monthsBetween = totalMonths.sub(1, backOneMonth).add(1, forwardOneMonth);
+
+        // the days part of Period.between: going back a month counts from the start day, clamped to the length of
+        // the month before the end, to the end; going forward a month subtracts the length of the end month
+        IntVector lengthOfEndMonth = endFields.lanewise(VectorOperators.LSHR, LENGTH_OF_MONTH_SHIFT)
+                .and(LENGTH_OF_MONTH_MASK).add(SHORTEST_MONTH);
+        IntVector lengthOfMonthBeforeEnd = endFields.lanewise(VectorOperators.LSHR, LENGTH_OF_PREVIOUS_MONTH_SHIFT)
+                .and(LENGTH_OF_MONTH_MASK).add(SHORTEST_MONTH);
+        IntVector days = dayDifference
+                .blend(endDay.add(lengthOfMonthBeforeEnd.sub(startDay).max(0)), backOneMonth)
+                .blend(dayDifference.sub(lengthOfEndMonth), forwardOneMonth);
+
+        IntVector roundedMonths = monthsBetween.add(1,
+                days.compare(VectorOperators.GE, AccountingPeriod.MONTH_ROUND_UP_DAYS));
+        roundedMonths = roundedMonths.blend(1, roundedMonths.compare(VectorOperators.EQ, 0));
+
+        IntVector length = end.sub(start).add(1);
+        VectorMask<Integer> year = length.compare(VectorOperators.GE, AccountingPeriod.YEAR_MIN_DAYS)
+                .and(length.compare(VectorOperators.LE, AccountingPeriod.YEAR_MAX_DAYS));
+
+        roundedMonths.blend(0, year).intoArray(months, i);
+        startYear.compare(VectorOperators.EQ, endYear).intoArray(sameYear, i);
+    }
+
+    private static VectorMask<Integer> outsideTable(IntVector epochDays) {
+        return epochDays.compare(VectorOperators.LT, TABLE_FIRST)
+                .or(epochDays.compare(VectorOperators.GT, TABLE_LAST));
+    }
+
+    private static int[] calendarFields() {
+        int[] fields = new int[TABLE_LAST - TABLE_FIRST + 1];
+        for (int epochDay = TABLE_FIRST; epochDay <= TABLE_LAST; epochDay++) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            YearMonth month = YearMonth.from(date);
+            fields[epochDay - TABLE_FIRST] = date.getDayOfMonth()
+                    | (month.lengthOfMonth() - SHORTEST_MONTH) << LENGTH_OF_MONTH_SHIFT
+                    | (month.minusMonths(1).lengthOfMonth() - SHORTEST_MONTH) << LENGTH_OF_PREVIOUS_MONTH_SHIFT
+                    | (date.getMonthValue() - 1) << MONTH_SHIFT
+                    | (date.getYear() - TABLE_FIRST_DATE.getYear()) << YEAR_SHIFT;
+        }
+        return fields;
+    }
+}